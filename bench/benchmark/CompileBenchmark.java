@@ -0,0 +1,62 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import joosc.Joosc;
+
+/**
+ * Joosc.compileSTL end to end, output/ included, for each program of the
+ * corpus in turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompileBenchmark {
+
+    @Param({ "a5", "synthetic-500" })
+    public String corpus;
+
+    /** -Djoosc.snapshot, whether compileSTL links against the standard library snapshot */
+    @Param({ "true", "false" })
+    public String snapshot;
+
+    private String[][] programs;
+    private int next = 0;
+
+    @Setup
+    public void setup() throws Exception {
+        System.setProperty("joosc.snapshot", snapshot);
+        // compileSTL adds the library and ObjInterface itself
+        List<List<String>> files = Corpus.userPrograms(corpus);
+        programs = new String[files.size()][];
+        for (int i = 0; i < programs.length; i++) {
+            programs[i] = files.get(i).toArray(new String[0]);
+        }
+    }
+
+    @Benchmark
+    public int compileSTL() {
+        int result = Joosc.compileSTL(programs[next]);
+        next = (next + 1) % programs.length;
+        if (result != 0) {
+            throw new IllegalStateException("compileSTL returned " + result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark inputs, each a whole program ordered the way compileSTL orders
+ * it: the standard library, the program's own files, then ObjInterface.
+ *
+ * "a5" is every a5 test case that is expected to compile, "synthetic-N" a
+ * program of N classes from SyntheticProgram. Files are read into memory
+ * once and listed in sorted order, so results are comparable across commits.
+ * Paths are relative to the repository root, run the benchmarks from there.
+ */
+public class Corpus {
+
+    public static class Source {
+        public final String path;
+        public final String text;
+
+        Source(String path, String text) {
+            this.path = path;
+            this.text = text;
+        }
+
+        /**
+         * the file name without .java, which the weeder checks the type name against.
+         */
+        public String typeName() {
+            String name = new File(path).getName();
+            return name.substring(0, name.lastIndexOf('.'));
+        }
+    }
+
+    /**
+     * the program's own source files, without the library, for each program
+     * in the corpus.
+     */
+    public static List<List<String>> userPrograms(String corpus) throws IOException {
+        List<List<String>> programs = new ArrayList<List<String>>();
+        if (corpus.equals("a5")) {
+            File[] cases = new File("assignment_testcases/a5").listFiles();
+            Arrays.sort(cases);
+            for (File testCase : cases) {
+                // Je_ cases are supposed to be rejected
+                if (!testCase.getName().startsWith("Je")) {
+                    List<String> files = new ArrayList<String>();
+                    collect(testCase, files);
+                    programs.add(files);
+                }
+            }
+        } else if (corpus.startsWith("synthetic-")) {
+            int classes = Integer.parseInt(corpus.substring("synthetic-".length()));
+            File dir = new File(System.getProperty("java.io.tmpdir"), "joosc-bench/" + corpus);
+            programs.add(SyntheticProgram.write(dir, classes));
+        } else {
+            throw new IllegalArgumentException("unknown corpus " + corpus);
+        }
+        return programs;
+    }
+
+    /**
+     * all source files of each program in the corpus.
+     */
+    public static List<List<String>> programs(String corpus) throws IOException {
+        List<List<String>> programs = new ArrayList<List<String>>();
+        for (List<String> userFiles : userPrograms(corpus)) {
+            programs.add(program(userFiles));
+        }
+        return programs;
+    }
+
+    /**
+     * the files of each program in the corpus, read into memory.
+     */
+    public static List<List<Source>> load(String corpus) throws IOException {
+        List<List<Source>> programs = new ArrayList<List<Source>>();
+        for (List<String> files : programs(corpus)) {
+            List<Source> program = new ArrayList<Source>();
+            for (String file : files) {
+                program.add(new Source(file, new String(Files.readAllBytes(new File(file).toPath()), "US-ASCII")));
+            }
+            programs.add(program);
+        }
+        return programs;
+    }
+
+    private static List<String> program(List<String> userFiles) {
+        List<String> files = new ArrayList<String>();
+        collect(new File("java"), files);
+        files.addAll(userFiles);
+        files.add("data/ObjInterface.java");
+        return files;
+    }
+
+    private static void collect(File f, List<String> files) {
+        if (f.isDirectory()) {
+            File[] children = f.listFiles();
+            Arrays.sort(children);
+            for (File child : children) {
+                collect(child, files);
+            }
+        } else if (f.getName().endsWith(".java")) {
+            files.add(f.getPath());
+        }
+    }
+}
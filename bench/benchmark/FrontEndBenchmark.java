@@ -0,0 +1,93 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import parser.ParseTable;
+import parser.ParseTree;
+import parser.Parser;
+import scanner.ByteScanner;
+import scanner.Scanner;
+import scanner.Token;
+import ast.AST;
+import benchmark.Corpus.Source;
+
+/**
+ * Scanner.scan, ByteScanner, Parser.parse and AST construction over every
+ * file of the corpus. Each phase gets the output of the previous one from setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrontEndBenchmark {
+
+    @Param({ "a5", "synthetic-500" })
+    public String corpus;
+
+    private ParseTable grammar;
+    private List<Source> sources = new ArrayList<Source>();
+    private List<byte[]> bytes = new ArrayList<byte[]>();
+    private List<List<Token>> tokens = new ArrayList<List<Token>>();
+    private List<ParseTree> parseTrees = new ArrayList<ParseTree>();
+
+    @Setup
+    public void setup() throws Exception {
+        grammar = Pipeline.grammar();
+        for (List<Source> program : Corpus.load(corpus)) {
+            sources.addAll(program);
+        }
+        for (Source source : sources) {
+            bytes.add(source.text.getBytes(StandardCharsets.ISO_8859_1));
+            tokens.add(new Scanner(new StringReader(source.text)).scan());
+            parseTrees.add(Pipeline.parse(source, grammar));
+        }
+    }
+
+    @Benchmark
+    public void scan(Blackhole bh) throws Exception {
+        for (Source source : sources) {
+            bh.consume(new Scanner(new StringReader(source.text)).scan());
+        }
+    }
+
+    @Benchmark
+    public void scanBuffer(Blackhole bh) throws Exception {
+        for (byte[] file : bytes) {
+            bh.consume(new ByteScanner(ByteBuffer.wrap(file)).scanAll());
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) throws Exception {
+        for (List<Token> fileTokens : tokens) {
+            bh.consume(new Parser(fileTokens, grammar).parse());
+        }
+    }
+
+    @Benchmark
+    public void buildAST(Blackhole bh) throws Exception {
+        for (ParseTree tree : parseTrees) {
+            bh.consume(new AST(tree));
+        }
+    }
+}
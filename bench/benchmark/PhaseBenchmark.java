@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.ParseTable;
+import ast.AST;
+import utility.CompilationContext;
+import benchmark.Corpus.Source;
+import benchmark.Pipeline.Stage;
+
+/**
+ * One phase of one program per invocation. The phases keep their tables in
+ * the CompilationContext of the thread and annotate the trees in place, so
+ * setup binds a fresh context, builds fresh trees for the next program of the
+ * corpus and runs everything before the phase.
+ * Scores are the average over the corpus, cycling through its programs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseBenchmark {
+
+    @Param({ "a5", "synthetic-500" })
+    public String corpus;
+
+    @Param({ "ENVIRONMENTS", "TYPE_CHECKING", "OFFSETS", "HIERARCHY_TABLE", "CODE_GENERATION" })
+    public Stage stage;
+
+    private ParseTable grammar;
+    private List<List<Source>> programs;
+    private int next = 0;
+    private List<AST> trees;
+
+    @Setup(Level.Trial)
+    public void load() throws Exception {
+        grammar = Pipeline.grammar();
+        programs = Corpus.load(corpus);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() throws Exception {
+        CompilationContext.bind(new CompilationContext());
+        trees = Pipeline.frontEnd(programs.get(next), grammar);
+        next = (next + 1) % programs.size();
+        Pipeline.runBefore(trees, stage);
+    }
+
+    /**
+     * SymbolTable.buildEnvs and Hierarchy for ENVIRONMENTS, the phase itself
+     * otherwise.
+     */
+    @Benchmark
+    public List<AST> phase() throws Exception {
+        Pipeline.run(trees, stage);
+        if (stage == Stage.ENVIRONMENTS) {
+            Pipeline.run(trees, Stage.HIERARCHY);
+        }
+        return trees;
+    }
+}
@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import parser.ParseTable;
+import parser.ParseTree;
+import parser.Parser;
+import scanner.Scanner;
+import weeder.Weeder;
+import ast.AST;
+import code_generation.CodeGenerator;
+import code_generation.HierarchyTableBuilder;
+import code_generation.OffSet;
+import code_generation.UglyTableBuilder;
+import environment.Disambiguation;
+import environment.Hierarchy;
+import environment.SymbolTable;
+import environment.TypeCheckingVisitor;
+import joosc.Joosc;
+import benchmark.Corpus.Source;
+
+/**
+ * The compiler phases in the order Joosc runs them, so a benchmark can run
+ * everything before the phase it measures.
+ */
+public class Pipeline {
+
+    public enum Stage {
+        ENVIRONMENTS, HIERARCHY, DISAMBIGUATION, TYPE_CHECKING, LOCAL_PASSES, OFFSETS, UGLY_TABLE, HIERARCHY_TABLE, CODE_GENERATION
+    }
+
+    public static ParseTable grammar() throws Exception {
+        File binary = new File("data/grammar.bin");
+        return ParseTable.load(binary.exists() ? binary : new File("data/grammar.lr1"));
+    }
+
+    public static ParseTree parse(Source source, ParseTable grammar) throws Exception {
+        Parser parser = new Parser(new Scanner(new StringReader(source.text)), grammar);
+        ParseTree tree = parser.parse();
+        new Weeder(tree, source.typeName()).weed();
+        return tree;
+    }
+
+    public static List<AST> frontEnd(List<Source> program, ParseTable grammar) throws Exception {
+        List<AST> trees = new ArrayList<AST>();
+        for (Source source : program) {
+            trees.add(new AST(parse(source, grammar)));
+        }
+        return trees;
+    }
+
+    /**
+     * run the phases before stage.
+     */
+    public static void runBefore(List<AST> trees, Stage stage) throws Exception {
+        for (Stage s : Stage.values()) {
+            if (s == stage) {
+                return;
+            }
+            run(trees, s);
+        }
+    }
+
+    public static void run(List<AST> trees, Stage stage) throws Exception {
+        switch (stage) {
+        case ENVIRONMENTS:
+            SymbolTable.buildEnvs(trees);
+            break;
+        case HIERARCHY:
+            new Hierarchy(trees);
+            break;
+        case DISAMBIGUATION:
+            Disambiguation.disambiguate(trees);
+            SymbolTable.freeze(trees);
+            break;
+        case TYPE_CHECKING:
+            TypeCheckingVisitor.typeCheck(trees);
+            break;
+        case LOCAL_PASSES:
+            // reachability, variable analysis and local offsets, fused
+            Joosc.checkPasses().runStep(trees, "reachability");
+            break;
+        case OFFSETS:
+            OffSet.computeOffSet(trees);
+            break;
+        case UGLY_TABLE:
+            UglyTableBuilder.build();
+            break;
+        case HIERARCHY_TABLE:
+            HierarchyTableBuilder.build(trees);
+            break;
+        case CODE_GENERATION:
+            CodeGenerator.generate(trees);
+            break;
+        }
+    }
+}
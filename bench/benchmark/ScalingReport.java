@@ -0,0 +1,130 @@
+package benchmark;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import joosc.Joosc;
+
+/**
+ * Compiles synthetic programs of growing size with compileSTL and writes one
+ * CSV row per size: the program's size, the wall time (best of a few runs),
+ * the peak heap and the time of each phase from the metrics report.
+ * bench/scaling.gnuplot plots it.
+ *
+ * java benchmark.ScalingReport CSV [SIZES [RUNS]]
+ *
+ * SIZES is a comma separated list of class counts, default
+ * 100,250,500,1000,2000. Run it from the repository root.
+ */
+public class ScalingReport {
+    private static final Pattern TOTAL = Pattern
+            .compile("\\{\"phase\": \"([^\"]*)\", \"runs\": \\d+, \"wallNanos\": (\\d+), \"allocatedBytes\": (\\d+)\\}");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: java benchmark.ScalingReport <csv> [sizes [runs]]");
+            System.exit(1);
+        }
+        String sizes = args.length > 1 ? args[1] : "100,250,500,1000,2000";
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        File metrics = File.createTempFile("joosc-metrics", ".json");
+        metrics.deleteOnExit();
+        System.setProperty("joosc.metrics", metrics.getPath());
+
+        List<String> phases = null;
+        PrintWriter csv = new PrintWriter(args[0]);
+        for (String size : sizes.split(",")) {
+            SyntheticProgram.Shape shape = SyntheticProgram.Shape.of(Integer.parseInt(size.trim()));
+            File dir = new File(System.getProperty("java.io.tmpdir"), "joosc-scaling/" + shape.classes);
+            String[] files = SyntheticProgram.write(dir, shape).toArray(new String[0]);
+            long lines = 0;
+            for (String file : files) {
+                lines += Files.readAllLines(new File(file).toPath()).size();
+            }
+
+            long best = Long.MAX_VALUE;
+            long peak = 0;
+            Map<String, long[]> phaseTimes = null;
+            for (int run = 0; run < runs; run++) {
+                System.gc();
+                resetPeaks();
+                long start = System.nanoTime();
+                int result = Joosc.compileSTL(files);
+                long wall = System.nanoTime() - start;
+                if (result != 0) {
+                    throw new IllegalStateException("compileSTL returned " + result + " for " + shape);
+                }
+                peak = Math.max(peak, peakHeap());
+                if (wall < best) {
+                    best = wall;
+                    phaseTimes = readTotals(metrics);
+                }
+            }
+
+            if (phases == null) {
+                phases = new ArrayList<String>(phaseTimes.keySet());
+                csv.print("classes,interfaces,files,lines,wall_ms,peak_heap_mb");
+                for (String phase : phases) {
+                    csv.print("," + phase.replace(' ', '_') + "_ms");
+                }
+                csv.println();
+            }
+            csv.print(shape.classes + "," + shape.interfaces + "," + files.length + "," + lines + ","
+                    + best / 1000000 + "," + peak / (1024 * 1024));
+            for (String phase : phases) {
+                long[] total = phaseTimes.get(phase);
+                csv.print("," + (total == null ? 0 : total[0] / 1000000));
+            }
+            csv.println();
+            csv.flush();
+            System.err.println(shape + ": " + best / 1000000 + " ms, " + peak / (1024 * 1024) + " MB");
+        }
+        csv.close();
+    }
+
+    /**
+     * wall time and allocation of each phase in the last metrics report.
+     */
+    private static Map<String, long[]> readTotals(File metrics) throws Exception {
+        String report = new String(Files.readAllBytes(metrics.toPath()), "UTF-8");
+        String totals = report.substring(report.indexOf("\"totals\""), report.indexOf("\"outputs\""));
+        Map<String, long[]> times = new LinkedHashMap<String, long[]>();
+        Matcher m = TOTAL.matcher(totals);
+        while (m.find()) {
+            times.put(m.group(1), new long[] { Long.parseLong(m.group(2)), Long.parseLong(m.group(3)) });
+        }
+        return times;
+    }
+
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * sum of the peaks of the heap pools since resetPeaks. The pools peak at
+     * different times, so this is an upper bound.
+     */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
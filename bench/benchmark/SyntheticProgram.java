@@ -0,0 +1,270 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates valid Joos programs much larger than the test cases, to see how
+ * the compiler scales. The output only depends on the shape.
+ *
+ * Classes C0 ... Cn-1 come in groups of size group, each group a tree of
+ * subclasses with the given fanout (fanout 1 is a chain as deep as the
+ * group). Interfaces I0 ... Im-1 form chains of length group as well, and
+ * class Ci implements I(i mod m), so it declares the methods of the whole
+ * chain. Every class also declares the overloads o(int), o(int, int), ...,
+ * which override the ones it inherits, and a method b whose body has the
+ * given number of statements. Types are spread over packages p0 ... pk-1, and
+ * every file imports all the other packages on demand. Main uses every class.
+ *
+ * java benchmark.SyntheticProgram DIR [-classes N] [-interfaces N]
+ *     [-packages N] [-group N] [-fanout N] [-overloads N] [-statements N]
+ */
+public class SyntheticProgram {
+
+    public static class Shape {
+        public int classes = 100;
+        public int interfaces = 25;
+        public int packages = 8;
+        public int group = 8;
+        public int fanout = 1;
+        public int overloads = 4;
+        public int statements = 40;
+
+        /**
+         * the shape used for a program of the given number of classes when
+         * nothing else is asked for.
+         */
+        public static Shape of(int classes) {
+            Shape shape = new Shape();
+            shape.classes = classes;
+            shape.interfaces = Math.max(1, classes / 4);
+            return shape;
+        }
+
+        public String toString() {
+            return "classes=" + classes + " interfaces=" + interfaces + " packages=" + packages + " group=" + group
+                    + " fanout=" + fanout + " overloads=" + overloads + " statements=" + statements;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length % 2 != 1) {
+            System.err.println("Usage: java benchmark.SyntheticProgram <dir> [-<option> <n>]...");
+            System.exit(1);
+        }
+        Shape shape = new Shape();
+        for (int i = 1; i < args.length; i += 2) {
+            int n = Integer.parseInt(args[i + 1]);
+            String option = args[i];
+            if (option.equals("-classes")) {
+                shape.classes = n;
+            } else if (option.equals("-interfaces")) {
+                shape.interfaces = n;
+            } else if (option.equals("-packages")) {
+                shape.packages = n;
+            } else if (option.equals("-group")) {
+                shape.group = n;
+            } else if (option.equals("-fanout")) {
+                shape.fanout = n;
+            } else if (option.equals("-overloads")) {
+                shape.overloads = n;
+            } else if (option.equals("-statements")) {
+                shape.statements = n;
+            } else {
+                System.err.println("unknown option " + option);
+                System.exit(1);
+            }
+        }
+        List<String> files = write(new File(args[0]), shape);
+        System.out.println(files.size() + " files, " + shape);
+    }
+
+    /**
+     * write a program of the default shape for the number of classes.
+     */
+    public static List<String> write(File dir, int classes) throws IOException {
+        return write(dir, Shape.of(classes));
+    }
+
+    /**
+     * write the program into dir, leaving files that are already there and
+     * the same alone.
+     * @return the files, Main last
+     */
+    public static List<String> write(File dir, Shape shape) throws IOException {
+        List<String> files = new ArrayList<String>();
+        for (int j = 0; j < shape.interfaces; j++) {
+            files.add(write(dir, packageOf(j, shape), "I" + j, interfaceSource(j, shape)));
+        }
+        for (int i = 0; i < shape.classes; i++) {
+            files.add(write(dir, packageOf(i, shape), "C" + i, classSource(i, shape)));
+        }
+        files.add(write(dir, null, "Main", mainSource(shape)));
+        return files;
+    }
+
+    private static String write(File dir, String pkg, String name, String source) throws IOException {
+        File pkgDir = pkg == null ? dir : new File(dir, pkg);
+        pkgDir.mkdirs();
+        File file = new File(pkgDir, name + ".java");
+        byte[] bytes = source.getBytes("US-ASCII");
+        if (!file.exists() || !Arrays.equals(Files.readAllBytes(file.toPath()), bytes)) {
+            Files.write(file.toPath(), bytes);
+        }
+        return file.getPath();
+    }
+
+    private static String packageOf(int i, Shape shape) {
+        return shape.packages > 0 ? "p" + (i % shape.packages) : null;
+    }
+
+    private static int parentOf(int i, Shape shape) {
+        int start = i - i % shape.group;
+        return i == start ? -1 : start + (i - start - 1) / shape.fanout;
+    }
+
+    private static void header(StringBuilder sb, String pkg, Shape shape) {
+        if (pkg != null) {
+            sb.append("package ").append(pkg).append(";\n\n");
+        }
+        for (int p = 0; p < shape.packages; p++) {
+            if (!("p" + p).equals(pkg)) {
+                sb.append("import p").append(p).append(".*;\n");
+            }
+        }
+        sb.append("\n");
+    }
+
+    private static String interfaceSource(int j, Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        header(sb, packageOf(j, shape), shape);
+        sb.append("public interface I").append(j);
+        if (j % shape.group != 0) {
+            sb.append(" extends I").append(j - 1);
+        }
+        sb.append(" {\n");
+        sb.append("    public int k").append(j).append("(int x);\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String classSource(int i, Shape shape) {
+        int parent = parentOf(i, shape);
+        StringBuilder sb = new StringBuilder();
+        header(sb, packageOf(i, shape), shape);
+        sb.append("public class C").append(i);
+        if (parent >= 0) {
+            sb.append(" extends C").append(parent);
+        }
+        int itf = shape.interfaces > 0 ? i % shape.interfaces : -1;
+        if (itf >= 0) {
+            sb.append(" implements I").append(itf);
+        }
+        sb.append(" {\n");
+        sb.append("    protected int f").append(i).append(";\n\n");
+        sb.append("    public C").append(i).append("() {\n");
+        sb.append("        f").append(i).append(" = ").append(i).append(";\n");
+        sb.append("    }\n\n");
+
+        // the chain of I itf, all of which have to be implemented here
+        for (int j = itf; j >= 0 && j >= itf - itf % shape.group; j--) {
+            sb.append("    public int k").append(j).append("(int x) {\n");
+            sb.append("        return x + f").append(i).append(";\n");
+            sb.append("    }\n\n");
+        }
+
+        for (int n = 1; n <= shape.overloads; n++) {
+            sb.append("    public int o(");
+            for (int a = 0; a < n; a++) {
+                sb.append(a > 0 ? ", " : "").append("int a").append(a);
+            }
+            sb.append(") {\n");
+            sb.append("        return a0");
+            if (n > 1) {
+                sb.append(" + o(");
+                for (int a = 1; a < n; a++) {
+                    sb.append(a > 1 ? ", " : "").append("a").append(a);
+                }
+                sb.append(")");
+            }
+            sb.append(" + ").append(n).append(";\n");
+            sb.append("    }\n\n");
+        }
+
+        sb.append("    public int m").append(i).append("(int x) {\n");
+        sb.append("        int r = x;\n");
+        sb.append("        int i = 0;\n");
+        sb.append("        while (i < 10) {\n");
+        if (parent >= 0) {
+            sb.append("            r = r + m").append(parent).append("(i) * 3 - f").append(i).append(";\n");
+        } else {
+            sb.append("            r = r + i * 3 - f").append(i).append(";\n");
+        }
+        sb.append("            i = i + 1;\n");
+        sb.append("        }\n");
+        if (itf >= 0) {
+            sb.append("        I").append(itf).append(" self = this;\n");
+            sb.append("        r = r + self.k").append(itf).append("(r);\n");
+        }
+        sb.append("        return r;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    public int b(int x) {\n");
+        for (int s = 0; s < shape.statements; s++) {
+            switch (s % 4) {
+            case 0:
+                sb.append("        int v").append(s).append(" = x + ").append(s).append(";\n");
+                break;
+            case 1:
+                sb.append("        if (v").append(s - 1).append(" > ").append(s).append(") {\n");
+                sb.append("            x = x + v").append(s - 1).append(";\n");
+                sb.append("        } else {\n");
+                sb.append("            x = x - 1;\n");
+                sb.append("        }\n");
+                break;
+            case 2:
+                sb.append("        while (x > 1000) {\n");
+                sb.append("            x = x / 2;\n");
+                sb.append("        }\n");
+                break;
+            default:
+                if (shape.overloads > 0) {
+                    int n = s / 4 % shape.overloads + 1;
+                    sb.append("        x = x + o(");
+                    for (int a = 0; a < n; a++) {
+                        sb.append(a > 0 ? ", " : "").append("x");
+                    }
+                    sb.append(");\n");
+                } else {
+                    sb.append("        x = x + 1;\n");
+                }
+            }
+        }
+        sb.append("        return x;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String mainSource(Shape shape) {
+        StringBuilder sb = new StringBuilder();
+        header(sb, null, shape);
+        sb.append("public class Main {\n");
+        sb.append("    public Main() {}\n\n");
+        sb.append("    public static int test() {\n");
+        sb.append("        int s = 0;\n");
+        for (int i = 0; i < shape.classes; i++) {
+            sb.append("        C").append(i).append(" c").append(i).append(" = new C").append(i).append("();\n");
+            sb.append("        s = s + c").append(i).append(".m").append(i).append("(1) + c").append(i)
+                    .append(".b(1);\n");
+        }
+        sb.append("        return s % 256;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
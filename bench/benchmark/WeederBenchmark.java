@@ -0,0 +1,60 @@
+package benchmark;
+
+import java.io.File;
+import java.io.FileReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.ParseTree;
+import parser.Parser;
+import scanner.Scanner;
+import weeder.Weeder;
+
+/**
+ * Weeder.weed over the parse tree of one synthetic class whose method b has
+ * the given number of statements. The tree grows linearly with the
+ * statements, so should the time: compare the scores divided by statements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeederBenchmark {
+
+    @Param({ "250", "1000", "4000", "16000" })
+    public int statements;
+
+    private ParseTree tree;
+
+    @Setup
+    public void setup() throws Exception {
+        SyntheticProgram.Shape shape = new SyntheticProgram.Shape();
+        shape.classes = 1;
+        shape.interfaces = 0;
+        shape.packages = 0;
+        shape.statements = statements;
+        File dir = new File(System.getProperty("java.io.tmpdir"), "joosc-weeder/" + statements);
+        String file = SyntheticProgram.write(dir, shape).get(0);
+        tree = new Parser(new Scanner(new FileReader(file)), Pipeline.grammar()).parse();
+    }
+
+    @Benchmark
+    public Weeder weed() throws Exception {
+        Weeder weeder = new Weeder(tree, "C0");
+        weeder.weed();
+        return weeder;
+    }
+}
@@ -0,0 +1,30 @@
+# Plots the CSV written by benchmark.ScalingReport:
+#   gnuplot -e "csv='scaling.csv'" bench/scaling.gnuplot
+# writes scaling.png next to the CSV unless out is given.
+
+if (!exists("csv")) csv = 'scaling.csv'
+if (!exists("out")) out = csv[1:strlen(csv) - 4] . '.png'
+
+set datafile separator ','
+set key autotitle columnhead left top
+set terminal pngcairo size 1200,1000
+set output out
+set multiplot layout 3,1
+set logscale xy
+set grid
+set xlabel 'classes'
+
+set title 'compile time'
+set ylabel 'ms'
+plot csv using 1:5 with linespoints title 'wall'
+
+set title 'memory'
+set ylabel 'peak heap (MB)'
+plot csv using 1:6 with linespoints title 'peak heap'
+
+set title 'phases'
+set ylabel 'ms'
+set key outside right
+plot for [i=7:*] csv using 1:(column(i) > 0 ? column(i) : NaN) with linespoints
+
+unset multiplot
@@ -0,0 +1,330 @@
+package jlalr;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the text LR(1) table printed by Jlr1 (grammar followed by
+ * actions) into the compressed binary format read by parser.ParseTable.
+ *
+ * Each state that reduces gets a default reduction, its most common one,
+ * and each non-terminal a default goto, the state it goes to most often;
+ * those entries are left out of the rows. The action rows (terminal
+ * columns) and the goto rows (non-terminal columns) are then packed into
+ * comb vectors: row s starts at base[s] of a shared next array, and an entry
+ * belongs to s if check at the same index is s. An action is packed as an
+ * int, shift to s as s + 1, reduce by r as -(r + 1), 0 is an error.
+ *
+ * Layout (big endian):
+ *   int magic, int version,
+ *   int #symbols, then each symbol name as a short length + ASCII bytes, terminals first,
+ *   int #productions, then each production as a short length + short symbol indices (LHS first),
+ *   int #states, int #terminals,
+ *   int[#states] default action of each state (a reduction or 0),
+ *   int[#non-terminals] default goto of each non-terminal (-1 if none),
+ *   the action table then the goto table, each as int[#states] base,
+ *   int length, int[length] next, int[length] check (-1 where unused).
+ * Every base + column is within the arrays of its table.
+ *
+ * Usage: BinaryTableWriter <grammar.lr1> <grammar.bin>
+ */
+public class BinaryTableWriter {
+    public static final int MAGIC = 0x4C523154; // "LR1T"
+    public static final int VERSION = 2;
+
+    public static void main(String[] args) {
+        String projPath = System.getProperty("user.dir");
+        File in = new File(args.length > 0 ? args[0] : projPath + "/data/grammar.lr1");
+        File out = new File(args.length > 1 ? args[1] : projPath + "/data/grammar.bin");
+        try {
+            convert(in, out);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /** the columns and values of one row of a table. */
+    static class Row {
+        int size = 0;
+        int[] columns = new int[8];
+        int[] values = new int[8];
+
+        void put(int column, int value) {
+            if (size == columns.length) {
+                columns = Arrays.copyOf(columns, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            columns[size] = column;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    /** a table packed into comb vectors. */
+    static class Comb {
+        int[] base;
+        int[] next;
+        int[] check;
+    }
+
+    public static void convert(File in, File out) throws IOException {
+        BufferedReader br = new BufferedReader(new FileReader(in));
+
+        List<String> symbols = new ArrayList<String>();
+        Map<String, Integer> symbolIndex = new HashMap<String, Integer>();
+
+        int numTerms = Integer.parseInt(br.readLine().trim());
+        for (int i = 0; i < numTerms; i++) {
+            addSymbol(br.readLine().trim(), symbols, symbolIndex);
+        }
+        int numNonTerms = Integer.parseInt(br.readLine().trim());
+        for (int i = 0; i < numNonTerms; i++) {
+            addSymbol(br.readLine().trim(), symbols, symbolIndex);
+        }
+        br.readLine(); // start symbol, always one of the non-terminals
+
+        int numRules = Integer.parseInt(br.readLine().trim());
+        List<String[]> rules = new ArrayList<String[]>();
+        for (int i = 0; i < numRules; i++) {
+            rules.add(br.readLine().trim().split(" "));
+        }
+
+        int numStates = Integer.parseInt(br.readLine().trim());
+        int numActions = Integer.parseInt(br.readLine().trim());
+        Row[] actions = new Row[numStates];
+        Row[] gotos = new Row[numStates];
+        for (int i = 0; i < numStates; i++) {
+            actions[i] = new Row();
+            gotos[i] = new Row();
+        }
+        for (int i = 0; i < numActions; i++) {
+            String[] action = br.readLine().trim().split(" ");
+            int state = Integer.parseInt(action[0]);
+            int symbol = indexOf(action[1], symbolIndex);
+            int target = Integer.parseInt(action[3]);
+            if (action[2].equals("shift")) {
+                if (symbol < numTerms) {
+                    actions[state].put(symbol, target + 1);
+                } else {
+                    gotos[state].put(symbol - numTerms, target);
+                }
+            } else if (action[2].equals("reduce") && symbol < numTerms) {
+                actions[state].put(symbol, -(target + 1));
+            } else {
+                br.close();
+                throw new IOException("unexpected action: " + action[2] + " on " + action[1]);
+            }
+        }
+        br.close();
+
+        int[] defaults = defaultReductions(actions);
+        int[] defaultGotos = defaultGotos(gotos, numNonTerms);
+        Comb actionTable = pack(actions, numTerms);
+        Comb gotoTable = pack(gotos, numNonTerms);
+
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out)));
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+
+        dos.writeInt(symbols.size());
+        for (String s : symbols) {
+            byte[] name = s.getBytes("US-ASCII");
+            dos.writeShort(name.length);
+            dos.write(name);
+        }
+
+        dos.writeInt(rules.size());
+        for (String[] rule : rules) {
+            dos.writeShort(rule.length);
+            for (String s : rule) {
+                dos.writeShort(indexOf(s, symbolIndex));
+            }
+        }
+
+        dos.writeInt(numStates);
+        dos.writeInt(numTerms);
+        writeInts(dos, defaults);
+        writeInts(dos, defaultGotos);
+        writeComb(dos, actionTable);
+        writeComb(dos, gotoTable);
+        dos.close();
+    }
+
+    /**
+     * the most common reduction of each state, removed from its row.
+     */
+    static int[] defaultReductions(Row[] rows) {
+        int[] defaults = new int[rows.length];
+        Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+        for (int state = 0; state < rows.length; state++) {
+            Row row = rows[state];
+            counts.clear();
+            int best = 0, bestCount = 0;
+            for (int i = 0; i < row.size; i++) {
+                int value = row.values[i];
+                if (value < 0) {
+                    Integer count = counts.get(value);
+                    int n = count == null ? 1 : count + 1;
+                    counts.put(value, n);
+                    if (n > bestCount || (n == bestCount && value > best)) {
+                        best = value;
+                        bestCount = n;
+                    }
+                }
+            }
+            defaults[state] = best;
+            if (best != 0) {
+                int kept = 0;
+                for (int i = 0; i < row.size; i++) {
+                    if (row.values[i] != best) {
+                        row.columns[kept] = row.columns[i];
+                        row.values[kept] = row.values[i];
+                        kept++;
+                    }
+                }
+                row.size = kept;
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * the state each column goes to most often, removed from the rows.
+     */
+    static int[] defaultGotos(Row[] rows, int numColumns) {
+        List<Map<Integer, Integer>> counts = new ArrayList<Map<Integer, Integer>>();
+        for (int column = 0; column < numColumns; column++) {
+            counts.add(new HashMap<Integer, Integer>());
+        }
+        for (Row row : rows) {
+            for (int i = 0; i < row.size; i++) {
+                Map<Integer, Integer> column = counts.get(row.columns[i]);
+                Integer count = column.get(row.values[i]);
+                column.put(row.values[i], count == null ? 1 : count + 1);
+            }
+        }
+        int[] defaults = new int[numColumns];
+        for (int column = 0; column < numColumns; column++) {
+            int best = -1, bestCount = 0;
+            for (Map.Entry<Integer, Integer> entry : counts.get(column).entrySet()) {
+                int n = entry.getValue();
+                if (n > bestCount || (n == bestCount && entry.getKey() < best)) {
+                    best = entry.getKey();
+                    bestCount = n;
+                }
+            }
+            defaults[column] = best;
+        }
+        for (Row row : rows) {
+            int kept = 0;
+            for (int i = 0; i < row.size; i++) {
+                if (row.values[i] != defaults[row.columns[i]]) {
+                    row.columns[kept] = row.columns[i];
+                    row.values[kept] = row.values[i];
+                    kept++;
+                }
+            }
+            row.size = kept;
+        }
+        return defaults;
+    }
+
+    /**
+     * first fit row displacement, fullest rows first.
+     */
+    static Comb pack(final Row[] rows, int numColumns) {
+        Integer[] order = new Integer[rows.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer a, Integer b) {
+                return rows[b].size - rows[a].size;
+            }
+        });
+
+        Comb comb = new Comb();
+        comb.base = new int[rows.length];
+        int[] check = new int[numColumns];
+        Arrays.fill(check, -1);
+        int length = numColumns;
+        for (int state : order) {
+            Row row = rows[state];
+            if (row.size == 0) {
+                continue;
+            }
+            int base = 0;
+            while (!fits(row, base, check)) {
+                base++;
+            }
+            if (base + numColumns > check.length) {
+                int old = check.length;
+                check = Arrays.copyOf(check, Math.max(old * 2, base + numColumns));
+                Arrays.fill(check, old, check.length, -1);
+            }
+            for (int i = 0; i < row.size; i++) {
+                check[base + row.columns[i]] = state;
+            }
+            comb.base[state] = base;
+            length = Math.max(length, base + numColumns);
+        }
+
+        comb.check = Arrays.copyOf(check, length);
+        comb.next = new int[length];
+        for (int state = 0; state < rows.length; state++) {
+            Row row = rows[state];
+            for (int i = 0; i < row.size; i++) {
+                comb.next[comb.base[state] + row.columns[i]] = row.values[i];
+            }
+        }
+        return comb;
+    }
+
+    private static boolean fits(Row row, int base, int[] check) {
+        for (int i = 0; i < row.size; i++) {
+            int index = base + row.columns[i];
+            if (index < check.length && check[index] != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeComb(DataOutputStream dos, Comb comb) throws IOException {
+        writeInts(dos, comb.base);
+        dos.writeInt(comb.next.length);
+        writeInts(dos, comb.next);
+        writeInts(dos, comb.check);
+    }
+
+    private static void writeInts(DataOutputStream dos, int[] values) throws IOException {
+        for (int value : values) {
+            dos.writeInt(value);
+        }
+    }
+
+    private static void addSymbol(String s, List<String> symbols, Map<String, Integer> symbolIndex) {
+        symbolIndex.put(s, symbols.size());
+        symbols.add(s);
+    }
+
+    private static int indexOf(String s, Map<String, Integer> symbolIndex) throws IOException {
+        Integer i = symbolIndex.get(s);
+        if (i == null) {
+            throw new IOException("unknown symbol: " + s);
+        }
+        return i;
+    }
+}
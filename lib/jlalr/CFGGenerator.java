@@ -76,7 +76,12 @@ public class CFGGenerator {
 			System.setOut(new PrintStream(new File(projPath + "/data/gen/grammar.lr1")));
 
 			Jlr1.main(null);
-			
+			System.out.close();
+
+			// precompiled copy of the table, loaded by parser.ParseTable
+			BinaryTableWriter.convert(new File(projPath + "/data/gen/grammar.lr1"),
+					new File(projPath + "/data/gen/grammar.bin"));
+
 			
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
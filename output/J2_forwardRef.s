@@ -0,0 +1,114 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern static_init
+extern hierarchy#J2_forwardRef
+extern hierarchy#@LJ2_forwardRef
+extern __debexit
+extern java.lang.Object#clone$$implementation
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern ugly#J2_forwardRef
+
+section .text
+global J2_forwardRef#test$$
+	J2_forwardRef#test$$:
+		dd J2_forwardRef#test$$implementation
+global J2_forwardRef#~init~$$implementation
+J2_forwardRef#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$J2_forwardRef
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global J2_forwardRef#test$$implementation
+J2_forwardRef#test$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, [INT_2]
+push eax ; store lhs
+	mov dword eax, J2_forwardRef#b$realfield
+	mov eax, [eax]
+pop ebx ; restore lhs
+add eax, ebx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$J2_forwardRef:
+
+
+
+	call instance_init_default_J2_forwardRef#a
+
+	call instance_init_J2_forwardRef#a
+	ret
+	instance_init_default_J2_forwardRef#a:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+	instance_init_J2_forwardRef#a:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+			mov dword eax, J2_forwardRef#b$realfield
+	mov eax, [eax]
+
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+global _start
+	_start:
+		call static_init
+		call J2_forwardRef#test$$implementation
+		call __debexit
+
+global VTable#J2_forwardRef
+	VTable#J2_forwardRef:
+		dd hierarchy#J2_forwardRef
+		dd ugly#J2_forwardRef
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@LJ2_forwardRef
+	VTable#@LJ2_forwardRef:
+		dd hierarchy#@LJ2_forwardRef
+
+	global static_init_J2_forwardRef#b
+	static_init_J2_forwardRef#b:
+			mov dword eax, [INT_1]
+
+	mov [J2_forwardRef#b$realfield], eax	; initiallize field
+		ret
+section .data
+align 4
+global J2_forwardRef#b	; define global label for field
+J2_forwardRef#b:	; label start
+	dd J2_forwardRef#b$realfield	; points to the dec
+global J2_forwardRef#b$realfield	; define global label for field
+J2_forwardRef#b$realfield:	; label start
+	dd 0x0	; default value: 0 false null
+INT_1:	; define label for int literal
+	dd 2
+INT_2:	; define label for int literal
+	dd 121
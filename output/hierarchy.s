@@ -0,0 +1,1600 @@
+section .data
+global hierarchy#@Ljava.io.PrintStream
+	hierarchy#@Ljava.io.PrintStream:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@S
+	hierarchy#@S:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.io.OutputStream
+	hierarchy#java.io.OutputStream:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@B
+	hierarchy#@B:
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Byte
+	hierarchy#@Ljava.lang.Byte:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@I
+	hierarchy#@I:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.String
+	hierarchy#@Ljava.lang.String:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Z
+	hierarchy#@Z:
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Short
+	hierarchy#@Ljava.lang.Short:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@C
+	hierarchy#@C:
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Object
+	hierarchy#@Ljava.lang.Object:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.Class
+	hierarchy#java.lang.Class:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Cloneable
+	hierarchy#@Ljava.lang.Cloneable:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+global hierarchy#java.lang.Boolean
+	hierarchy#java.lang.Boolean:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.Short
+	hierarchy#java.lang.Short:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@LJ2_forwardRef
+	hierarchy#@LJ2_forwardRef:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+global hierarchy#java.io.Serializable
+	hierarchy#java.io.Serializable:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+global hierarchy#java.lang.Cloneable
+	hierarchy#java.lang.Cloneable:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+global hierarchy#J2_forwardRef
+	hierarchy#J2_forwardRef:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.System
+	hierarchy#java.lang.System:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.System
+	hierarchy#@Ljava.lang.System:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljoosc.lang.ObjInterface
+	hierarchy#@Ljoosc.lang.ObjInterface:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+global hierarchy#java.lang.Character
+	hierarchy#java.lang.Character:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.Integer
+	hierarchy#java.lang.Integer:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.io.Serializable
+	hierarchy#@Ljava.io.Serializable:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+global hierarchy#java.lang.Number
+	hierarchy#java.lang.Number:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Integer
+	hierarchy#@Ljava.lang.Integer:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.util.Arrays
+	hierarchy#java.util.Arrays:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Class
+	hierarchy#@Ljava.lang.Class:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Character
+	hierarchy#@Ljava.lang.Character:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#joosc.lang.ObjInterface
+	hierarchy#joosc.lang.ObjInterface:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+global hierarchy#@Ljava.lang.Boolean
+	hierarchy#@Ljava.lang.Boolean:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.io.OutputStream
+	hierarchy#@Ljava.io.OutputStream:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.io.PrintStream
+	hierarchy#java.io.PrintStream:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.util.Arrays
+	hierarchy#@Ljava.util.Arrays:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.Byte
+	hierarchy#java.lang.Byte:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#@Ljava.lang.Number
+	hierarchy#@Ljava.lang.Number:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.String
+	hierarchy#java.lang.String:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+global hierarchy#java.lang.Object
+	hierarchy#java.lang.Object:
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0xffffffff
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
+		dd 0x0
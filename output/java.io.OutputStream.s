@@ -0,0 +1,136 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern hierarchy#java.io.OutputStream
+extern NATIVEjava.io.OutputStream.nativeWrite
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern ugly#java.io.OutputStream
+extern java.lang.Object#clone$$implementation
+extern hierarchy#@Ljava.io.OutputStream
+
+section .text
+global java.io.OutputStream#nativeWrite$I$
+	java.io.OutputStream#nativeWrite$I$:
+		dd NATIVEjava.io.OutputStream.nativeWrite
+global java.io.OutputStream#~init~$$implementation
+java.io.OutputStream#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.io.OutputStream
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.OutputStream#write$C$implementation
+java.io.OutputStream#write$C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.OutputStream#write$I$implementation
+java.io.OutputStream#write$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov eax, [esp + 4]
+	call NATIVEjava.io.OutputStream.nativeWrite
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.OutputStream#nativeWrite$I$implementation
+java.io.OutputStream#nativeWrite$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.OutputStream#flush$$implementation
+java.io.OutputStream#flush$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.io.OutputStream:
+
+
+
+
+
+	ret
+
+
+global VTable#java.io.OutputStream
+	VTable#java.io.OutputStream:
+		dd hierarchy#java.io.OutputStream
+		dd ugly#java.io.OutputStream
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+		dd java.io.OutputStream#write$C$implementation
+		dd java.io.OutputStream#write$I$implementation
+		dd java.io.OutputStream#flush$$implementation
+global VTable#@Ljava.io.OutputStream
+	VTable#@Ljava.io.OutputStream:
+		dd hierarchy#@Ljava.io.OutputStream
+
+section .data
+align 4
@@ -0,0 +1,895 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern java.io.OutputStream#write$I$implementation
+extern java.lang.String#valueOf$java.lang.Object$implementation
+extern VTable#java.lang.String
+extern java.lang.String#valueOf$C$implementation
+extern java.io.OutputStream#write$C$implementation
+extern java.lang.Object#clone$$implementation
+extern hierarchy#java.io.PrintStream
+extern java.lang.String#valueOf$Z$implementation
+extern java.lang.String#valueOf$I$implementation
+extern hierarchy#@Ljava.io.PrintStream
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.String#valueOf$S$implementation
+extern NATIVEjava.io.OutputStream.nativeWrite
+extern VTable#@C
+extern java.lang.Object#toString$$implementation
+extern java.lang.String#valueOf$B$implementation
+extern java.io.OutputStream#nativeWrite$I$implementation
+extern java.lang.Object#getClass$$implementation
+extern ugly#java.io.PrintStream
+extern java.io.OutputStream#flush$$implementation
+
+section .text
+global java.io.PrintStream#nativeWrite$I$
+	java.io.PrintStream#nativeWrite$I$:
+		dd NATIVEjava.io.OutputStream.nativeWrite
+global java.io.PrintStream#~init~$$implementation
+java.io.PrintStream#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.io.PrintStream
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$java.lang.String$implementation
+java.io.PrintStream#print$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 8	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_1]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_0
+LOOP_0:
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK0
+	call __exception
+NullCheckOK0:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_2]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_0:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK1
+	call __exception
+NullCheckOK1:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_0
+mov eax, 0xffffffff
+INFIX_0:
+
+cmp eax, 0x0
+jne LOOP_0
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$$implementation
+java.io.PrintStream#println$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, STRING_3
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$java.lang.String$implementation
+java.io.PrintStream#println$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, [CHAR_4]
+
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$java.lang.Object$implementation
+java.io.PrintStream#println$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$java.lang.Object$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$Z$implementation
+java.io.PrintStream#println$Z$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$Z$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$B$implementation
+java.io.PrintStream#println$B$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$B$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$C$implementation
+java.io.PrintStream#println$C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$C$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$S$implementation
+java.io.PrintStream#println$S$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$S$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#println$I$implementation
+java.io.PrintStream#println$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$I$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 48] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$java.lang.Object$implementation
+java.io.PrintStream#print$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$java.lang.Object$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$Z$implementation
+java.io.PrintStream#print$Z$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$Z$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$B$implementation
+java.io.PrintStream#print$B$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$B$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$C$implementation
+java.io.PrintStream#print$C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$C$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$S$implementation
+java.io.PrintStream#print$S$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$S$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.io.PrintStream#print$I$implementation
+java.io.PrintStream#print$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$I$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.io.PrintStream:
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+	ret
+
+
+global VTable#java.io.PrintStream
+	VTable#java.io.PrintStream:
+		dd hierarchy#java.io.PrintStream
+		dd ugly#java.io.PrintStream
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+		dd java.io.OutputStream#write$C$implementation
+		dd java.io.OutputStream#write$I$implementation
+		dd java.io.OutputStream#flush$$implementation
+		dd java.io.PrintStream#print$java.lang.String$implementation
+		dd java.io.PrintStream#println$$implementation
+		dd java.io.PrintStream#println$java.lang.String$implementation
+		dd java.io.PrintStream#println$java.lang.Object$implementation
+		dd java.io.PrintStream#println$Z$implementation
+		dd java.io.PrintStream#println$B$implementation
+		dd java.io.PrintStream#println$C$implementation
+		dd java.io.PrintStream#println$S$implementation
+		dd java.io.PrintStream#println$I$implementation
+		dd java.io.PrintStream#print$java.lang.Object$implementation
+		dd java.io.PrintStream#print$Z$implementation
+		dd java.io.PrintStream#print$B$implementation
+		dd java.io.PrintStream#print$C$implementation
+		dd java.io.PrintStream#print$S$implementation
+		dd java.io.PrintStream#print$I$implementation
+global VTable#@Ljava.io.PrintStream
+	VTable#@Ljava.io.PrintStream:
+		dd hierarchy#@Ljava.io.PrintStream
+
+section .data
+align 4
+INT_1:	; define label for int literal
+	dd 0
+INT_2:	; define label for int literal
+	dd 1
+STRING_3:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_3
+STRCHARS_3:
+	dd VTable#@C
+	dd 0
+CHAR_4:	; define label for char literal
+	dd `\n`
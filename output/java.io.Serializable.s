@@ -0,0 +1,23 @@
+extern __exception
+extern __malloc
+extern joosc.lang.ObjInterface#getClass$$implementation
+extern hierarchy#java.io.Serializable
+extern joosc.lang.ObjInterface#toString$$implementation
+extern hierarchy#@Ljava.io.Serializable
+extern joosc.lang.ObjInterface#hashCode$$implementation
+extern joosc.lang.ObjInterface#equals$java.lang.Object$implementation
+
+section .text
+instance_field_init$java.io.Serializable:
+	ret
+
+
+global VTable#java.io.Serializable
+	VTable#java.io.Serializable:
+		dd hierarchy#java.io.Serializable
+global VTable#@Ljava.io.Serializable
+	VTable#@Ljava.io.Serializable:
+		dd hierarchy#@Ljava.io.Serializable
+
+section .data
+align 4
@@ -0,0 +1,126 @@
+extern __exception
+extern hierarchy#java.lang.Boolean
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern java.lang.String#valueOf$Z$implementation
+extern ugly#java.lang.Boolean
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+extern hierarchy#@Ljava.lang.Boolean
+
+section .text
+global java.lang.Boolean#~init~$Z$implementation
+java.lang.Boolean#~init~$Z$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Boolean
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Boolean#~init~$$implementation
+java.lang.Boolean#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Boolean
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Boolean#toString$$implementation
+java.lang.Boolean#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$Z$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Boolean:
+
+
+
+
+	call instance_init_default_java.lang.Boolean#value
+
+	ret
+	instance_init_default_java.lang.Boolean#value:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+
+global VTable#java.lang.Boolean
+	VTable#java.lang.Boolean:
+		dd hierarchy#java.lang.Boolean
+		dd ugly#java.lang.Boolean
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Boolean#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.Boolean
+	VTable#@Ljava.lang.Boolean:
+		dd hierarchy#@Ljava.lang.Boolean
+
+	global static_init_java.lang.Boolean#MAX_VALUE
+	static_init_java.lang.Boolean#MAX_VALUE:
+			mov dword eax, [INT_1]
+
+	mov [java.lang.Boolean#MAX_VALUE$realfield], eax	; initiallize field
+		ret
+section .data
+align 4
+global java.lang.Boolean#MAX_VALUE	; define global label for field
+java.lang.Boolean#MAX_VALUE:	; label start
+	dd java.lang.Boolean#MAX_VALUE$realfield	; points to the dec
+global java.lang.Boolean#MAX_VALUE$realfield	; define global label for field
+java.lang.Boolean#MAX_VALUE$realfield:	; label start
+	dd 0x0	; default value: 0 false null
+INT_1:	; define label for int literal
+	dd 127
@@ -0,0 +1,126 @@
+extern hierarchy#java.lang.Byte
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern hierarchy#@Ljava.lang.Byte
+extern java.lang.String#valueOf$B$implementation
+extern ugly#java.lang.Byte
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+
+section .text
+global java.lang.Byte#~init~$B$implementation
+java.lang.Byte#~init~$B$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Byte
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Byte#~init~$$implementation
+java.lang.Byte#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Byte
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Byte#toString$$implementation
+java.lang.Byte#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$B$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Byte:
+
+
+
+
+	call instance_init_default_java.lang.Byte#value
+
+	ret
+	instance_init_default_java.lang.Byte#value:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+
+global VTable#java.lang.Byte
+	VTable#java.lang.Byte:
+		dd hierarchy#java.lang.Byte
+		dd ugly#java.lang.Byte
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Byte#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.Byte
+	VTable#@Ljava.lang.Byte:
+		dd hierarchy#@Ljava.lang.Byte
+
+	global static_init_java.lang.Byte#MAX_VALUE
+	static_init_java.lang.Byte#MAX_VALUE:
+			mov dword eax, [INT_1]
+
+	mov [java.lang.Byte#MAX_VALUE$realfield], eax	; initiallize field
+		ret
+section .data
+align 4
+global java.lang.Byte#MAX_VALUE	; define global label for field
+java.lang.Byte#MAX_VALUE:	; label start
+	dd java.lang.Byte#MAX_VALUE$realfield	; points to the dec
+global java.lang.Byte#MAX_VALUE$realfield	; define global label for field
+java.lang.Byte#MAX_VALUE$realfield:	; label start
+	dd 0x0	; default value: 0 false null
+INT_1:	; define label for int literal
+	dd 127
@@ -0,0 +1,111 @@
+extern __exception
+extern __malloc
+extern ugly#java.lang.Character
+extern java.lang.Object#hashCode$$implementation
+extern hierarchy#java.lang.Character
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.String#valueOf$C$implementation
+extern hierarchy#@Ljava.lang.Character
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+
+section .text
+global java.lang.Character#~init~$C$implementation
+java.lang.Character#~init~$C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Character
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Character#~init~$$implementation
+java.lang.Character#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Character
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Character#toString$$implementation
+java.lang.Character#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$C$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Character:
+
+
+
+	call instance_init_default_java.lang.Character#value
+
+	ret
+	instance_init_default_java.lang.Character#value:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+
+global VTable#java.lang.Character
+	VTable#java.lang.Character:
+		dd hierarchy#java.lang.Character
+		dd ugly#java.lang.Character
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Character#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.Character
+	VTable#@Ljava.lang.Character:
+		dd hierarchy#@Ljava.lang.Character
+
+section .data
+align 4
@@ -0,0 +1,44 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern hierarchy#@Ljava.lang.Class
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern ugly#java.lang.Class
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+extern hierarchy#java.lang.Class
+
+section .text
+global java.lang.Class#~init~$$implementation
+java.lang.Class#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Class
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Class:
+
+	ret
+
+
+global VTable#java.lang.Class
+	VTable#java.lang.Class:
+		dd hierarchy#java.lang.Class
+		dd ugly#java.lang.Class
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.Class
+	VTable#@Ljava.lang.Class:
+		dd hierarchy#@Ljava.lang.Class
+
+section .data
+align 4
@@ -0,0 +1,23 @@
+extern __exception
+extern __malloc
+extern joosc.lang.ObjInterface#getClass$$implementation
+extern joosc.lang.ObjInterface#toString$$implementation
+extern hierarchy#java.lang.Cloneable
+extern joosc.lang.ObjInterface#hashCode$$implementation
+extern hierarchy#@Ljava.lang.Cloneable
+extern joosc.lang.ObjInterface#equals$java.lang.Object$implementation
+
+section .text
+instance_field_init$java.lang.Cloneable:
+	ret
+
+
+global VTable#java.lang.Cloneable
+	VTable#java.lang.Cloneable:
+		dd hierarchy#java.lang.Cloneable
+global VTable#@Ljava.lang.Cloneable
+	VTable#@Ljava.lang.Cloneable:
+		dd hierarchy#@Ljava.lang.Cloneable
+
+section .data
+align 4
@@ -0,0 +1,574 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern java.lang.String#valueOf$I$implementation
+extern ugly#java.lang.Integer
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.Object#getClass$$implementation
+extern hierarchy#java.lang.Integer
+extern java.lang.Object#clone$$implementation
+extern hierarchy#@Ljava.lang.Integer
+
+section .text
+global java.lang.Integer#parseInt$java.lang.String$
+	java.lang.Integer#parseInt$java.lang.String$:
+		dd java.lang.Integer#parseInt$java.lang.String$implementation
+global java.lang.Integer#~init~$I$implementation
+java.lang.Integer#~init~$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Integer
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Integer#intValue$$implementation
+java.lang.Integer#intValue$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Integer#parseInt$java.lang.String$implementation
+java.lang.Integer#parseInt$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 16	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_2]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [BOOLEAN_3]
+
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_4]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_0
+LOOP_0:
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK0
+	call __exception
+NullCheckOK0:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_5]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_0
+mov eax, 0xffffffff
+INFIX_0:
+
+cmp eax, 0xffffffff
+jne ELSE_1
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	not eax	; logical negation operation
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_1
+ELSE_1:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_6]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+imul eax, ebx
+push eax ; store lhs
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK1
+	call __exception
+NullCheckOK1:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+pop ebx ; restore lhs
+add eax, ebx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_7]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+ENDIF_1:
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_8]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+COND_0:
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK2
+	call __exception
+NullCheckOK2:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_4
+mov eax, 0xffffffff
+INFIX_4:
+cmp eax,0xffffffff
+jne INFIX_3
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK3
+	call __exception
+NullCheckOK3:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_9]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_6
+mov eax, 0xffffffff
+INFIX_6:
+cmp eax,0x0
+jne INFIX_5
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK4
+	call __exception
+NullCheckOK4:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_10]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_8
+mov eax, 0x0
+INFIX_8:
+cmp eax,0xffffffff
+jne INFIX_7
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK5
+	call __exception
+NullCheckOK5:
+	push eax 	; push object for method invocation
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_11]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jle INFIX_9
+mov eax, 0x0
+INFIX_9:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_7:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_5:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_3:
+
+cmp eax, 0x0
+jne LOOP_0
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+
+cmp eax, 0xffffffff
+jne ELSE_2
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	neg eax	; negation operation
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_2
+ELSE_2:
+ENDIF_2:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Integer#~init~$java.lang.String$implementation
+java.lang.Integer#~init~$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Integer
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.Integer#parseInt$java.lang.String$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Integer#~init~$$implementation
+java.lang.Integer#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Integer
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_12]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Integer#toString$$implementation
+java.lang.Integer#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$I$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Integer:
+
+
+
+
+
+
+
+	call instance_init_default_java.lang.Integer#value
+
+	ret
+	instance_init_default_java.lang.Integer#value:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+
+global VTable#java.lang.Integer
+	VTable#java.lang.Integer:
+		dd hierarchy#java.lang.Integer
+		dd ugly#java.lang.Integer
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Integer#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Integer#intValue$$implementation
+global VTable#@Ljava.lang.Integer
+	VTable#@Ljava.lang.Integer:
+		dd hierarchy#@Ljava.lang.Integer
+
+	global static_init_java.lang.Integer#MAX_VALUE
+	static_init_java.lang.Integer#MAX_VALUE:
+			mov dword eax, [INT_1]
+
+	mov [java.lang.Integer#MAX_VALUE$realfield], eax	; initiallize field
+		ret
+section .data
+align 4
+global java.lang.Integer#MAX_VALUE	; define global label for field
+java.lang.Integer#MAX_VALUE:	; label start
+	dd java.lang.Integer#MAX_VALUE$realfield	; points to the dec
+global java.lang.Integer#MAX_VALUE$realfield	; define global label for field
+java.lang.Integer#MAX_VALUE$realfield:	; label start
+	dd 0x0	; default value: 0 false null
+INT_1:	; define label for int literal
+	dd 2147483647
+INT_2:	; define label for int literal
+	dd 0
+BOOLEAN_3:	; define label for boolean literal
+	dd 0x0
+INT_4:	; define label for int literal
+	dd 0
+CHAR_5:	; define label for char literal
+	dd '-'
+INT_6:	; define label for int literal
+	dd 10
+CHAR_7:	; define label for char literal
+	dd '0'
+INT_8:	; define label for int literal
+	dd 1
+CHAR_9:	; define label for char literal
+	dd '-'
+CHAR_10:	; define label for char literal
+	dd '0'
+CHAR_11:	; define label for char literal
+	dd '9'
+INT_12:	; define label for int literal
+	dd 0
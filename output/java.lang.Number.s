@@ -0,0 +1,55 @@
+extern __exception
+extern __malloc
+extern hierarchy#@Ljava.lang.Number
+extern java.lang.Object#hashCode$$implementation
+extern ugly#java.lang.Number
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern hierarchy#java.lang.Number
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+
+section .text
+global java.lang.Number#intValue$$implementation
+java.lang.Number#intValue$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Number#~init~$$implementation
+java.lang.Number#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Number
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Number:
+
+
+	ret
+
+
+global VTable#java.lang.Number
+	VTable#java.lang.Number:
+		dd hierarchy#java.lang.Number
+		dd ugly#java.lang.Number
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Number#intValue$$implementation
+global VTable#@Ljava.lang.Number
+	VTable#@Ljava.lang.Number:
+		dd hierarchy#@Ljava.lang.Number
+
+section .data
+align 4
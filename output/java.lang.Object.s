@@ -0,0 +1,155 @@
+extern __exception
+extern hierarchy#@Ljava.lang.Object
+extern __malloc
+extern VTable#@C
+extern ugly#java.lang.Object
+extern VTable#java.lang.String
+extern hierarchy#java.lang.Object
+
+section .text
+global java.lang.Object#~init~$$implementation
+java.lang.Object#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.Object
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Object#equals$java.lang.Object$implementation
+java.lang.Object#equals$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, [ebp+8] 
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_0
+mov eax, 0xffffffff
+INFIX_0:
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Object#toString$$implementation
+java.lang.Object#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, STRING_1
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Object#hashCode$$implementation
+java.lang.Object#hashCode$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, [INT_2]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Object#clone$$implementation
+java.lang.Object#clone$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, [ebp+8] 
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.Object#getClass$$implementation
+java.lang.Object#getClass$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, [NULL_3]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.Object:
+
+
+
+
+
+
+	ret
+
+
+global VTable#java.lang.Object
+	VTable#java.lang.Object:
+		dd hierarchy#java.lang.Object
+		dd ugly#java.lang.Object
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.Object
+	VTable#@Ljava.lang.Object:
+		dd hierarchy#@Ljava.lang.Object
+
+section .data
+align 4
+STRING_1:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_1
+STRCHARS_1:
+	dd VTable#@C
+	dd 18
+	dd 'S'
+	dd 'o'
+	dd 'm'
+	dd 'e'
+	dd ' '
+	dd 'r'
+	dd 'a'
+	dd 'n'
+	dd 'd'
+	dd 'o'
+	dd 'm'
+	dd ' '
+	dd 'o'
+	dd 'b'
+	dd 'j'
+	dd 'e'
+	dd 'c'
+	dd 't'
+INT_2:	; define label for int literal
+	dd 42
+NULL_3:	; define label for null literal
+	dd 0x0
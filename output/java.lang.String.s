@@ -0,0 +1,3233 @@
+extern __exception
+extern __malloc
+extern java.lang.Object#clone$$implementation
+extern java.util.Arrays#equals$@C?@C$implementation
+extern VTable#@C
+extern ugly#java.lang.String
+extern hierarchy#java.lang.String
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#~init~$$implementation
+extern hierarchy#@Ljava.lang.String
+
+section .text
+global java.lang.String#valueOf$B$
+	java.lang.String#valueOf$B$:
+		dd java.lang.String#valueOf$B$implementation
+global java.lang.String#valueOf$java.lang.Object$
+	java.lang.String#valueOf$java.lang.Object$:
+		dd java.lang.String#valueOf$java.lang.Object$implementation
+global java.lang.String#valueOf$I$
+	java.lang.String#valueOf$I$:
+		dd java.lang.String#valueOf$I$implementation
+global java.lang.String#valueOf$S$
+	java.lang.String#valueOf$S$:
+		dd java.lang.String#valueOf$S$implementation
+global java.lang.String#valueOf$C$
+	java.lang.String#valueOf$C$:
+		dd java.lang.String#valueOf$C$implementation
+global java.lang.String#valueOf$java.lang.String$
+	java.lang.String#valueOf$java.lang.String$:
+		dd java.lang.String#valueOf$java.lang.String$implementation
+global java.lang.String#valueOf$Z$
+	java.lang.String#valueOf$Z$:
+		dd java.lang.String#valueOf$Z$implementation
+global java.lang.String#length$$implementation
+java.lang.String#length$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+		mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK0
+	call __exception
+NullCheckOK0:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#charAt$I$implementation
+java.lang.String#charAt$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody0
+	call __exception
+ArrayAccessBody0: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#~init~$$implementation
+java.lang.String#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.String
+	add esp, 4 	; remove object for initializer
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	push eax	; push lhs to stack
+	; array creation
+	mov dword eax, [INT_1]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#~init~$@C$implementation
+java.lang.String#~init~$@C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 8	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.String
+	add esp, 4 	; remove object for initializer
+		mov eax, [ebp+8] 
+
+	add eax, 4
+	push eax	; push lhs to stack
+	; array creation
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK1
+	call __exception
+NullCheckOK1:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_2]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_0
+LOOP_0:
+		mov eax, [ebp+8] 
+
+	add eax, 4
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody1
+	call __exception
+ArrayAccessBody1: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody2
+	call __exception
+ArrayAccessBody2: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_3]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_0:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK2
+	call __exception
+NullCheckOK2:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_0
+mov eax, 0xffffffff
+INFIX_0:
+
+cmp eax, 0x0
+jne LOOP_0
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#~init~$java.lang.String$implementation
+java.lang.String#~init~$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.String
+	add esp, 4 	; remove object for initializer
+		mov eax, [ebp+8] 
+
+	add eax, 4
+	push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK3
+	call __exception
+NullCheckOK3:
+	add eax, 4
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#concat$java.lang.String$implementation
+java.lang.String#concat$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_4]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax ; store lhs
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK4
+	call __exception
+NullCheckOK4:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+pop ebx ; restore lhs
+add eax, ebx
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_5]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_1
+LOOP_1:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody3
+	call __exception
+ArrayAccessBody3: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody4
+	call __exception
+ArrayAccessBody4: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_6]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_1:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_1
+mov eax, 0xffffffff
+INFIX_1:
+
+cmp eax, 0x0
+jne LOOP_1
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_7]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_2
+LOOP_2:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody5
+	call __exception
+ArrayAccessBody5: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK5
+	call __exception
+NullCheckOK5:
+	add eax, 4
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody6
+	call __exception
+ArrayAccessBody6: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_8]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_2:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK6
+	call __exception
+NullCheckOK6:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_2
+mov eax, 0xffffffff
+INFIX_2:
+
+cmp eax, 0x0
+jne LOOP_2
+	; class instance creation: String
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+
+	push eax 	; push argument 0
+	mov eax, 4*2	; size of object
+	call __malloc
+	mov dword [eax], VTable#java.lang.String
+	push eax
+	call java.lang.Object#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	push eax
+	call java.lang.String#~init~$@C$implementation
+	pop eax 	; pop object address back in eax
+	add esp, 4 * 1
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$C$implementation
+java.lang.String#valueOf$C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 8	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+	mov dword eax, [INT_9]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, [INT_10]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody7
+	call __exception
+ArrayAccessBody7: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	; class instance creation: String
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	push eax 	; push argument 0
+	mov eax, 4*2	; size of object
+	call __malloc
+	mov dword [eax], VTable#java.lang.String
+	push eax
+	call java.lang.Object#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	push eax
+	call java.lang.String#~init~$@C$implementation
+	pop eax 	; pop object address back in eax
+	add esp, 4 * 1
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$I$implementation
+java.lang.String#valueOf$I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 24	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+	mov dword eax, [INT_11]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_12]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [BOOLEAN_13]
+
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_14]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_3
+mov eax, 0xffffffff
+INFIX_3:
+
+cmp eax, 0xffffffff
+jne ELSE_3
+	mov dword eax, STRING_15
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_3
+ELSE_3:
+ENDIF_3:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_16]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_4
+mov eax, 0xffffffff
+INFIX_4:
+
+cmp eax, 0xffffffff
+jne ELSE_4
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [BOOLEAN_17]
+
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	neg eax	; negation operation
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_4
+ELSE_4:
+ENDIF_4:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_18]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_5
+mov eax, 0xffffffff
+INFIX_5:
+
+cmp eax, 0xffffffff
+jne ELSE_5
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody8
+	call __exception
+ArrayAccessBody8: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, [CHAR_19]
+
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_20]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_5
+ELSE_5:
+jmp COND_6
+LOOP_6:
+	mov dword eax, ebp 
+	sub eax, 16	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_21]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp ebx, 0
+jne INFIX_6
+call __exception
+INFIX_6:
+cdq	; sign-extend
+idiv ebx
+mov eax, edx
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_22]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp ebx, 0
+jne INFIX_7
+call __exception
+INFIX_7:
+cdq	; sign-extend
+idiv ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody9
+	call __exception
+ArrayAccessBody9: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 16	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [CHAR_23]
+
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_24]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+COND_6:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_25]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jle INFIX_8
+mov eax, 0xffffffff
+INFIX_8:
+
+cmp eax, 0x0
+jne LOOP_6
+
+ENDIF_5:
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+cmp eax, 0xffffffff
+jne ELSE_7
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody10
+	call __exception
+ArrayAccessBody10: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, [CHAR_26]
+
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_27]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_7
+ELSE_7:
+ENDIF_7:
+	mov dword eax, ebp 
+	sub eax, 16	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_28]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_8
+LOOP_8:
+	mov dword eax, ebp 
+	sub eax, 16	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody11
+	call __exception
+ArrayAccessBody11: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_29]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody12
+	call __exception
+ArrayAccessBody12: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_30]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_8:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_11
+mov eax, 0xffffffff
+INFIX_11:
+
+cmp eax, 0x0
+jne LOOP_8
+	; class instance creation: String
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	sub eax, 16	; eax contains local address
+	mov eax, [eax]
+
+	push eax 	; push argument 0
+	mov eax, 4*2	; size of object
+	call __malloc
+	mov dword [eax], VTable#java.lang.String
+	push eax
+	call java.lang.Object#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	push eax
+	call java.lang.String#~init~$@C$implementation
+	pop eax 	; pop object address back in eax
+	add esp, 4 * 1
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$S$implementation
+java.lang.String#valueOf$S$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$I$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$B$implementation
+java.lang.String#valueOf$B$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	call java.lang.String#valueOf$I$implementation
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$Z$implementation
+java.lang.String#valueOf$Z$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+cmp eax, 0xffffffff
+jne ELSE_9
+	mov dword eax, STRING_31
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_9
+ELSE_9:
+	mov dword eax, STRING_32
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+ENDIF_9:
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$java.lang.Object$implementation
+java.lang.String#valueOf$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [NULL_33]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_12
+mov eax, 0xffffffff
+INFIX_12:
+
+cmp eax, 0xffffffff
+jne ELSE_10
+	mov dword eax, STRING_34
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_10
+ELSE_10:
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK7
+	call __exception
+NullCheckOK7:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 12] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+ENDIF_10:
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#valueOf$java.lang.String$implementation
+java.lang.String#valueOf$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [NULL_35]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_13
+mov eax, 0xffffffff
+INFIX_13:
+
+cmp eax, 0xffffffff
+jne ELSE_11
+	mov dword eax, STRING_36
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_11
+ELSE_11:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+ENDIF_11:
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#equals$java.lang.Object$implementation
+java.lang.String#equals$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [NULL_37]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jne INFIX_14
+mov eax, 0xffffffff
+INFIX_14:
+
+cmp eax, 0xffffffff
+jne ELSE_12
+	mov dword eax, [BOOLEAN_38]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_12
+ELSE_12:
+ENDIF_12:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+		cmp eax, 0x0	 ;check null
+		je _INSTANCEOFEND_1
+		mov eax, [eax] 	 ;get first frame of object, the pointer of VTable
+		mov eax, [eax] 	 ;get first frame of VTable, the point of subclass table
+		add eax, 84	 ;get the pointer of type in subclass table
+		push eax 	 ;put eax in stack
+		mov eax, 0x0 	 ;set eax to false
+		pop ebx
+		cmp dword [ebx], 0xffffffff
+		jne _INSTANCEOFEND_1
+		mov eax, 0xffffffff
+		_INSTANCEOFEND_1:
+	not eax	; logical negation operation
+
+cmp eax, 0xffffffff
+jne ELSE_13
+	mov dword eax, [BOOLEAN_39]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_13
+ELSE_13:
+ENDIF_13:
+	push ecx
+	push edx
+	push esi
+	push edi
+	push 0 	; place holder because there is no this object for static method
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	cmp eax, 0
+	je CastFinish0
+		mov ebx, eax 	 ;copy eax
+		mov eax, [eax] 	 ;get first frame of object, the pointer of VTable
+		mov eax, [eax] 	 ;get first frame of VTable, the point of subclass table
+		add eax, 84	 ;get the pointer of type in subclass table
+		cmp dword [eax], 0xffffffff
+		jne __exception
+		mov eax, ebx 	 ;restore eax
+CastFinish0:
+
+	add eax, 4
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 1
+	push ebx
+	pop eax
+	push eax
+	call java.util.Arrays#equals$@C?@C$implementation
+	add esp, 3*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#substring$I?I$implementation
+java.lang.String#substring$I?I$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_40]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_41]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_15
+mov eax, 0xffffffff
+INFIX_15:
+
+cmp eax, 0xffffffff
+jne ELSE_14
+	mov dword eax, STRING_42
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_14
+ELSE_14:
+ENDIF_14:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jle INFIX_16
+mov eax, 0xffffffff
+INFIX_16:
+
+cmp eax, 0xffffffff
+jne ELSE_15
+	mov dword eax, STRING_43
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_15
+ELSE_15:
+ENDIF_15:
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_17
+mov eax, 0xffffffff
+INFIX_17:
+
+cmp eax, 0xffffffff
+jne ELSE_16
+	mov dword eax, STRING_44
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_16
+ELSE_16:
+ENDIF_16:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_17
+LOOP_17:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody13
+	call __exception
+ArrayAccessBody13: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_45]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_17:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_20
+mov eax, 0xffffffff
+INFIX_20:
+
+cmp eax, 0x0
+jne LOOP_17
+	; class instance creation: String
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+
+	push eax 	; push argument 0
+	mov eax, 4*2	; size of object
+	call __malloc
+	mov dword [eax], VTable#java.lang.String
+	push eax
+	call java.lang.Object#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	push eax
+	call java.lang.String#~init~$@C$implementation
+	pop eax 	; pop object address back in eax
+	add esp, 4 * 1
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#trim$$implementation
+java.lang.String#trim$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_46]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_47]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_48]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_18
+LOOP_18:
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_49]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_18:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_22
+mov eax, 0xffffffff
+INFIX_22:
+cmp eax,0xffffffff
+jne INFIX_21
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_50]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jle INFIX_23
+mov eax, 0x0
+INFIX_23:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_21:
+
+cmp eax, 0x0
+jne LOOP_18
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [INT_51]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_19
+LOOP_19:
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_52]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+sub eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_19:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, [INT_53]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_27
+mov eax, 0x0
+INFIX_27:
+cmp eax,0xffffffff
+jne INFIX_26
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 32] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+push eax	; push lhs to stack
+	mov dword eax, [CHAR_54]
+
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jle INFIX_28
+mov eax, 0x0
+INFIX_28:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_26:
+
+cmp eax, 0x0
+jne LOOP_19
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jle INFIX_29
+mov eax, 0xffffffff
+INFIX_29:
+
+cmp eax, 0xffffffff
+jne ELSE_20
+	mov dword eax, STRING_55
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_20
+ELSE_20:
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_56]
+pop ebx ; restore lhs
+add eax, ebx
+
+pop ebx
+	push eax 	; push argument 1
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 40] 	; call class method.
+	add esp, 3*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+ENDIF_20:
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#hashCode$$implementation
+java.lang.String#hashCode$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_57]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_58]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_21
+LOOP_21:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_59]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+imul eax, ebx
+push eax ; store lhs
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody14
+	call __exception
+ArrayAccessBody14: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_60]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_21:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK8
+	call __exception
+NullCheckOK8:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_31
+mov eax, 0xffffffff
+INFIX_31:
+
+cmp eax, 0x0
+jne LOOP_21
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#toString$$implementation
+java.lang.String#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, [ebp+8] 
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#compareTo$java.lang.Object$implementation
+java.lang.String#compareTo$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	cmp eax, 0
+	je CastFinish1
+		mov ebx, eax 	 ;copy eax
+		mov eax, [eax] 	 ;get first frame of object, the pointer of VTable
+		mov eax, [eax] 	 ;get first frame of VTable, the point of subclass table
+		add eax, 84	 ;get the pointer of type in subclass table
+		cmp dword [eax], 0xffffffff
+		jne __exception
+		mov eax, ebx 	 ;restore eax
+CastFinish1:
+
+pop ebx
+	push eax 	; push argument 0
+	push ebx
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 52] 	; call class method.
+	add esp, 2*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#compareTo$java.lang.String$implementation
+java.lang.String#compareTo$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_61]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [BOOLEAN_62]
+
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_22
+LOOP_22:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK9
+	call __exception
+NullCheckOK9:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_33
+mov eax, 0x0
+INFIX_33:
+cmp eax,0xffffffff
+jne INFIX_32
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+			mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK10
+	call __exception
+NullCheckOK10:
+	add eax, 4
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK11
+	call __exception
+NullCheckOK11:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_34
+mov eax, 0x0
+INFIX_34:
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+mov eax, ebx
+INFIX_32:
+
+cmp eax, 0xffffffff
+jne ELSE_23
+	mov dword eax, [INT_63]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_23
+ELSE_23:
+ENDIF_23:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK12
+	call __exception
+NullCheckOK12:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_35
+mov eax, 0x0
+INFIX_35:
+
+cmp eax, 0xffffffff
+jne ELSE_24
+	mov dword eax, [INT_64]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_24
+ELSE_24:
+ENDIF_24:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+			mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK13
+	call __exception
+NullCheckOK13:
+	add eax, 4
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK14
+	call __exception
+NullCheckOK14:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_36
+mov eax, 0x0
+INFIX_36:
+
+cmp eax, 0xffffffff
+jne ELSE_25
+	mov dword eax, [INT_65]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_25
+ELSE_25:
+ENDIF_25:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody15
+	call __exception
+ArrayAccessBody15: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK15
+	call __exception
+NullCheckOK15:
+	add eax, 4
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody16
+	call __exception
+ArrayAccessBody16: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_37
+mov eax, 0xffffffff
+INFIX_37:
+
+cmp eax, 0xffffffff
+jne ELSE_26
+	mov dword eax, [INT_66]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_26
+ELSE_26:
+ENDIF_26:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody17
+	call __exception
+ArrayAccessBody17: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK16
+	call __exception
+NullCheckOK16:
+	add eax, 4
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody18
+	call __exception
+ArrayAccessBody18: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jle INFIX_38
+mov eax, 0xffffffff
+INFIX_38:
+
+cmp eax, 0xffffffff
+jne ELSE_27
+	mov dword eax, [INT_67]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_27
+ELSE_27:
+ENDIF_27:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_68]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+COND_22:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+
+cmp eax, 0x0
+jne LOOP_22
+	mov dword eax, [INT_69]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#toCharArray$$implementation
+java.lang.String#toCharArray$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 12	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	; array creation
+		mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK17
+	call __exception
+NullCheckOK17:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+	push eax
+	mov ebx, 4
+	mul ebx
+	add eax, 8
+	call __malloc
+	pop ebx
+	push eax
+	mov dword [eax], VTable#@C
+	add eax, 4
+	mov dword [eax], ebx
+	pop eax
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_70]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_28
+LOOP_28:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody19
+	call __exception
+ArrayAccessBody19: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	push eax	; push lhs to stack
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody20
+	call __exception
+ArrayAccessBody20: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_71]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_28:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK18
+	call __exception
+NullCheckOK18:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_39
+mov eax, 0xffffffff
+INFIX_39:
+
+cmp eax, 0x0
+jne LOOP_28
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.String#indexOf$java.lang.String$implementation
+java.lang.String#indexOf$java.lang.String$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 16	; space for local variables
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_72]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_73]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_74]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_29
+LOOP_29:
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [BOOLEAN_75]
+
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [INT_76]
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_30
+LOOP_30:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+pop ebx ; restore lhs
+add eax, ebx
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jge INFIX_40
+mov eax, 0x0
+INFIX_40:
+
+cmp eax, 0xffffffff
+jne ELSE_31
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [BOOLEAN_77]
+
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_31
+ELSE_31:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody21
+	call __exception
+ArrayAccessBody21: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK19
+	call __exception
+NullCheckOK19:
+	add eax, 4
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody22
+	call __exception
+ArrayAccessBody22: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jne INFIX_41
+mov eax, 0x0
+INFIX_41:
+
+cmp eax, 0xffffffff
+jne ELSE_32
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, [BOOLEAN_78]
+
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+
+jmp ENDIF_32
+ELSE_32:
+ENDIF_32:
+
+ENDIF_31:
+
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_79]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_30:
+	mov dword eax, ebp 
+	sub eax, 8	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK20
+	call __exception
+NullCheckOK20:
+	push eax 	; push object for method invocation
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_42
+mov eax, 0xffffffff
+INFIX_42:
+
+cmp eax, 0x0
+jne LOOP_30
+	mov dword eax, ebp 
+	sub eax, 12	; eax contains local address
+	mov eax, [eax]
+
+cmp eax, 0xffffffff
+jne ELSE_33
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_33
+ELSE_33:
+ENDIF_33:
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_80]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_29:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov dword eax, [ebp + 8] 	; move object address to eax
+	push eax 	; push object address
+	pop eax
+	push eax
+	mov dword eax, [eax] 	; point to VTable
+	call [eax + 28] 	; call class method.
+	add esp, 1*4	; caller cleanup arguments.
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_43
+mov eax, 0xffffffff
+INFIX_43:
+
+cmp eax, 0x0
+jne LOOP_29
+	mov dword eax, [INT_81]
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.String:
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+	call instance_init_default_java.lang.String#chars
+
+	ret
+	instance_init_default_java.lang.String#chars:
+	mov dword eax, [ebp + 8] 	; put object address in eax
+	add eax, 4 	; field address
+		push eax 	;store field address
+	mov eax, 0x0	; init is null
+		mov edx, eax 	; put value of field to edx
+		pop eax 	; pop field address back to eax
+	mov [eax], edx	; initiallize field
+	ret	; initiallize field ret
+
+
+global VTable#java.lang.String
+	VTable#java.lang.String:
+		dd hierarchy#java.lang.String
+		dd ugly#java.lang.String
+		dd java.lang.String#equals$java.lang.Object$implementation
+		dd java.lang.String#toString$$implementation
+		dd java.lang.String#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.String#length$$implementation
+		dd java.lang.String#charAt$I$implementation
+		dd java.lang.String#concat$java.lang.String$implementation
+		dd java.lang.String#substring$I?I$implementation
+		dd java.lang.String#trim$$implementation
+		dd java.lang.String#compareTo$java.lang.Object$implementation
+		dd java.lang.String#compareTo$java.lang.String$implementation
+		dd java.lang.String#toCharArray$$implementation
+		dd java.lang.String#indexOf$java.lang.String$implementation
+global VTable#@Ljava.lang.String
+	VTable#@Ljava.lang.String:
+		dd hierarchy#@Ljava.lang.String
+
+section .data
+align 4
+INT_1:	; define label for int literal
+	dd 0
+INT_2:	; define label for int literal
+	dd 0
+INT_3:	; define label for int literal
+	dd 1
+INT_4:	; define label for int literal
+	dd 0
+INT_5:	; define label for int literal
+	dd 0
+INT_6:	; define label for int literal
+	dd 1
+INT_7:	; define label for int literal
+	dd 0
+INT_8:	; define label for int literal
+	dd 1
+INT_9:	; define label for int literal
+	dd 1
+INT_10:	; define label for int literal
+	dd 0
+INT_11:	; define label for int literal
+	dd 15
+INT_12:	; define label for int literal
+	dd 0
+BOOLEAN_13:	; define label for boolean literal
+	dd 0x0
+INT_14:	; define label for int literal
+	dd -2147483648
+STRING_15:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_15
+STRCHARS_15:
+	dd VTable#@C
+	dd 11
+	dd '-'
+	dd '2'
+	dd '1'
+	dd '4'
+	dd '7'
+	dd '4'
+	dd '8'
+	dd '3'
+	dd '6'
+	dd '4'
+	dd '8'
+INT_16:	; define label for int literal
+	dd 0
+BOOLEAN_17:	; define label for boolean literal
+	dd 0xffffffff
+INT_18:	; define label for int literal
+	dd 0
+CHAR_19:	; define label for char literal
+	dd '0'
+INT_20:	; define label for int literal
+	dd 1
+INT_21:	; define label for int literal
+	dd 10
+INT_22:	; define label for int literal
+	dd 10
+CHAR_23:	; define label for char literal
+	dd '0'
+INT_24:	; define label for int literal
+	dd 1
+INT_25:	; define label for int literal
+	dd 0
+CHAR_26:	; define label for char literal
+	dd '-'
+INT_27:	; define label for int literal
+	dd 1
+INT_28:	; define label for int literal
+	dd 0
+INT_29:	; define label for int literal
+	dd 1
+INT_30:	; define label for int literal
+	dd 1
+STRING_31:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_31
+STRCHARS_31:
+	dd VTable#@C
+	dd 4
+	dd 't'
+	dd 'r'
+	dd 'u'
+	dd 'e'
+STRING_32:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_32
+STRCHARS_32:
+	dd VTable#@C
+	dd 5
+	dd 'f'
+	dd 'a'
+	dd 'l'
+	dd 's'
+	dd 'e'
+NULL_33:	; define label for null literal
+	dd 0x0
+STRING_34:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_34
+STRCHARS_34:
+	dd VTable#@C
+	dd 4
+	dd 'n'
+	dd 'u'
+	dd 'l'
+	dd 'l'
+NULL_35:	; define label for null literal
+	dd 0x0
+STRING_36:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_36
+STRCHARS_36:
+	dd VTable#@C
+	dd 4
+	dd 'n'
+	dd 'u'
+	dd 'l'
+	dd 'l'
+NULL_37:	; define label for null literal
+	dd 0x0
+BOOLEAN_38:	; define label for boolean literal
+	dd 0x0
+BOOLEAN_39:	; define label for boolean literal
+	dd 0x0
+INT_40:	; define label for int literal
+	dd 0
+INT_41:	; define label for int literal
+	dd 0
+STRING_42:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_42
+STRCHARS_42:
+	dd VTable#@C
+	dd 0
+STRING_43:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_43
+STRCHARS_43:
+	dd VTable#@C
+	dd 0
+STRING_44:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_44
+STRCHARS_44:
+	dd VTable#@C
+	dd 0
+INT_45:	; define label for int literal
+	dd 1
+INT_46:	; define label for int literal
+	dd 0
+INT_47:	; define label for int literal
+	dd 0
+INT_48:	; define label for int literal
+	dd 0
+INT_49:	; define label for int literal
+	dd 1
+CHAR_50:	; define label for char literal
+	dd ' '
+INT_51:	; define label for int literal
+	dd 1
+INT_52:	; define label for int literal
+	dd 1
+INT_53:	; define label for int literal
+	dd 0
+CHAR_54:	; define label for char literal
+	dd ' '
+STRING_55:	; define label for string literal
+	dd VTable#java.lang.String
+	dd STRCHARS_55
+STRCHARS_55:
+	dd VTable#@C
+	dd 0
+INT_56:	; define label for int literal
+	dd 1
+INT_57:	; define label for int literal
+	dd 0
+INT_58:	; define label for int literal
+	dd 0
+INT_59:	; define label for int literal
+	dd 31
+INT_60:	; define label for int literal
+	dd 1
+INT_61:	; define label for int literal
+	dd 0
+BOOLEAN_62:	; define label for boolean literal
+	dd 0xffffffff
+INT_63:	; define label for int literal
+	dd 0
+INT_64:	; define label for int literal
+	dd -1
+INT_65:	; define label for int literal
+	dd 1
+INT_66:	; define label for int literal
+	dd -1
+INT_67:	; define label for int literal
+	dd 1
+INT_68:	; define label for int literal
+	dd 1
+INT_69:	; define label for int literal
+	dd 0
+INT_70:	; define label for int literal
+	dd 0
+INT_71:	; define label for int literal
+	dd 1
+INT_72:	; define label for int literal
+	dd 0
+INT_73:	; define label for int literal
+	dd 0
+INT_74:	; define label for int literal
+	dd 0
+BOOLEAN_75:	; define label for boolean literal
+	dd 0xffffffff
+INT_76:	; define label for int literal
+	dd 0
+BOOLEAN_77:	; define label for boolean literal
+	dd 0x0
+BOOLEAN_78:	; define label for boolean literal
+	dd 0x0
+INT_79:	; define label for int literal
+	dd 1
+INT_80:	; define label for int literal
+	dd 1
+INT_81:	; define label for int literal
+	dd -1
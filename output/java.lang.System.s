@@ -0,0 +1,91 @@
+extern __exception
+extern __malloc
+extern java.io.OutputStream#~init~$$implementation
+extern java.lang.Object#hashCode$$implementation
+extern VTable#java.io.PrintStream
+extern java.io.PrintStream#~init~$$implementation
+extern hierarchy#java.lang.System
+extern java.lang.Object#clone$$implementation
+extern hierarchy#@Ljava.lang.System
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern ugly#java.lang.System
+
+section .text
+global java.lang.System#gc$$
+	java.lang.System#gc$$:
+		dd java.lang.System#gc$$implementation
+global java.lang.System#gc$$implementation
+java.lang.System#gc$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.lang.System#~init~$$implementation
+java.lang.System#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.lang.System
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.lang.System:
+
+
+
+	ret
+
+
+global VTable#java.lang.System
+	VTable#java.lang.System:
+		dd hierarchy#java.lang.System
+		dd ugly#java.lang.System
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.lang.System
+	VTable#@Ljava.lang.System:
+		dd hierarchy#@Ljava.lang.System
+
+	global static_init_java.lang.System#out
+	static_init_java.lang.System#out:
+			; class instance creation: PrintStream
+	push ecx
+	push edx
+	push esi
+	push edi
+	mov eax, 4*1	; size of object
+	call __malloc
+	mov dword [eax], VTable#java.io.PrintStream
+	push eax
+	call java.io.OutputStream#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	push eax
+	call java.io.PrintStream#~init~$$implementation
+	pop eax 	; pop object address back in eax
+	add esp, 4 * 0
+	pop edi
+	pop esi
+	pop edx
+	pop ecx
+
+	mov [java.lang.System#out$realfield], eax	; initiallize field
+		ret
+section .data
+align 4
+global java.lang.System#out	; define global label for field
+java.lang.System#out:	; label start
+	dd java.lang.System#out$realfield	; points to the dec
+global java.lang.System#out$realfield	; define global label for field
+java.lang.System#out$realfield:	; label start
+	dd 0x0	; default value: 0 false null
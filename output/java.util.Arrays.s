@@ -0,0 +1,410 @@
+extern hierarchy#java.util.Arrays
+extern __exception
+extern __malloc
+extern java.lang.Object#hashCode$$implementation
+extern ugly#java.util.Arrays
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.Object#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern java.lang.Object#clone$$implementation
+extern hierarchy#@Ljava.util.Arrays
+
+section .text
+global java.util.Arrays#equals$@Z?@Z$
+	java.util.Arrays#equals$@Z?@Z$:
+		dd java.util.Arrays#equals$@Z?@Z$implementation
+global java.util.Arrays#equals$@C?@C$
+	java.util.Arrays#equals$@C?@C$:
+		dd java.util.Arrays#equals$@C?@C$implementation
+global java.util.Arrays#~init~$$implementation
+java.util.Arrays#~init~$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	push dword [ebp+8] 	; push object for initialiser
+	call instance_field_init$java.util.Arrays
+	add esp, 4 	; remove object for initializer
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.util.Arrays#equals$@Z?@Z$implementation
+java.util.Arrays#equals$@Z?@Z$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 8	; space for local variables
+		mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK0
+	call __exception
+NullCheckOK0:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK1
+	call __exception
+NullCheckOK1:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jne INFIX_0
+mov eax, 0x0
+INFIX_0:
+
+cmp eax, 0xffffffff
+jne ELSE_0
+	mov dword eax, [BOOLEAN_1]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_0
+ELSE_0:
+ENDIF_0:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_2]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_1
+LOOP_1:
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody0
+	call __exception
+ArrayAccessBody0: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody1
+	call __exception
+ArrayAccessBody1: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jne INFIX_1
+mov eax, 0x0
+INFIX_1:
+
+cmp eax, 0xffffffff
+jne ELSE_2
+	mov dword eax, [BOOLEAN_3]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_2
+ELSE_2:
+ENDIF_2:
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_4]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_1:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK2
+	call __exception
+NullCheckOK2:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_2
+mov eax, 0xffffffff
+INFIX_2:
+
+cmp eax, 0x0
+jne LOOP_1
+	mov dword eax, [BOOLEAN_5]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global java.util.Arrays#equals$@C?@C$implementation
+java.util.Arrays#equals$@C?@C$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 8	; space for local variables
+		mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK3
+	call __exception
+NullCheckOK3:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK4
+	call __exception
+NullCheckOK4:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jne INFIX_3
+mov eax, 0x0
+INFIX_3:
+
+cmp eax, 0xffffffff
+jne ELSE_3
+	mov dword eax, [BOOLEAN_6]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_3
+ELSE_3:
+ENDIF_3:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push variable address to stack
+	mov dword eax, [INT_7]
+	pop ebx	; pop variable address to ebx
+	mov [ebx], eax	; assignment
+
+jmp COND_4
+LOOP_4:
+	mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody2
+	call __exception
+ArrayAccessBody2: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+push eax	; push lhs to stack
+	mov dword eax, ebp 
+	add eax, 12 	; eax contains formal address
+	mov eax, [eax]
+	push eax
+	push eax
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+	pop ebx
+	mov ebx, [ebx+4]
+	cmp eax, ebx
+	jl ArrayAccessBody3
+	call __exception
+ArrayAccessBody3: 
+	mov ebx, eax 
+	mov eax, 4 
+	imul ebx ; get real offset
+	mov ebx, eax
+	pop eax
+	add eax, 8
+	add eax, ebx
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0xffffffff
+jne INFIX_4
+mov eax, 0x0
+INFIX_4:
+
+cmp eax, 0xffffffff
+jne ELSE_5
+	mov dword eax, [BOOLEAN_8]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+
+jmp ENDIF_5
+ELSE_5:
+ENDIF_5:
+
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	push eax	; push lhs to stack
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax ; store lhs
+	mov dword eax, [INT_9]
+pop ebx ; restore lhs
+add eax, ebx
+	pop ebx	; pop lhs to ebx
+	mov [ebx], eax	; assignment
+
+COND_4:
+	mov dword eax, ebp 
+	sub eax, 4	; eax contains local address
+	mov eax, [eax]
+push eax	; push lhs to stack
+		mov dword eax, ebp 
+	add eax, 16 	; eax contains formal address
+	mov eax, [eax]
+
+	cmp eax, 0
+	jne NullCheckOK5
+	call __exception
+NullCheckOK5:
+	add eax, 4 ; array.length
+	mov eax, [eax]
+mov ebx, eax	; move rhs to ebx
+pop eax	; pop lhs back to eax
+cmp eax, ebx
+mov eax, 0x0
+jge INFIX_5
+mov eax, 0xffffffff
+INFIX_5:
+
+cmp eax, 0x0
+jne LOOP_4
+	mov dword eax, [BOOLEAN_10]
+
+
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$java.util.Arrays:
+
+
+
+	ret
+
+
+global VTable#java.util.Arrays
+	VTable#java.util.Arrays:
+		dd hierarchy#java.util.Arrays
+		dd ugly#java.util.Arrays
+		dd java.lang.Object#equals$java.lang.Object$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#clone$$implementation
+		dd java.lang.Object#getClass$$implementation
+global VTable#@Ljava.util.Arrays
+	VTable#@Ljava.util.Arrays:
+		dd hierarchy#@Ljava.util.Arrays
+
+section .data
+align 4
+BOOLEAN_1:	; define label for boolean literal
+	dd 0x0
+INT_2:	; define label for int literal
+	dd 0
+BOOLEAN_3:	; define label for boolean literal
+	dd 0x0
+INT_4:	; define label for int literal
+	dd 1
+BOOLEAN_5:	; define label for boolean literal
+	dd 0xffffffff
+BOOLEAN_6:	; define label for boolean literal
+	dd 0x0
+INT_7:	; define label for int literal
+	dd 0
+BOOLEAN_8:	; define label for boolean literal
+	dd 0x0
+INT_9:	; define label for int literal
+	dd 1
+BOOLEAN_10:	; define label for boolean literal
+	dd 0xffffffff
@@ -0,0 +1,59 @@
+extern __exception
+extern __malloc
+extern hierarchy#joosc.lang.ObjInterface
+extern hierarchy#@Ljoosc.lang.ObjInterface
+
+section .text
+global joosc.lang.ObjInterface#equals$java.lang.Object$implementation
+joosc.lang.ObjInterface#equals$java.lang.Object$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global joosc.lang.ObjInterface#toString$$implementation
+joosc.lang.ObjInterface#toString$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global joosc.lang.ObjInterface#hashCode$$implementation
+joosc.lang.ObjInterface#hashCode$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+global joosc.lang.ObjInterface#getClass$$implementation
+joosc.lang.ObjInterface#getClass$$implementation:
+	push ebp 	; save old frame pointer
+	mov ebp, esp 	; move ebp to top of stack
+	sub esp, 0	; space for local variables
+	mov eax, 0 	; in the case of no return, make sure eax is null
+	mov esp, ebp 	; delete frame
+	pop ebp 	; restore to previous frame
+	ret 	; end of method
+instance_field_init$joosc.lang.ObjInterface:
+
+
+
+
+	ret
+
+
+global VTable#joosc.lang.ObjInterface
+	VTable#joosc.lang.ObjInterface:
+		dd hierarchy#joosc.lang.ObjInterface
+global VTable#@Ljoosc.lang.ObjInterface
+	VTable#@Ljoosc.lang.ObjInterface:
+		dd hierarchy#@Ljoosc.lang.ObjInterface
+
+section .data
+align 4
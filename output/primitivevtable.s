@@ -0,0 +1,25 @@
+extern hierarchy#@Z
+extern hierarchy#Z
+extern hierarchy#@B
+extern hierarchy#B
+extern hierarchy#@C
+extern hierarchy#C
+extern hierarchy#@I
+extern hierarchy#I
+extern hierarchy#@S
+extern hierarchy#S
+global VTable#@Z
+	VTable#@Z:
+		dd hierarchy#@Z
+global VTable#@B
+	VTable#@B:
+		dd hierarchy#@B
+global VTable#@C
+	VTable#@C:
+		dd hierarchy#@C
+global VTable#@I
+	VTable#@I:
+		dd hierarchy#@I
+global VTable#@S
+	VTable#@S:
+		dd hierarchy#@S
@@ -0,0 +1,18 @@
+extern __malloc
+extern __exception
+extern __debexit
+section .text
+extern static_init_java.lang.Boolean#MAX_VALUE
+extern static_init_java.lang.Byte#MAX_VALUE
+extern static_init_java.lang.System#out
+extern static_init_J2_forwardRef#b
+extern static_init_java.lang.Integer#MAX_VALUE
+
+global static_init
+	static_init:
+		call static_init_java.lang.Byte#MAX_VALUE
+		call static_init_java.lang.Boolean#MAX_VALUE
+		call static_init_java.lang.Integer#MAX_VALUE
+		call static_init_java.lang.System#out
+		call static_init_J2_forwardRef#b
+	ret
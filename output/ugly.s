@@ -0,0 +1,98 @@
+extern java.lang.Object#hashCode$$implementation
+extern java.lang.Character#toString$$implementation
+extern java.lang.Boolean#toString$$implementation
+extern java.lang.Object#equals$java.lang.Object$implementation
+extern java.lang.String#equals$java.lang.Object$implementation
+extern java.lang.Object#toString$$implementation
+extern java.lang.Byte#toString$$implementation
+extern java.lang.Integer#toString$$implementation
+extern java.lang.Short#toString$$implementation
+extern java.lang.Object#getClass$$implementation
+extern java.lang.String#hashCode$$implementation
+extern java.lang.String#toString$$implementation
+
+section .data
+global ugly#java.lang.Object
+	ugly#java.lang.Object:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Short
+	ugly#java.lang.Short:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Short#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.util.Arrays
+	ugly#java.util.Arrays:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.String
+	ugly#java.lang.String:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.String#hashCode$$implementation
+		dd java.lang.String#toString$$implementation
+		dd java.lang.String#equals$java.lang.Object$implementation
+global ugly#java.lang.Byte
+	ugly#java.lang.Byte:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Byte#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.System
+	ugly#java.lang.System:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Boolean
+	ugly#java.lang.Boolean:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Boolean#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Class
+	ugly#java.lang.Class:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Number
+	ugly#java.lang.Number:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Integer
+	ugly#java.lang.Integer:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Integer#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.lang.Character
+	ugly#java.lang.Character:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Character#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.io.OutputStream
+	ugly#java.io.OutputStream:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#java.io.PrintStream
+	ugly#java.io.PrintStream:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
+global ugly#J2_forwardRef
+	ugly#J2_forwardRef:
+		dd java.lang.Object#getClass$$implementation
+		dd java.lang.Object#hashCode$$implementation
+		dd java.lang.Object#toString$$implementation
+		dd java.lang.Object#equals$java.lang.Object$implementation
@@ -2,7 +2,10 @@ package ast;
 
 import java.io.File;
 import java.io.FileReader;
+import java.io.Serializable;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import parser.ParseTree;
 import parser.Parser;
@@ -10,9 +13,21 @@ import scanner.Scanner;
 import scanner.Token;
 import exceptions.ASTException;
 
-public class AST {
+public class AST implements Serializable {
+    private static final long serialVersionUID = 1L;
     public CompilationUnit root;
 
+    /**
+     * set on trees that already went through semantic analysis and code
+     * generation, e.g. restored from the standard library snapshot. per tree
+     * phases skip them.
+     */
+    public boolean precompiled = false;
+
+    // this tree's share of staticinit.s, recorded by the code generator
+    public String staticInitCalls = "";
+    public Set<String> staticInitExterns = new HashSet<String>();
+
     public AST(ParseTree pt) throws ASTException {
         root = new CompilationUnit(pt);
     }
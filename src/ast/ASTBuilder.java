@@ -0,0 +1,70 @@
+package ast;
+
+import parser.ParseTree;
+import parser.Reducer;
+import scanner.Symbol;
+import weeder.Weeder;
+
+/**
+ * Builds the AST while parsing. Run by the Parser on every reduction.
+ *
+ * As soon as a member of a type (a field, method or constructor) is
+ * reduced, it is weeded, its declaration is built and its subtree is
+ * replaced by a single node holding the declaration. Only the skeleton of
+ * the compilation unit (package, imports and type headers) is left to build
+ * the AST from, so the parse tree of a file never exists as a whole.
+ */
+public class ASTBuilder implements Reducer {
+    private final Weeder weeder;
+    private long nodes = 0;
+    private long tokens = 0;
+
+    /**
+     * @param typeName the name the type in the file has to have
+     */
+    public ASTBuilder(String typeName) {
+        weeder = new Weeder(typeName);
+    }
+
+    public ParseTree reduce(int rule, Symbol lhs, ParseTree[] stack, int from, int length) throws Exception {
+        nodes++;
+        for (int i = from; i < from + length; i++) {
+            if (stack[i].getLexeme() != null) {
+                nodes++;
+                tokens++;
+            }
+        }
+        ParseTree node = new ParseTree(lhs);
+        node.addChildren(stack, from, length);
+
+        if (Weeder.isMember(lhs)) {
+            weeder.weedMember(node);
+            BodyDeclaration member = lhs == Symbol.FieldDeclaration ? new FieldDeclaration(node)
+                    : new MethodDeclaration(node);
+            return new ParseTree(lhs, member);
+        }
+        if (lhs == Symbol.ClassDeclaration || lhs == Symbol.InterfaceDeclaration) {
+            weeder.weedType(node);
+        }
+        return node;
+    }
+
+    /**
+     * the AST of the compilation unit parsed into root.
+     */
+    public AST build(ParseTree root) throws Exception {
+        weeder.finish();
+        return new AST(root);
+    }
+
+    /**
+     * nodes of the parse tree, counting the ones that were dropped.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTokens() {
+        return tokens;
+    }
+}
@@ -1,5 +1,7 @@
 package ast;
 
+import java.io.Serializable;
+
 import environment.Environment;
 import exceptions.ASTException;
 
@@ -8,7 +10,8 @@ import exceptions.ASTException;
  * @author zanel
  *
  */
-public abstract class ASTNode {
+public abstract class ASTNode implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     ASTNode parentNode = null;
     Environment env = null;
@@ -4,6 +4,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class ArrayType extends Type {
+    private static final long serialVersionUID = 1L;
     public Type type;
 
     public ArrayType(ParseTree pt) throws ASTException {
@@ -22,6 +23,21 @@ public class ArrayType extends Type {
         type = elemType;
     }
 
+    /**
+     * the canonical type of arrays of element.
+     */
+    public static ArrayType of(Type element) {
+        Type canonical = element.canonical();
+        ArrayType type = canonical.arrayOf;
+        return TypeTable.current(type) ? type : TypeTable.arrayType(canonical);
+    }
+
+    @Override
+    public Type canonical() {
+        Type element = type.canonical();
+        return element == null ? null : of(element);
+    }
+
     public void accept(Visitor v) throws Exception {
         v.visit(this);
     }
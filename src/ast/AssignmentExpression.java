@@ -6,6 +6,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class AssignmentExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public Expression lhs;
     public Expression expr;
 
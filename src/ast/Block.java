@@ -15,6 +15,7 @@ import exceptions.ASTException;
  * A block is also a statement for nested blocks.
  */
 public class Block extends Statement {
+    private static final long serialVersionUID = 1L;
     // a block is just a list of statements
     public List<Statement> statements;
     private Statement last;
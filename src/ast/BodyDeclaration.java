@@ -9,5 +9,6 @@ package ast;
  *
  */
 public abstract class BodyDeclaration extends ASTNode{
+    private static final long serialVersionUID = 1L;
 
 }
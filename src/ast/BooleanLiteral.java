@@ -4,6 +4,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class BooleanLiteral extends Expression {
+    private static final long serialVersionUID = 1L;
     public boolean value;
 
     public BooleanLiteral(ParseTree pt) throws ASTException {
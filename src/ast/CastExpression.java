@@ -9,6 +9,7 @@ import exceptions.ASTException;
 import exceptions.NameException;
 
 public class CastExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public Type type;
     public Expression expr;
     public Expression unary;
@@ -3,6 +3,7 @@ package ast;
 import parser.ParseTree;
 
 public class CharacterLiteral extends Expression{
+    private static final long serialVersionUID = 1L;
     public String value;
 
     public CharacterLiteral(ParseTree pt) {
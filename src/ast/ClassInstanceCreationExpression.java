@@ -6,6 +6,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class ClassInstanceCreationExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public Type type;
     public List<Expression> arglist;    
 
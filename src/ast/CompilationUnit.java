@@ -7,6 +7,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class CompilationUnit extends ASTNode{
+    private static final long serialVersionUID = 1L;
     public PackageDeclaration pkg = null;
     public List<ImportDeclaration> imports = new LinkedList<ImportDeclaration>();
     public List<TypeDeclaration> types = new LinkedList<TypeDeclaration>();
@@ -8,6 +8,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public abstract class Expression extends ASTNode{
+    private static final long serialVersionUID = 1L;
 
     Type _type;
     public static Expression parseExpression(ParseTree pt) throws ASTException {
@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class ExpressionStatement extends Statement{
+    private static final long serialVersionUID = 1L;
 
     public Expression statementExpression;
 
@@ -8,11 +8,14 @@ import exceptions.ASTException;
 
 
 public class FieldDeclaration extends BodyDeclaration{
+    private static final long serialVersionUID = 1L;
     // zero or more
     public List<Modifier> modifiers = new LinkedList<Modifier>();
     public Type type = null; 
     public String id = null;
     public Expression initializer = null;
+    // label, built once by SigHelper
+    public String sig = null;
 //    int offset;
 
     public FieldDeclaration(ParseTree pt) throws ASTException {
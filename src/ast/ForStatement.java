@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class ForStatement extends Statement{
+    private static final long serialVersionUID = 1L;
 
     // type for forInit? It could be VariableDeclaration or StatementExpression.
     // So use ASTNode for now
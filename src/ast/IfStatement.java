@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class IfStatement extends Statement{
+    private static final long serialVersionUID = 1L;
 
     public Expression ifCondition;
     public Statement ifStatement;
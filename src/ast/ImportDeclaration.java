@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class ImportDeclaration extends ASTNode {
+    private static final long serialVersionUID = 1L;
     public ImportDeclaration next = null;
     public Name name = null;
     public boolean onDemand = false;
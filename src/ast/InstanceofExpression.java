@@ -6,6 +6,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class InstanceofExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public Expression expr;
     public Type type;
 
@@ -8,6 +8,7 @@ import parser.ParseTree;
  *
  */
 public class IntegerLiteral extends Expression {
+    private static final long serialVersionUID = 1L;
     public String value;
     public IntegerLiteral(ParseTree pt) {
         value = pt.getLexeme();
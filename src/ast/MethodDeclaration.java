@@ -1,15 +1,14 @@
 package ast;
 
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 import parser.ParseTree;
 import scanner.Symbol;
 import exceptions.ASTException;
 
 public class MethodDeclaration extends BodyDeclaration{
+    private static final long serialVersionUID = 1L;
     public List<Modifier> modifiers = new LinkedList<Modifier>();
     public boolean isConstructor = false;
     public boolean isAbstract = false;
@@ -20,10 +19,14 @@ public class MethodDeclaration extends BodyDeclaration{
     public List<VariableDeclaration> parameters = new LinkedList<VariableDeclaration>();
     public Block body = null;
 
-    // for local var and args offset
-    private Map<VariableDeclaration, Integer> varOffSet = new HashMap<VariableDeclaration, Integer>();
+    // for local var and args offset, the offsets are kept on the variables
     public int frameSize = 0;
 
+    // names built once parameter types are linked, see NameHelper and SigHelper
+    public String mangledName = null;
+    public String sigSuffix = null;
+    public String implementationSig = null;
+
     public MethodDeclaration(ParseTree pt) throws ASTException {
         if (pt.getTokenType() == Symbol.MethodDeclaration
                 || pt.getTokenType() == Symbol.AbstractMethodDeclaration) {
@@ -150,15 +153,14 @@ public class MethodDeclaration extends BodyDeclaration{
     }
 
     public void addVarOffSet(VariableDeclaration vd, int offset) {
-        varOffSet.put(vd, offset);
+        vd.setOffSet(offset);
     }
 
     public int getVarOffSet(VariableDeclaration vd) throws Exception {
-        Integer offset = varOffSet.get(vd);
-        if (offset == null) {
+        if (!vd.hasOffSet()) {
             throw new Exception("Variable OffSet not found: " + vd.id);
         }
-        return offset;
+        return vd.getOffSet();
     }
 
 }
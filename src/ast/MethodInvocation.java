@@ -6,6 +6,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class MethodInvocation extends Expression {
+    private static final long serialVersionUID = 1L;
     public Expression expr;
     public SimpleName id;
     public List<Expression> arglist;
@@ -1,12 +1,14 @@
 package ast;
 
+import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 
 import parser.ParseTree;
 import exceptions.ASTException;
 
-public class Modifier implements Next{
+public class Modifier implements Next, Serializable {
+    private static final long serialVersionUID = 1L;
     public static final Modifier PUBLIC = new Modifier(1);
     public static final Modifier PROTECTED = new Modifier(2);
     public static final Modifier STATIC = new Modifier(3);
@@ -97,6 +99,29 @@ public class Modifier implements Next{
         }
     }
 
+    /**
+     * modifiers are compared by identity of the shared constants, so a
+     * deserialized constant must be replaced by the one in this JVM.
+     */
+    private Object readResolve() {
+        switch (mod_val) {
+        case 1:
+            return PUBLIC;
+        case 2:
+            return PROTECTED;
+        case 3:
+            return STATIC;
+        case 4:
+            return ABSTRACT;
+        case 5:
+            return FINAL;
+        case 6:
+            return NATIVE;
+        default:
+            return this;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o instanceof Modifier) {
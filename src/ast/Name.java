@@ -11,6 +11,7 @@ import exceptions.ASTException;
  *
  */
 public abstract class Name extends Expression {
+    private static final long serialVersionUID = 1L;
     ASTNode decl; // use ASTNode because VariableDecalration is not a
                   // bodyDeclaration
 
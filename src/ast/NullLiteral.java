@@ -7,6 +7,7 @@ package ast;
  *
  */
 public class NullLiteral extends Expression {
+    private static final long serialVersionUID = 1L;
 
     public NullLiteral() {
 
@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class PackageDeclaration extends ASTNode{
+    private static final long serialVersionUID = 1L;
     public Name name;
 
     public PackageDeclaration(ParseTree pt) throws ASTException {
@@ -6,6 +6,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class PrefixExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public Operator op;
     public Expression expr;
 
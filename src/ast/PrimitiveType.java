@@ -6,6 +6,7 @@ import java.util.TreeSet;
 import parser.ParseTree;
 
 public class PrimitiveType extends Type {
+    private static final long serialVersionUID = 1L;
     public Value value;
     
     public PrimitiveType(ParseTree pt) {
@@ -39,6 +40,18 @@ public class PrimitiveType extends Type {
         this.value = value;
     }
 
+    /**
+     * the canonical type of value.
+     */
+    public static PrimitiveType of(Value value) {
+        return TypeTable.primitives[value.ordinal()];
+    }
+
+    @Override
+    public Type canonical() {
+        return of(value);
+    }
+
     public enum Value {
         BOOLEAN,
         INT,
@@ -13,6 +13,7 @@ import exceptions.ASTException;
  *
  */
 public class QualifiedName extends Name{
+    private static final long serialVersionUID = 1L;
     private Name qualifier = null;
     private String id = null;
     public boolean isArrayLength = false;
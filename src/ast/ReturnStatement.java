@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class ReturnStatement extends Statement {
+    private static final long serialVersionUID = 1L;
 
     public Expression returnExpression = null;
 
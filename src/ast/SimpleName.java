@@ -13,6 +13,7 @@ import parser.ParseTree;
  *
  */
 public class SimpleName extends Name {
+    private static final long serialVersionUID = 1L;
 	private String id;
 	
 	public SimpleName(ParseTree pt) {
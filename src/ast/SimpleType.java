@@ -10,6 +10,7 @@ import exceptions.ASTException;
  *
  */
 public class SimpleType extends Type{
+    private static final long serialVersionUID = 1L;
     public Name name;
 
     public SimpleType(ParseTree pt) throws ASTException {
@@ -31,6 +32,19 @@ public class SimpleType extends Type{
         name = type;
     }
 
+    /**
+     * the canonical type of the class or interface decl.
+     */
+    public static SimpleType of(TypeDeclaration decl) {
+        SimpleType type = decl.canonicalType;
+        return TypeTable.current(type) ? type : TypeTable.simpleType(decl);
+    }
+
+    @Override
+    public Type canonical() {
+        return decl == null ? null : of(decl);
+    }
+
     public void accept(Visitor v) throws Exception {
         v.visit(this);
     }
@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public abstract class Statement extends ASTNode {
+    private static final long serialVersionUID = 1L;
 	Statement next;
 
     public static Statement parseStatement(ParseTree statementNode)
@@ -2,6 +2,7 @@ package ast;
 
 
 public class ThisExpression extends Expression {
+    private static final long serialVersionUID = 1L;
 
     public ThisExpression() {
 
@@ -15,9 +15,19 @@ import exceptions.ASTException;
  *
  */
 public abstract class Type extends ASTNode{
+    private static final long serialVersionUID = 1L;
 
     TypeDeclaration decl;
 
+    // set on canonical types only, see TypeTable
+    transient int id = -1;
+    transient int generation = 0;
+    transient volatile ArrayType arrayOf = null;
+    // signatures of the type, cached by environment.NameHelper and
+    // code_generation.SigHelper
+    public transient String mangledName = null;
+    public transient String sig = null;
+
     /**
      * This method parse four types of parse tree nodes: Type, ClassType,
      * InterfaceType, ArrayType
@@ -73,9 +83,27 @@ public abstract class Type extends ASTNode{
         return decl;
     }
 
+    /**
+     * the instance of this type in the TypeTable, null if the type has not
+     * been linked to its declaration yet.
+     */
+    public Type canonical() {
+        return this;
+    }
+
+    /**
+     * the index of the type in the TypeTable, -1 if it is not canonical.
+     */
+    public int getId() {
+        return id;
+    }
+
     public abstract String toString();
 
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof Type)) {
             return false;
         }
@@ -84,7 +112,7 @@ public abstract class Type extends ASTNode{
         if (this instanceof SimpleType) {
             return this.getDeclaration() == t.getDeclaration();
         } else if (this instanceof PrimitiveType) {
-            return this.toString().equals(t.toString());
+            return t instanceof PrimitiveType && ((PrimitiveType) this).value == ((PrimitiveType) t).value;
         } else if (this instanceof ArrayType || t instanceof ArrayType) {
             ArrayType thisArr = (ArrayType) this;
             ArrayType thatArr = (ArrayType) t;
@@ -1,11 +1,13 @@
 package ast;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 
 import parser.ParseTree;
 import scanner.Symbol;
+import utility.CompilationContext;
 import exceptions.ASTException;
 
 /**
@@ -14,6 +16,7 @@ import exceptions.ASTException;
  *
  */
 public class TypeDeclaration extends BodyDeclaration{
+    private static final long serialVersionUID = 1L;
     // interface or class
     public boolean isInterface = false;
 
@@ -31,6 +34,17 @@ public class TypeDeclaration extends BodyDeclaration{
 
     private String fullName = null;
 
+    // subtype index of the compile whose generation it has, see
+    // environment.TypeHelper.buildSubtypeIndex
+    public transient int typeId = -1;
+    public transient int indexGeneration = 0;
+    // the canonical type of the declaration, see TypeTable
+    transient volatile SimpleType canonicalType = null;
+    // ids of this type and all its super types
+    public transient BitSet supertypes = null;
+    // the class and its super classes by depth, Object first
+    public transient TypeDeclaration[] display = null;
+
     private List<String> fOffSet = new ArrayList<String>();
     private List<String> mOffSet = new ArrayList<String>();
 
@@ -149,7 +163,7 @@ public class TypeDeclaration extends BodyDeclaration{
                 ParseTree amDecl = child
                         .findChild(Symbol.AbstractMethodDeclaration);
                 if (amDecl != null)
-                    members.add(new MethodDeclaration(amDecl));
+                    members.add(parseMember(amDecl));
                 break;
             }
         }
@@ -174,24 +188,35 @@ public class TypeDeclaration extends BodyDeclaration{
                     ParseTree fieldOrMethod = member.getFirstChild();
                     switch (fieldOrMethod.getTokenType()) {
                     case FieldDeclaration:
-                        members.add(new FieldDeclaration(fieldOrMethod));
-                        break;
                     case MethodDeclaration:
-                        members.add(new MethodDeclaration(fieldOrMethod));
+                        members.add(parseMember(fieldOrMethod));
                         break;
                     default:
                         break;
                     }
                 } else if (member.getTokenType() == Symbol.ConstructorDeclaration) {
-                    members.add(new MethodDeclaration(member));
+                    members.add(parseMember(member));
                 }
                 break;
             }
         }
     }
 
+    /**
+     * the declaration of a member, which ASTBuilder may already have built.
+     */
+    private BodyDeclaration parseMember(ParseTree pt) throws ASTException {
+        if (pt.getValue() != null) {
+            return (BodyDeclaration) pt.getValue();
+        }
+        if (pt.getTokenType() == Symbol.FieldDeclaration) {
+            return new FieldDeclaration(pt);
+        }
+        return new MethodDeclaration(pt);
+    }
+
     public void setFullName(String name) {
-        fullName = name;
+        fullName = CompilationContext.current().names.intern(name);
     }
 
     public String getFullName() {
@@ -0,0 +1,117 @@
+package ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ast.PrimitiveType.Value;
+import utility.CompilationContext;
+
+/**
+ * The one instance of each resolved type of a compile: the primitives, every
+ * class or interface and the arrays of those. Canonical types are made by
+ * PrimitiveType.of, SimpleType.of and ArrayType.of or found with
+ * Type.canonical(). The same type is the same object, and its id is its
+ * index in the table, so it can index arrays.
+ *
+ * The primitives and their arrays are made once, shared by all tables and
+ * keep the first ids. The other types belong to the table of the compile
+ * that made them, the one of its CompilationContext: a declaration from
+ * another compile gets a new instance the next time it is asked for.
+ */
+public class TypeTable {
+    // every table gets a generation no other table has had
+    private static final AtomicInteger generations = new AtomicInteger();
+    static final PrimitiveType[] primitives = new PrimitiveType[Value.values().length];
+    private static final Type[] permanent = new Type[2 * primitives.length];
+
+    static {
+        for (Value value : Value.values()) {
+            primitives[value.ordinal()] = new PrimitiveType(value);
+            permanent[value.ordinal()] = primitives[value.ordinal()];
+        }
+        for (PrimitiveType primitive : primitives) {
+            primitive.arrayOf = new ArrayType(primitive);
+            permanent[primitives.length + primitive.value.ordinal()] = primitive.arrayOf;
+        }
+        for (int id = 0; id < permanent.length; id++) {
+            permanent[id].id = id;
+        }
+    }
+
+    private final List<Type> types = new ArrayList<Type>(Arrays.asList(permanent));
+    private volatile int generation = generations.incrementAndGet();
+
+    private static TypeTable table() {
+        return CompilationContext.current().typeTable;
+    }
+
+    /**
+     * forget the class, interface and their array types the current table
+     * has made so far.
+     */
+    public static void reset() {
+        TypeTable table = table();
+        synchronized (table) {
+            table.types.subList(permanent.length, table.types.size()).clear();
+            table.generation = generations.incrementAndGet();
+        }
+    }
+
+    /**
+     * the number of canonical types, one more than the largest id.
+     */
+    public static int size() {
+        TypeTable table = table();
+        synchronized (table) {
+            return table.types.size();
+        }
+    }
+
+    public static Type get(int id) {
+        TypeTable table = table();
+        synchronized (table) {
+            return table.types.get(id);
+        }
+    }
+
+    /**
+     * whether type is in the current table.
+     */
+    static boolean current(Type type) {
+        return type != null && (type.id < permanent.length || type.generation == table().generation);
+    }
+
+    static SimpleType simpleType(TypeDeclaration decl) {
+        TypeTable table = table();
+        synchronized (table) {
+            SimpleType type = decl.canonicalType;
+            if (type == null || type.generation != table.generation) {
+                type = new SimpleType(new SimpleName(decl.getFullName()));
+                type.attachDeclaration(decl);
+                decl.canonicalType = table.add(type);
+            }
+            return type;
+        }
+    }
+
+    static ArrayType arrayType(Type element) {
+        TypeTable table = table();
+        synchronized (table) {
+            ArrayType type = element.arrayOf;
+            if (type == null || (type.id >= permanent.length && type.generation != table.generation)) {
+                type = table.add(new ArrayType(element));
+                element.arrayOf = type;
+            }
+            return type;
+        }
+    }
+
+    private <T extends Type> T add(T type) {
+        type.id = types.size();
+        type.generation = generation;
+        types.add(type);
+        return type;
+    }
+}
@@ -13,10 +13,13 @@ import exceptions.ASTException;
  *
  */
 public class VariableDeclaration extends ASTNode {
+    private static final long serialVersionUID = 1L;
     public Type type = null;
     public String id = null;
     public Expression initializer = null;
-//    private int offset;
+    // frame offset, see code_generation.VariableOffSetPass
+    private int offset;
+    private boolean hasOffset = false;
 
     public VariableDeclaration(ParseTree pt) throws ASTException {        
         if (pt.getTokenType() == Symbol.LocalVariableDeclaration) {    
@@ -67,11 +70,16 @@ public class VariableDeclaration extends ASTNode {
         v.visit(this);
     }
 
-//    public void setOffSet(int offset) {
-//        this.offset = offset;
-//    }
-//    
-//    public int getOffSet() {        
-//        return offset;
-//    }
+    public void setOffSet(int offset) {
+        this.offset = offset;
+        hasOffset = true;
+    }
+
+    public boolean hasOffSet() {
+        return hasOffset;
+    }
+
+    public int getOffSet() {
+        return offset;
+    }
 }
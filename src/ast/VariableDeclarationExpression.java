@@ -4,6 +4,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class VariableDeclarationExpression extends Expression {
+    private static final long serialVersionUID = 1L;
     public VariableDeclaration variableDeclaration;
 
     public VariableDeclarationExpression(ParseTree variableDecNode) throws ASTException {
@@ -5,6 +5,7 @@ import scanner.Symbol;
 import exceptions.ASTException;
 
 public class VariableDeclarationStatement extends Statement {
+    private static final long serialVersionUID = 1L;
     public VariableDeclaration varDeclar;
 
     public VariableDeclarationStatement(ParseTree variableDecNode) throws ASTException {
@@ -4,6 +4,7 @@ import parser.ParseTree;
 import exceptions.ASTException;
 
 public class WhileStatement extends Statement{
+    private static final long serialVersionUID = 1L;
 
     public Expression whileCondition;
     public Statement whileStatement;
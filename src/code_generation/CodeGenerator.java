@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import utility.CompilationContext;
 import utility.StringUtility;
 import ast.AST;
 import ast.BodyDeclaration;
@@ -22,16 +23,20 @@ public class CodeGenerator extends TraversalVisitor {
     StatementCodeGenerator stmtGen;
     ExpressionCodeGenerator expGen;
     Map<Integer, String> SigOffsets = new HashMap<Integer, String>();
-    static StringBuilder[] staticFieldInit = {new StringBuilder(), new StringBuilder()};
-    static StringBuilder[] instanceFieldInit = {new StringBuilder(), new StringBuilder()};
+    // the static initializers of the program, kept in the CompilationContext
+    StringBuilder[] staticFieldInit;
+    Set<String> staticInitExtern;
+    StringBuilder[] instanceFieldInit = {new StringBuilder(), new StringBuilder()};
     TypeDeclaration currentTypeDec;
     Set<String> extern;
     Set<String> exclude;
     StringBuilder dataSection;
-    static Set<String> staticInitExtern = new HashSet<String>();
     private static final String FALSE = "0x0";
 
     public CodeGenerator() {
+        CompilationContext context = CompilationContext.current();
+        this.staticFieldInit = context.staticFieldInit;
+        this.staticInitExtern = context.staticInitExtern;
         this.extern = new HashSet<String>();
         this.exclude = new HashSet<String>();
         dataSection = new StringBuilder();
@@ -43,7 +48,7 @@ public class CodeGenerator extends TraversalVisitor {
         this.currentTypeDec = node;
         this.exclude.add(SigHelper.getClssSigWithVTable(node));
         this.exclude.add(SigHelper.getArrayVTableSigFromNonArray(node));
-        ExpressionCodeGenerator.stringLitData.setLength(0);
+        expGen.stringLitData.setLength(0);
         String classSig = SigHelper.getClassSig(node);
         String testSig = classSig + "#test$$implementation";
 //        StringUtility.appendLine(instanceFieldInit[0], "instance_field_init$" + classSig + ":");
@@ -137,7 +142,7 @@ public class CodeGenerator extends TraversalVisitor {
         StringUtility.appendLine(vTableText, "dd " + SigHelper.getArrayClassSigWithHierarchy(node), 2);
         this.extern.add(SigHelper.getArrayClassSigWithHierarchy(node));
         
-        dataSection.append(ExpressionCodeGenerator.stringLitData);
+        dataSection.append(expGen.stringLitData);
         textSection.append(getInstanceFieldInit() + "\n");
         textSection.append(start + "\n");
         textSection.append(vTableText + "\n");
@@ -281,9 +286,9 @@ public class CodeGenerator extends TraversalVisitor {
 
         if (node.body != null) {
             // TODO: check occasions where this would be null
-            ExpressionCodeGenerator.currentMethod = node;    // set current method 
+            expGen.currentMethod = node;    // set current method 
             node.body.accept(stmtGen);
-            ExpressionCodeGenerator.currentMethod = null;    // remove current method
+            expGen.currentMethod = null;    // remove current method
             sb.append(node.body.getCode());
         } 
 
@@ -297,13 +302,15 @@ public class CodeGenerator extends TraversalVisitor {
     }
 
     protected static String getStaticFieldInit() {
+        CompilationContext context = CompilationContext.current();
+        StringBuilder[] staticFieldInit = context.staticFieldInit;
         StringUtility.appendIndLn(staticFieldInit[0], "ret");
         String staticFieldInitString = staticFieldInit[0].toString();
         staticFieldInit[0].setLength(0);
-        return getStaticFieldInitExtern() + staticFieldInitString;
+        return getStaticFieldInitExtern(context.staticInitExtern) + staticFieldInitString;
     }
 
-    private static String getStaticFieldInitExtern() {
+    private static String getStaticFieldInitExtern(Set<String> staticInitExtern) {
         StringBuilder sb = new StringBuilder();
         for (String s : staticInitExtern) {
             StringUtility.appendLine(sb, "extern static_init_" + s);
@@ -322,14 +329,26 @@ public class CodeGenerator extends TraversalVisitor {
     }
 
     public static void generate(List<AST> trees) throws Exception {
+        CompilationContext context = CompilationContext.current();
+        StringBuilder[] staticFieldInit = context.staticFieldInit;
         staticFieldInit[0].setLength(0);
         staticFieldInit[1].setLength(0);
-        instanceFieldInit[0].setLength(0);
-        instanceFieldInit[1].setLength(0);
-        staticInitExtern = new HashSet<String>();
+        Set<String> staticInitExtern = new HashSet<String>();
+        context.staticInitExtern = staticInitExtern;
         for (AST t : trees) {
+            if (t.precompiled) {
+                // code is attached already, only replay its static initializers
+                staticFieldInit[0].append(t.staticInitCalls);
+                staticInitExtern.addAll(t.staticInitExterns);
+                continue;
+            }
+            int start = staticFieldInit[0].length();
+            Set<String> externs = new HashSet<String>(staticInitExtern);
             Visitor rv = new CodeGenerator();
             t.root.accept(rv);
+            t.staticInitCalls = staticFieldInit[0].substring(start);
+            t.staticInitExterns = new HashSet<String>(staticInitExtern);
+            t.staticInitExterns.removeAll(externs);
         }
     }
 }
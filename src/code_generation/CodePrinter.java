@@ -3,8 +3,12 @@ package code_generation;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import utility.CompilationContext;
 import utility.StringUtility;
 import ast.AST;
 import ast.ArrayType;
@@ -16,12 +20,24 @@ import environment.TraversalVisitor;
 
 public class CodePrinter extends TraversalVisitor {
 
-    private File output = new File(System.getProperty("user.dir") + "/output");
-    private String uglyText = UglyTableBuilder.getUgly();
-    private String staticFieldInit = CodeGenerator.getStaticFieldInit();
-    private String HierarchyTable = HierarchyTableBuilder.getHierarchyTable();
+    private File output = CompilationContext.current().output;
+    // the tables are only needed by the printer the trees are given to, not
+    // by the one visiting each tree. building hierarchy.s is quadratic in the
+    // number of types.
+    private String uglyText = null;
+    private String staticFieldInit = null;
+    private String HierarchyTable = null;
+
+    private void loadTables() {
+        if (uglyText == null) {
+            uglyText = UglyTableBuilder.getUgly();
+            staticFieldInit = CodeGenerator.getStaticFieldInit();
+            HierarchyTable = HierarchyTableBuilder.getHierarchyTable();
+        }
+    }
 
     public void printCode(List<AST> trees) throws Exception {
+        loadTables();
         if (!output.exists()) {
             output.mkdirs();
         } else {
@@ -39,6 +55,97 @@ public class CodePrinter extends TraversalVisitor {
         }
     }
 
+    /**
+     * like printCode, but for a compile that kept output/ from the last run.
+     * ugly.s, staticinit.s and hierarchy.s are only rewritten if the layout
+     * changed, and precompiled trees only if their file is gone.
+     */
+    public void printChanged(List<AST> trees, boolean layoutChanged) throws Exception {
+        loadTables();
+        if (!output.exists()) {
+            output.mkdirs();
+        }
+        if (layoutChanged || !new File(output, "ugly.s").exists()) {
+            writeUgly();
+        }
+        if (layoutChanged || !new File(output, "staticinit.s").exists()) {
+            writeStaticFieldInit();
+        }
+        if (layoutChanged || !new File(output, "hierarchy.s").exists()) {
+            writeHierarchyTable();
+        }
+        if (!new File(output, "primitivevtable.s").exists()) {
+            writePrimitiveVTable();
+        }
+        for (AST t : trees) {
+            if (t.precompiled && t.root.types.size() > 0 && codeFile(t.root.types.get(0)).exists()) {
+                continue;
+            }
+            Visitor rv = new CodePrinter();
+            t.root.accept(rv);
+        }
+    }
+
+    /**
+     * fingerprint of what ugly.s, hierarchy.s and staticinit.s would contain.
+     * the tables come out of hash maps in no particular order, so blocks and
+     * extern lines are compared sorted.
+     */
+    public String getLayoutFingerprint() throws Exception {
+        loadTables();
+        MessageDigest md = MessageDigest.getInstance("SHA-1");
+        md.update(canonical(uglyText).getBytes());
+        md.update((byte) 0);
+        md.update(canonical(HierarchyTable).getBytes());
+        md.update((byte) 0);
+        md.update(canonical(staticFieldInit).getBytes());
+        StringBuilder sb = new StringBuilder();
+        for (byte b : md.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * text with the lines before the first global sorted, and the blocks
+     * starting at each global sorted.
+     */
+    private static String canonical(String text) {
+        List<String> header = new ArrayList<String>();
+        List<String> blocks = new ArrayList<String>();
+        StringBuilder block = null;
+        for (String line : text.split("\n")) {
+            if (line.startsWith("global ")) {
+                if (block != null) {
+                    blocks.add(block.toString());
+                }
+                block = new StringBuilder();
+            }
+            if (block == null) {
+                header.add(line);
+            } else {
+                block.append(line).append('\n');
+            }
+        }
+        if (block != null) {
+            blocks.add(block.toString());
+        }
+        Collections.sort(header);
+        Collections.sort(blocks);
+        StringBuilder sb = new StringBuilder();
+        for (String line : header) {
+            sb.append(line).append('\n');
+        }
+        for (String b : blocks) {
+            sb.append(b);
+        }
+        return sb.toString();
+    }
+
+    private File codeFile(TypeDeclaration node) {
+        return new File(output.getAbsolutePath() + "/" + node.getFullName() + ".s");
+    }
+
     private void writeUgly() throws FileNotFoundException {
         File uglyFile = new File(output.getAbsolutePath() + "/ugly.s");
         PrintWriter writer = new PrintWriter(uglyFile);
@@ -81,8 +188,8 @@ public class CodePrinter extends TraversalVisitor {
     }
     
     private String PrimitiveVTableHelper(Value value, StringBuilder pvtable) {
-        PrimitiveType primitiveType = new PrimitiveType(value);
-        ArrayType arrayType = new ArrayType(primitiveType);
+        PrimitiveType primitiveType = PrimitiveType.of(value);
+        ArrayType arrayType = ArrayType.of(primitiveType);
         StringBuilder extern = new StringBuilder();
         StringUtility.appendLine(extern, "extern " + SigHelper.getClassSigWithHierarchy(arrayType));
         StringUtility.appendLine(extern, "extern " + SigHelper.getClassSigWithHierarchy(primitiveType));
@@ -95,10 +202,9 @@ public class CodePrinter extends TraversalVisitor {
     
     @Override
     public void visit(TypeDeclaration node) throws Exception {
-        String fullName = node.getFullName();
         String classAssembly = node.getCode();
         if (classAssembly != null) {
-            File classAssemblyFile = new File(output.getAbsolutePath() + "/" + fullName + ".s");
+            File classAssemblyFile = codeFile(node);
             PrintWriter writer = new PrintWriter(classAssemblyFile);
             writer.write(classAssembly);
             writer.close();
@@ -42,6 +42,7 @@ import ast.VariableDeclarationExpression;
 import environment.NameHelper;
 import environment.SymbolTable;
 import environment.TraversalVisitor;
+import environment.TypeHelper;
 import exceptions.NameException;
 
 public class ExpressionCodeGenerator extends TraversalVisitor {
@@ -49,12 +50,12 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
     private static final String FALSE = "0x0";
     private static final String TRUE = "0xffffffff";
     private int litCounter = 0;
-    public static StringBuilder stringLitData = new StringBuilder();
+    public StringBuilder stringLitData = new StringBuilder();
     private Set<String> extern;
     public int infixCounter = 0;
     private int instanceOfCounter = 0;
     StringBuilder dataSection;
-    public static MethodDeclaration currentMethod;
+    public MethodDeclaration currentMethod;
     private int ncCounter = 0;
     private int aaCounter = 0; // for array access label
     private int castCounter = 0; // for cast finish label
@@ -80,7 +81,7 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
         StringUtility.appendLine(dataSection, "\tdd " + strSig);
         StringUtility.appendLine(dataSection, "\tdd " + "STRCHARS_" + litCounter);
 
-        String charArrSig = SigHelper.getArrayVTableSigFromNonArray(new PrimitiveType(PrimitiveType.Value.CHAR));
+        String charArrSig = SigHelper.getArrayVTableSigFromNonArray(PrimitiveType.of(PrimitiveType.Value.CHAR));
         extern.add(charArrSig);
         StringUtility.appendLine(dataSection, "STRCHARS_" + litCounter + ":");
         StringUtility.appendLine(dataSection, "\tdd " + charArrSig);
@@ -263,8 +264,7 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
 
         Type lhsType = node.lhs.getType();
         Type rhsType = node.rhs.getType();
-        if ((lhsType instanceof SimpleType && lhsType.getDeclaration().getFullName().equals("java.lang.String"))
-                || (rhsType instanceof SimpleType && rhsType.getDeclaration().getFullName().equals("java.lang.String"))) {
+        if (TypeHelper.isString(lhsType) || TypeHelper.isString(rhsType)) {
             MethodInvocation lhsValueOf = createValueOf(node.lhs);
             MethodInvocation rhsValueOf = createValueOf(node.rhs);
             MethodInvocation concat = crateConcat(lhsValueOf, rhsValueOf);
@@ -319,7 +319,7 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
           }
         } else if (type instanceof SimpleType) {
             // String
-            if (type.getDeclaration().getFullName().equals("java.lang.String")) {
+            if (TypeHelper.isString(type)) {
                 Mdec = methods.get("7valueOf16java.lang.String");
                 // Object
             } else {
@@ -328,12 +328,12 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
         } else if (type == null) {
             Mdec = methods.get("7valueOf16java.lang.String");
             StringLiteral nullLit = new StringLiteral("null");
-            nullLit.attachType(this.simpleTypeBuilder(tDec));
+            nullLit.attachType(SimpleType.of(tDec));
             expr = nullLit;
         } else if (type instanceof ArrayType) {
             Mdec = methods.get("7valueOf16java.lang.String");
             StringLiteral nullLit = new StringLiteral(SigHelper.getTypeSig(type));
-            nullLit.attachType(this.simpleTypeBuilder(tDec));
+            nullLit.attachType(SimpleType.of(tDec));
             expr = nullLit;
         }
 
@@ -452,8 +452,7 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
 	       case PLUS:
 		 Type lhsType = node.lhs.getType();
 		 Type rhsType = node.rhs.getType();
-		 if (lhsType instanceof SimpleType &&
-		     lhsType.getDeclaration().getFullName().equals("java.lang.String")) {
+		 if (TypeHelper.isString(lhsType)) {
 		     StringUtility.appendLine(infixText, "push eax");
 		     if (rhsType instanceof PrimitiveType) {
 			 StringUtility.appendLine(infixText, "push ebx");
@@ -490,16 +489,14 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
 			 }
 			 StringUtility.appendLine(infixText, "pop ebx\t; clean up");
 			 StringUtility.appendLine(infixText, "push eax");
-		     } else if (rhsType instanceof SimpleType &&
-				rhsType.getDeclaration().getFullName().equals("java.lang.String")) {
+		     } else if (TypeHelper.isString(rhsType)) {
 			 StringUtility.appendLine(infixText, "push ebx");
 		     }
 		     extern.add("java.lang.String#concat$java.lang.String$implementation");
 		     StringUtility.appendLine(infixText, "call java.lang.String#concat$java.lang.String$implementation");
 		     StringUtility.appendLine(infixText, "pop ebx\t; clean up");
 		     StringUtility.appendLine(infixText, "pop ebx\t; clean up");
-		 } else if (rhsType instanceof SimpleType &&
-			    rhsType.getDeclaration().getFullName().equals("java.lang.String")) {
+		 } else if (TypeHelper.isString(rhsType)) {
 		     StringUtility.appendLine(infixText, "push ebx");
 		     if (lhsType instanceof PrimitiveType) {
 			 StringUtility.appendLine(infixText, "push eax");
@@ -593,10 +590,10 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
 	     int offset = 0;
 	     if (node.type instanceof SimpleType) {
 		 SimpleType sType = (SimpleType)node.type;
-		 offset = HierarchyTableBuilder.getTypeOffSet(sType.getDeclaration().getFullName());
+		 offset = HierarchyTableBuilder.getTypeOffSet(sType);
 	     } else if (node.type instanceof ArrayType) {
 		 ArrayType aType = (ArrayType)node.type;
-		 offset = HierarchyTableBuilder.getTypeOffSet(aType.toString());
+		 offset = HierarchyTableBuilder.getTypeOffSet(aType);
 	     }
 	     int frame = offset * 4;
 	     StringUtility.appendLine(instanceofText, "cmp eax, " + FALSE + "\t ;check null", 2);
@@ -640,14 +637,10 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
 	 boolean isPrimitive = false;
 	 if (castToType instanceof SimpleType) {
 	     SimpleType sType = (SimpleType)castToType;
-	     offset = HierarchyTableBuilder.getTypeOffSet(sType.getDeclaration().getFullName());
+	     offset = HierarchyTableBuilder.getTypeOffSet(sType);
 	 } else if (castToType instanceof ArrayType) {
 	     ArrayType aType = (ArrayType)castToType;
-	     if (aType.type instanceof SimpleType) {
-	         offset = HierarchyTableBuilder.getTypeOffSet(aType.type.getDeclaration().getFullName() + "[]");
-	     } else {
-	         offset = HierarchyTableBuilder.getTypeOffSet(aType.type.toString() + "[]");
-	     }
+	     offset = HierarchyTableBuilder.getTypeOffSet(aType);
 	 } else if (castToType instanceof PrimitiveType) {
 	     isPrimitive = true;
 	 }
@@ -727,20 +720,20 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
              switch (pType.value) {
              case BOOLEAN:
                  TypeDeclaration bDec = SymbolTable.getGlobal().get("java.lang.Boolean");
-                 SimpleType sBType = simpleTypeBuilder(bDec);
+                 SimpleType sBType = SimpleType.of(bDec);
                  MethodDeclaration bConstructor = getConstructor(bDec);
                  cice = new ClassInstanceCreationExpression(sBType, arglist);
                  cice.addConstructor(getConstructor(bDec));
                break;
              case CHAR:
                  TypeDeclaration cDec = SymbolTable.getGlobal().get("java.lang.Character");
-                 SimpleType sCType = simpleTypeBuilder(cDec);
+                 SimpleType sCType = SimpleType.of(cDec);
                  cice = new ClassInstanceCreationExpression(sCType, arglist);
                  cice.addConstructor(getConstructor(cDec));
                break;
              default:
                  TypeDeclaration iDec = SymbolTable.getGlobal().get("java.lang.Integer");
-                 SimpleType sIType = simpleTypeBuilder(iDec);
+                 SimpleType sIType = SimpleType.of(iDec);
                  cice = new ClassInstanceCreationExpression(sIType, arglist);
                  cice.addConstructor(getConstructor(iDec));
            } 
@@ -764,12 +757,6 @@ public class ExpressionCodeGenerator extends TraversalVisitor {
         return null;
     }
 
-     private SimpleType simpleTypeBuilder(TypeDeclaration typeDec) {
-         String name = typeDec.getFullName();
-         SimpleType simpleType = new SimpleType(new SimpleName(name));
-         simpleType.attachDeclaration(typeDec);
-         return simpleType;
-     }
      /*
       * OO features
       */
@@ -1,35 +1,32 @@
 package code_generation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import utility.CompilationContext;
 import utility.StringUtility;
 import ast.AST;
 import ast.ArrayType;
-import ast.Name;
 import ast.PrimitiveType;
 import ast.PrimitiveType.Value;
-import ast.SimpleName;
 import ast.SimpleType;
 import ast.Type;
 import ast.TypeDeclaration;
+import ast.TypeTable;
 import environment.TypeHelper;
 
 public class HierarchyTableBuilder {
-    
-    static Map<Type, List<String>> hierarchyTable = new HashMap<Type, List<String>>();
-    static Map<Type, Integer> offSets = new HashMap<Type, Integer>();
-    static Integer offSetCounter = new Integer(0);
-    static List<String> Alltypes = new ArrayList<String>();
+    // the table, the canonical types in offset order and their offsets by id
+    // are kept in the CompilationContext
 
     public static void build(List<AST> trees) throws Exception {
-        hierarchyTable = new HashMap<Type, List<String>>();
-        offSets = new HashMap<Type, Integer>();
-        offSetCounter = new Integer(0);
-        Alltypes = new ArrayList<String>();
+        CompilationContext context = CompilationContext.current();
+        context.hierarchyTable = new HashMap<Type, List<String>>();
+        context.hierarchyTypes = new ArrayList<Type>();
         List<TypeDeclaration> typeDecs = new LinkedList<TypeDeclaration>();
         for (AST ast : trees) {
             if (ast.root.types.size() > 0) {
@@ -37,24 +34,13 @@ public class HierarchyTableBuilder {
                 typeDecs.add(type);
             }
         }
-        setOffSet(typeDecs);
-        setHierarchy();
+        setOffSet(context, typeDecs);
+        setHierarchy(context);
         // printOffSets();
     }
     
-    private static void sort(List<Type> types) {
-        for (int i = 0; i < offSetCounter; i++) {
-            for (Map.Entry<Type, Integer> entry : offSets.entrySet()) {
-                if (entry.getValue() == i) {
-                    types.add(entry.getKey());
-                }
-            }
-        }
-    }
-
-    private static void setHierarchy() {
-        List<Type> types = new ArrayList<Type>();
-        sort(types);
+    private static void setHierarchy(CompilationContext context) {
+        List<Type> types = context.hierarchyTypes;
         for (Type typeInTop : types) {
             List<String> column = new ArrayList<String>();
             for (Type typeInLeft : types) {
@@ -66,12 +52,7 @@ public class HierarchyTableBuilder {
                     column.add("0x0");
                 }
             }
-            if (typeInTop == null) {
-                Alltypes.add(null);
-            } else {
-                Alltypes.add(typeInTop.toString());
-            }
-            hierarchyTable.put(typeInTop, column);
+            context.hierarchyTable.put(typeInTop, column);
         }
 //        for (Type type : hierarchyTable.keySet()) {
 //            System.out.println(type);
@@ -81,71 +62,51 @@ public class HierarchyTableBuilder {
 //        }
     }
 
-    private static void setOffSet(List<TypeDeclaration> typeDecs) {
-        setPrimitiveOffSet();
+    private static void setOffSet(CompilationContext context, List<TypeDeclaration> typeDecs) {
+        List<Type> types = context.hierarchyTypes;
+        setPrimitiveOffSet(types);
 
         for (TypeDeclaration typeDec : typeDecs) {
-            SimpleType simpleType = simpleTypeBuilder(typeDec);
-            offSets.put(simpleType, offSetCounter);
-            offSetCounter++;
-            ArrayType arrayType = arrayTypeBuilder(simpleType);
-            offSets.put(arrayType, offSetCounter);
-            offSetCounter++;
+            SimpleType simpleType = SimpleType.of(typeDec);
+            types.add(simpleType);
+            types.add(ArrayType.of(simpleType));
         }
-    }
 
-    private static void setPrimitiveOffSet() {
-        // primitive type:
-        primitiveOffSetHelper(Value.BOOLEAN);
-        primitiveOffSetHelper(Value.BYTE);
-        primitiveOffSetHelper(Value.CHAR);
-        primitiveOffSetHelper(Value.INT);
-        primitiveOffSetHelper(Value.SHORT);
-    }
-
-    private static void primitiveOffSetHelper(Value value) {
-        PrimitiveType primitiveType = new PrimitiveType(value);
-        // offSets.put(primitiveType, offSetCounter);
-        // offSetCounter++;
-
-        ArrayType primitiveArrayType = arrayTypeBuilder(primitiveType);
-        offSets.put(primitiveArrayType, offSetCounter);
-        offSetCounter++;
-    }
-
-    private static SimpleType simpleTypeBuilder(TypeDeclaration typeDec) {
-        Name name = new SimpleName(typeDec.getFullName());
-        SimpleType type = new SimpleType(name);
-        type.attachDeclaration(typeDec);
-        return type;
-    }
-
-    private static ArrayType arrayTypeBuilder(Type type) {
-        ArrayType arrayType = null;
-        if (type instanceof SimpleType) {
-            SimpleType stype = (SimpleType) type;
-            arrayType = new ArrayType(stype);
-        } else if (type instanceof PrimitiveType) {
-            PrimitiveType ptype = (PrimitiveType) type;
-            arrayType = new ArrayType(ptype);
+        int[] offSets = new int[TypeTable.size()];
+        Arrays.fill(offSets, -1);
+        for (int i = 0; i < types.size(); i++) {
+            offSets[types.get(i).getId()] = i;
         }
-        return arrayType;
+        context.hierarchyOffSets = offSets;
     }
 
-    public static int getTypeOffSet(String typeName) {
-        return Alltypes.indexOf(typeName);
+    private static void setPrimitiveOffSet(List<Type> types) {
+        // primitive type:
+        types.add(ArrayType.of(PrimitiveType.of(Value.BOOLEAN)));
+        types.add(ArrayType.of(PrimitiveType.of(Value.BYTE)));
+        types.add(ArrayType.of(PrimitiveType.of(Value.CHAR)));
+        types.add(ArrayType.of(PrimitiveType.of(Value.INT)));
+        types.add(ArrayType.of(PrimitiveType.of(Value.SHORT)));
     }
 
+    /**
+     * the offset of type in the hierarchy tables, -1 if it has none.
+     */
     public static int getTypeOffSet(Type type) {
-        return Alltypes.indexOf(type.toString());
+        int[] offSets = CompilationContext.current().hierarchyOffSets;
+        Type canonical = type.canonical();
+        if (canonical == null || canonical.getId() >= offSets.length) {
+            return -1;
+        }
+        return offSets[canonical.getId()];
     }
-
     public static String getHierarchyTable() {
 
         return buildText();
     }
 
     private static String buildText() {
+        Map<Type, List<String>> hierarchyTable = CompilationContext.current().hierarchyTable;
         StringBuilder hierarchyText = new StringBuilder();
         StringUtility.appendLine(hierarchyText, "section .data");
         for (Type type : hierarchyTable.keySet()) {
@@ -160,8 +121,9 @@ public class HierarchyTableBuilder {
     }
 
     private static void printOffSets() {
-        for (String type : Alltypes) {
-            System.out.println(Alltypes.indexOf(type) + " " + type);
+        List<Type> types = CompilationContext.current().hierarchyTypes;
+        for (int i = 0; i < types.size(); i++) {
+            System.out.println(i + " " + types.get(i));
         }
     }
 }
@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Set;
 
 import joosc.Joosc;
+import utility.CompilationContext;
 import utility.FileUtility;
 import ast.AST;
 import ast.BodyDeclaration;
@@ -16,7 +17,6 @@ import ast.FieldDeclaration;
 import ast.MethodDeclaration;
 import ast.Modifier;
 import ast.TypeDeclaration;
-import ast.Visitor;
 import environment.NameHelper;
 import exceptions.NameException;
 
@@ -24,19 +24,22 @@ public class OffSet {
     // separate classes from interfaces
     // for interfaces compute global offset used in big ugly table
     // for classes compute offset through inheritance
-    static Map<TypeDeclaration, List<String>> ugly = new HashMap<TypeDeclaration, List<String>>();
-    static List<String> itfMethods;
+    // the ugly table and the interface methods go to the CompilationContext
     static boolean debug = false;
     
     public static void computeOffSet(List<AST> trees) throws Exception {
-                ugly = new HashMap<TypeDeclaration, List<String>>();
+        CompilationContext.current().ugly = new HashMap<TypeDeclaration, List<String>>();
         List<TypeDeclaration> clsDecls = new LinkedList<TypeDeclaration>();
         List<TypeDeclaration> itfDecls = new LinkedList<TypeDeclaration>();
+        Set<TypeDeclaration> precompiled = new HashSet<TypeDeclaration>();
         
         // separate into two types
         for (AST ast : trees) {
             if (ast.root.types.size() > 0) {
                 TypeDeclaration type = ast.root.types.get(0);
+                if (ast.precompiled) {
+                    precompiled.add(type);
+                }
                 if (type.isInterface) {
                     itfDecls.add(type);
                 } else {
@@ -45,15 +48,16 @@ public class OffSet {
             }
         }
         
-        classOffSet(clsDecls);    // offset for fields and methods
+        classOffSet(clsDecls, precompiled);    // offset for fields and methods
         interfaceOffSet(itfDecls, clsDecls);    // big ugly table
-        
-        for (TypeDeclaration cls : clsDecls) {
-            // compute local variable offsets, no need for interface because there won't be local variables
-            Visitor vov = new VariableOffSetVisitor();
-            cls.accept(vov);
-        }
-        
+        // local variable offsets are computed during checking, see VariableOffSetPass
+    }
+
+    /**
+     * interface method names, each at its global offset in the ugly table.
+     */
+    public static List<String> getInterfaceMethods() {
+        return CompilationContext.current().itfMethods;
     }
 
     /**
@@ -63,8 +67,10 @@ public class OffSet {
      * @param clsDecls
      */
     private static void interfaceOffSet(List<TypeDeclaration> itfDecls, List<TypeDeclaration> clsDecls) {
-        
-        itfMethods = new LinkedList<String>();    // a methods index in the list is its offset
+        CompilationContext context = CompilationContext.current();
+        Map<TypeDeclaration, List<String>> ugly = context.ugly;
+        List<String> itfMethods = new LinkedList<String>();    // a methods index in the list is its offset
+        context.itfMethods = itfMethods;
         // results in linear search, but O(number of methods) is ok
 
         for (TypeDeclaration itf : itfDecls) {
@@ -125,7 +131,7 @@ public class OffSet {
      * @throws Exception
      */
     public static int getInterfaceMethodOffset(String mangledMethodName) throws Exception {
-        int offset = itfMethods.indexOf(mangledMethodName);
+        int offset = CompilationContext.current().itfMethods.indexOf(mangledMethodName);
         if (offset == -1) {
             throw new Exception("No interface of name is found: " + mangledMethodName);
         }
@@ -135,10 +141,11 @@ public class OffSet {
     /**
      * Computes offset of instance fields and methods
      * @param clsDecls
+     * @param precompiled classes whose offsets are already computed
      * @throws NameException
      */
-    private static void classOffSet(List<TypeDeclaration> clsDecls) throws NameException {
-        Set<TypeDeclaration> visited = new HashSet<TypeDeclaration>();
+    private static void classOffSet(List<TypeDeclaration> clsDecls, Set<TypeDeclaration> precompiled) throws NameException {
+        Set<TypeDeclaration> visited = new HashSet<TypeDeclaration>(precompiled);
         for (TypeDeclaration cls : clsDecls) {
             if (!visited.contains(cls)) {
                 singleClassOffSet(cls, visited);
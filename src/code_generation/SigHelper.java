@@ -5,7 +5,6 @@ import ast.FieldDeclaration;
 import ast.MethodDeclaration;
 import ast.PrimitiveType;
 import ast.PrimitiveType.Value;
-import ast.SimpleName;
 import ast.SimpleType;
 import ast.Type;
 import ast.TypeDeclaration;
@@ -23,7 +22,21 @@ import ast.VariableDeclaration;
 
 public class SigHelper {
 
+    /**
+     * the signature of type, kept on its canonical type once built.
+     */
     public static String getTypeSig(Type type) {
+        Type canonical = type.canonical();
+        if (canonical == null) {
+            return typeSig(type);
+        }
+        if (canonical.sig == null) {
+            canonical.sig = typeSig(canonical);
+        }
+        return canonical.sig;
+    }
+
+    private static String typeSig(Type type) {
         String sigName = null;
         if (type instanceof SimpleType) {
             SimpleType stype = (SimpleType)type;
@@ -47,43 +60,36 @@ public class SigHelper {
         return sigName;
     }
 
-    private static String getMethodSig(MethodDeclaration md) {
-        StringBuilder methodSig = new StringBuilder();
-        TypeDeclaration typeNode = (TypeDeclaration) md.getParent();
-        methodSig.append(getClassSig(typeNode));
-        methodSigHelper(md, methodSig);
-        return methodSig.toString();
-    }
-    
     public static String getMethodSigWithImp(MethodDeclaration md) {
-        StringBuilder methodSig = new StringBuilder();
-        TypeDeclaration typeNode = (TypeDeclaration) md.getParent();
-        methodSig.append(getClassSig(typeNode));
-        methodSigHelper(md, methodSig);
-        return methodSig.toString() + "implementation";
+        if (md.implementationSig == null) {
+            TypeDeclaration typeNode = (TypeDeclaration) md.getParent();
+            md.implementationSig = getMethodSig(typeNode, md) + "implementation";
+        }
+        return md.implementationSig;
     }
 
     public static String getFieldSigWithImp(FieldDeclaration fd) {
-        StringBuilder fieldSig = new StringBuilder();
-        TypeDeclaration typeNode = (TypeDeclaration) fd.getParent();
-        fieldSig.append(getClassSig(typeNode));
-        fieldSig.append("#");
-        fieldSig.append(fd.id);
-        return fieldSig.toString() + "$realfield";
+        return getFieldSig(fd) + "$realfield";
     }
 
     public static String getMethodSig(TypeDeclaration td, MethodDeclaration md) {
-        StringBuilder methodSig = new StringBuilder();
-        methodSig.append(getClassSig(td));
-        methodSigHelper(md, methodSig);
-        return methodSig.toString();
+        if (md.sigSuffix == null) {
+            StringBuilder suffix = new StringBuilder();
+            methodSigHelper(md, suffix);
+            md.sigSuffix = suffix.toString();
+        }
+        return getClassSig(td) + md.sigSuffix;
     }
     
+    /**
+     * the part of a method label after the class, the same whichever class
+     * the method is in.
+     */
     private static void methodSigHelper(MethodDeclaration md, StringBuilder methodSig) {
         if (md.isConstructor) {
             methodSig.append("#~init~$");
         } else {
-            methodSig.append("#" + md.id + "$");
+            methodSig.append("#").append(md.id).append("$");
         }
         if (md.parameters != null) {
             boolean first = true;
@@ -107,29 +113,21 @@ public class SigHelper {
     }
 
     public static String getFieldSig(FieldDeclaration fd) {
-        StringBuilder fieldSig = new StringBuilder();
-        TypeDeclaration typeNode = (TypeDeclaration) fd.getParent();
-        fieldSig.append(getClassSig(typeNode));
-        fieldSig.append("#");
-        fieldSig.append(fd.id);
-        return fieldSig.toString();
+        if (fd.sig == null) {
+            fd.sig = getFieldSig((TypeDeclaration) fd.getParent(), fd);
+        }
+        return fd.sig;
     }
     
     public static String getFieldSig(TypeDeclaration td, FieldDeclaration fd) {
-        StringBuilder fieldSig = new StringBuilder();
-        fieldSig.append(getClassSig(td));
-        fieldSig.append("#");
-        fieldSig.append(fd.id);
-        return fieldSig.toString();
+        return getClassSig(td) + "#" + fd.id;
     }
 
+    /**
+     * the signature of a class type is its full name.
+     */
     public static String getClassSig(TypeDeclaration typeDec) {
-        String classSig = null;
-        String name = typeDec.getFullName();
-        SimpleType simpleType = new SimpleType(new SimpleName(name));
-        simpleType.attachDeclaration(typeDec);
-        classSig = getTypeSig(simpleType);
-        return classSig;
+        return typeDec.getFullName();
     }
 
     public static String getClassSigWithUgly(TypeDeclaration typeDec) {
@@ -153,36 +151,21 @@ public class SigHelper {
     }
 
     public static String getArrayVTableSigFromNonArray(Type type) {
-        ArrayType arrayType = new ArrayType(type);
+        ArrayType arrayType = ArrayType.of(type);
         String arraySig = getTypeSig(arrayType);
         return "VTable#" + arraySig;
     }
 
     public static String getArrayVTableSigFromNonArray(TypeDeclaration typeDec) {
-        String typeName = typeDec.getFullName();
-        SimpleType simpleType = new SimpleType(new SimpleName(typeName));
-        simpleType.attachDeclaration(typeDec);
-        ArrayType arrayType = new ArrayType(simpleType);
-        String arraySig = getTypeSig(arrayType);
-        return "VTable#" + arraySig;
+        return "VTable#@L" + getClassSig(typeDec);
     }
 
     public static String getArrayClssSigWithVTable(TypeDeclaration typeDec) {
-        String typeName = typeDec.getFullName();
-        SimpleType simpleType = new SimpleType(new SimpleName(typeName));
-        simpleType.attachDeclaration(typeDec);
-        ArrayType arrayType = new ArrayType(simpleType);
-        String classSig = getTypeSig(arrayType);
-        return "VTable#" + classSig;
+        return "VTable#@L" + getClassSig(typeDec);
     }
     
     public static String getArrayClassSigWithHierarchy(TypeDeclaration typeDec) {
-        String typeName = typeDec.getFullName();
-        SimpleType simpleType = new SimpleType(new SimpleName(typeName));
-        simpleType.attachDeclaration(typeDec);
-        ArrayType arrayType = new ArrayType(simpleType);
-        String classSig = getTypeSig(arrayType);
-        return "hierarchy#" + classSig;
+        return "hierarchy#@L" + getClassSig(typeDec);
     }
 
     public static String getClassSigWithHierarchy(Type type) {
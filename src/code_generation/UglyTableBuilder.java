@@ -1,22 +1,21 @@
 package code_generation;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import utility.CompilationContext;
 import utility.StringUtility;
 import ast.TypeDeclaration;
 
 public class UglyTableBuilder {
-    static Map<TypeDeclaration, List<String>> ugly = new HashMap<TypeDeclaration, List<String>>();
-    static StringBuilder uglyText = new StringBuilder();
 
     public static void build() {
-        ugly = new HashMap<TypeDeclaration, List<String>>();
-        ugly = OffSet.ugly;
-        uglyText = new StringBuilder();
+        CompilationContext context = CompilationContext.current();
+        Map<TypeDeclaration, List<String>> ugly = context.ugly;
+        StringBuilder uglyText = new StringBuilder();
+        context.uglyText = uglyText;
         StringBuilder uglyHeader = new StringBuilder();
         Set<String> sigs = new HashSet<String>();
         StringUtility.appendLine(uglyText, "section .data");
@@ -42,6 +41,6 @@ public class UglyTableBuilder {
     }
 
     public static String getUgly() {
-        return uglyText.toString();
+        return CompilationContext.current().uglyText.toString();
     }
 }
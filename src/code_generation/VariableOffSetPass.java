@@ -0,0 +1,74 @@
+package code_generation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import ast.Block;
+import ast.MethodDeclaration;
+import ast.TypeDeclaration;
+import ast.VariableDeclaration;
+import environment.NodePass;
+
+/**
+ * frame offsets of the parameters and locals of each method of a class, and
+ * the frame size. a block frees the offsets of its locals when it is left.
+ */
+public class VariableOffSetPass extends NodePass {
+    int offsetCounter = 0; // local variable offset starts from 0
+    MethodDeclaration currMethod;
+    // interfaces have no locals, and their parameters need no offsets
+    boolean skip = false;
+    Deque<Integer> blockCounters = new ArrayDeque<Integer>();
+
+    @Override
+    public void enter(TypeDeclaration node) throws Exception {
+        skip = node.isInterface;
+    }
+
+    @Override
+    public void enter(MethodDeclaration node) throws Exception {
+        if (skip) {
+            return;
+        }
+        currMethod = node;
+
+        // compute offset for arguments
+        int paramMaxOffSet = -node.parameters.size();
+        for (int i = 0; i < node.parameters.size(); i++) {
+            // parameter offsets are negative numbers
+            node.addVarOffSet(node.parameters.get(i), paramMaxOffSet + i);
+        }
+        offsetCounter = 0; // initialize
+    }
+
+    @Override
+    public void leave(MethodDeclaration node) throws Exception {
+        offsetCounter = 0; // reset
+        currMethod = null;
+    }
+
+    @Override
+    public void enter(Block node) throws Exception {
+        blockCounters.push(offsetCounter); // store for later
+    }
+
+    @Override
+    public void leave(Block node) throws Exception {
+        offsetCounter = blockCounters.pop();
+    }
+
+    @Override
+    public void leave(VariableDeclaration node) throws Exception {
+        if (currMethod == null) {
+            return;
+        }
+        // store offset
+        currMethod.addVarOffSet(node, offsetCounter);
+        if (currMethod.frameSize < offsetCounter + 1) {
+            currMethod.frameSize = offsetCounter + 1;
+        }
+        currMethod.frameSize++; // increment framesize
+        offsetCounter ++;
+    }
+
+}
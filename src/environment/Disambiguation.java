@@ -255,6 +255,9 @@ public class Disambiguation extends EnvTraversalVisitor{
 
     public static void disambiguate(List<AST> trees) throws Exception {
         for (AST t : trees) {
+            if (t.precompiled) {
+                continue;
+            }
             Visitor v = new Disambiguation();
             t.root.accept(v);
         }
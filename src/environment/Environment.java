@@ -1,6 +1,10 @@
 package environment;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -10,11 +14,15 @@ import ast.TypeDeclaration;
 import ast.VariableDeclaration;
 import exceptions.TypeLinkException;
 
-public class Environment {
+public class Environment implements Serializable {
+    private static final long serialVersionUID = 1L;
     Environment enclosing;
     EnvType type;
 
-    public Map<String, VariableDeclaration> variables = null;
+    // only for block scope: the locals of the enclosing method, shared by all
+    // its block scopes, and the last of them visible in this scope
+    Locals locals = null;
+    int lastLocal = -1;
     public Map<String, FieldDeclaration> fields = null;
 
     /*
@@ -27,8 +35,17 @@ public class Environment {
 
     // only for compilation unit type scope
     public Map<String, TypeDeclaration> singleImports = null;
-    public Map<String, TypeDeclaration> importOnDemands = null;
-    public Map<String, TypeDeclaration> samePackage = null;
+    public Set<PackageView> importOnDemands = null;
+    public PackageView samePackage = null;
+
+    /*
+     * what each simple type name a compilation unit imports or sees in its
+     * package refers to: a declaration or AMBIGUOUS. built once by
+     * buildTypeIndex and read only after that. not kept with restored trees,
+     * which do not resolve names again.
+     */
+    private transient Map<String, Object> typeIndex = null;
+    private static final Object AMBIGUOUS = new Object();
 
     public Environment(Environment outer, EnvType scopeType) {
         enclosing = outer;
@@ -36,8 +53,7 @@ public class Environment {
         switch (scopeType) {
         case COMPILATION_UNIT:
             singleImports = new HashMap<String, TypeDeclaration>();
-            importOnDemands = new HashMap<String, TypeDeclaration>();
-            samePackage = new HashMap<String, TypeDeclaration>();
+            importOnDemands = new LinkedHashSet<PackageView>();
             types = new HashMap<String, TypeDeclaration>();
             break;
 
@@ -49,24 +65,31 @@ public class Environment {
             break;
 
         case BLOCK:
-            variables = new HashMap<String, VariableDeclaration>();
+            if (outer != null && outer.locals != null) {
+                locals = outer.locals;
+                lastLocal = outer.lastLocal;
+            } else {
+                locals = new Locals();
+            }
             break;
 
         }
     }
 
     public VariableDeclaration lookUpVariable(String varName) {
-        if (variables == null)
+        if (locals == null)
             return null;
 
-        VariableDeclaration result = variables.get(varName);
-        if (result != null)
-            return result;
-
-        if (enclosing != null) {
-            result = enclosing.lookUpVariable(varName);
+        // innermost first, through the locals visible here. the names of
+        // variables and their uses are lexemes of the same unit, interned
+        // in the NameTable of the compile (or restored from one stream,
+        // which keeps them shared), so they compare by reference
+        for (int i = lastLocal; i >= 0; i = locals.previous[i]) {
+            if (locals.decls[i].id == varName) {
+                return locals.decls[i];
+            }
         }
-        return result;
+        return null;
     }
 
     public FieldDeclaration lookUpField(String field) {
@@ -96,11 +119,80 @@ public class Environment {
         if (typeName.contains(".")) {
             decl = SymbolTable.getGlobal().get(typeName);
         } else {
-            if ((decl = findName(cuEnv.types, typeName)) == null
-                    && (decl = findName(cuEnv.singleImports, typeName)) == null
-                    && (decl = findName(cuEnv.samePackage, typeName)) == null
-                    && (decl = findName(cuEnv.importOnDemands, typeName)) == null) {
-                return null;
+            decl = cuEnv.lookUpSimpleType(typeName);
+        }
+        return decl;
+    }
+
+    /**
+     * the type a simple name refers to in this compilation unit environment,
+     * null if there is none.
+     * @throws TypeLinkException if the name is ambiguous
+     */
+    public TypeDeclaration lookUpSimpleType(String simpleName) throws TypeLinkException {
+        // the declared type comes first
+        TypeDeclaration decl = types.get(simpleName);
+        if (decl != null) {
+            return decl;
+        }
+        Object entry = typeIndex != null ? typeIndex.get(simpleName) : resolveSimpleType(simpleName);
+        if (entry == AMBIGUOUS) {
+            throw new TypeLinkException("The type " + simpleName + " is ambiguous");
+        }
+        return (TypeDeclaration) entry;
+    }
+
+    /**
+     * index the types this compilation unit scope imports or sees in its
+     * package by simple name, once its imports are added: single imports,
+     * then the package, then the imports on demand, where a name in more than
+     * one of them is AMBIGUOUS. the first of them with the name decides.
+     */
+    public void buildTypeIndex() {
+        Map<String, Object> index = new HashMap<String, Object>();
+        for (PackageView view : importOnDemands) {
+            for (Map.Entry<String, TypeDeclaration> entry : view.getTypes().entrySet()) {
+                Object previous = index.put(entry.getKey(), entry.getValue());
+                if (previous != null && previous != entry.getValue()) {
+                    index.put(entry.getKey(), AMBIGUOUS);
+                }
+            }
+        }
+        if (samePackage != null) {
+            index.putAll(samePackage.getTypes());
+        }
+        for (Map.Entry<String, TypeDeclaration> entry : singleImports.entrySet()) {
+            // single imports of the same simple name are rejected when added
+            String fullName = entry.getKey();
+            index.put(fullName.substring(fullName.lastIndexOf('.') + 1), entry.getValue());
+        }
+        typeIndex = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * what buildTypeIndex would index simpleName as, for a scope without an
+     * index: single imports, the package and imports on demand.
+     */
+    private Object resolveSimpleType(String simpleName) {
+        TypeDeclaration decl = null;
+        for (Map.Entry<String, TypeDeclaration> entry : singleImports.entrySet()) {
+            String fullName = entry.getKey();
+            int dot = fullName.length() - simpleName.length() - 1;
+            if (fullName.endsWith(simpleName) && (dot < 0 || fullName.charAt(dot) == '.')) {
+                // single imports of the same simple name are rejected when added
+                return entry.getValue();
+            }
+        }
+        if (samePackage != null && (decl = samePackage.get(simpleName)) != null) {
+            return decl;
+        }
+        for (PackageView view : importOnDemands) {
+            TypeDeclaration found = view.get(simpleName);
+            if (found != null) {
+                if (decl != null) {
+                    return AMBIGUOUS;
+                }
+                decl = found;
             }
         }
         return decl;
@@ -127,7 +219,7 @@ public class Environment {
     }
 
     public void addVariable(String name, VariableDeclaration declaration) {
-        variables.put(name, declaration);
+        lastLocal = locals.add(declaration, lastLocal);
     }
 
     public void addMethod(String name, MethodDeclaration decl) {
@@ -146,18 +238,55 @@ public class Environment {
         singleImports.put(name, decl);
     }
 
-    public void addImportOnDemand(String name, TypeDeclaration decl) {
-        importOnDemands.put(name, decl);
+    public void addImportOnDemand(PackageView view) {
+        importOnDemands.add(view);
+    }
+
+    public void setSamePackage(PackageView view) {
+        samePackage = view;
     }
 
-    public void addSamePackage(String name, TypeDeclaration decl) {
-        samePackage.put(name, decl);
+    /**
+     * make the members of a class scope, and the inherited ones, read only.
+     */
+    void freeze() {
+        if (fields != null) {
+            fields = Collections.unmodifiableMap(fields);
+        }
+        if (methods != null) {
+            methods = Collections.unmodifiableMap(methods);
+        }
+        if (constructors != null) {
+            constructors = Collections.unmodifiableMap(constructors);
+        }
     }
 
     public Environment getEnclosing() {
         return enclosing;
     }
 
+    /**
+     * the parameters and locals of a method in order of declaration. each
+     * links to the one declared before it that is still in scope, so the
+     * variables visible in a block scope are a chain from its last one.
+     */
+    static class Locals implements Serializable {
+        private static final long serialVersionUID = 1L;
+        VariableDeclaration[] decls = new VariableDeclaration[8];
+        int[] previous = new int[8];
+        int size = 0;
+
+        int add(VariableDeclaration decl, int last) {
+            if (size == decls.length) {
+                decls = Arrays.copyOf(decls, size * 2);
+                previous = Arrays.copyOf(previous, size * 2);
+            }
+            decls[size] = decl;
+            previous[size] = last;
+            return size++;
+        }
+    }
+
     public enum EnvType {
         // might be incomplete
         COMPILATION_UNIT, INHERIT, // contains the fields and methods inherited
@@ -165,23 +294,4 @@ public class Environment {
         BLOCK // block includes method
     }
 
-    private TypeDeclaration findName(Map<String, TypeDeclaration> map, String simpleName) throws TypeLinkException {
-        Set<String> fullNames = map.keySet();
-        boolean simpleNameExists = false;
-        TypeDeclaration typeDec = null;
-        for (String fullName : fullNames) {
-            if (fullName.substring(fullName.lastIndexOf('.') + 1).equals(simpleName)) {
-                if (simpleNameExists) {
-                    throw new TypeLinkException("The type " + simpleName + " is ambiguous");
-                }
-                simpleNameExists = true;
-                typeDec = map.get(fullName);
-            }
-        }
-        if (typeDec != null) {
-            return typeDec;
-        }
-        return null;
-    }
-
 }
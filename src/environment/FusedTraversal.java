@@ -0,0 +1,154 @@
+package environment;
+
+import java.util.List;
+
+import ast.Block;
+import ast.ExpressionStatement;
+import ast.ForStatement;
+import ast.IfStatement;
+import ast.MethodDeclaration;
+import ast.Modifier;
+import ast.QualifiedName;
+import ast.ReturnStatement;
+import ast.SimpleName;
+import ast.Statement;
+import ast.TypeDeclaration;
+import ast.VariableDeclaration;
+import ast.VariableDeclarationStatement;
+import ast.WhileStatement;
+
+/**
+ * One walk of a compilation unit that calls the hooks of several NodePasses,
+ * in the order they are given, at each node.
+ */
+public class FusedTraversal extends TraversalVisitor {
+    private final NodePass[] passes;
+
+    public FusedTraversal(List<NodePass> passes) {
+        this.passes = passes.toArray(new NodePass[passes.size()]);
+    }
+
+    @Override
+    public void visit(TypeDeclaration node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.enter(node);
+        }
+        super.visit(node);
+    }
+
+    @Override
+    public void visit(MethodDeclaration node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.enter(node);
+        }
+        for (Modifier mo : node.modifiers) {
+            mo.accept(this);
+        }
+        if (!node.isConstructor && node.returnType != null) {
+            node.returnType.accept(this);
+        }
+        // parameters are declared, not initialized or executed
+        if (node.body != null) {
+            node.body.accept(this);
+        }
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(Block node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.enter(node);
+        }
+        Statement statement = node.statements.size() > 0 ? node.statements.get(0) : null;
+        while (statement != null) {
+            statement.accept(this);
+            statement = statement.hasNext() ? statement.next() : null;
+        }
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    /**
+     * the statements of a block are walked by visit(Block), one after the
+     * other instead of each from the one before.
+     */
+    @Override
+    public void visitNextStatement(Statement node) throws Exception {
+    }
+
+    @Override
+    public void visit(ExpressionStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(ForStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(IfStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(ReturnStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(VariableDeclarationStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(WhileStatement node) throws Exception {
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(VariableDeclaration node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.enter(node);
+        }
+        super.visit(node);
+        for (NodePass pass : passes) {
+            pass.leave(node);
+        }
+    }
+
+    @Override
+    public void visit(SimpleName node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.visit(node);
+        }
+    }
+
+    @Override
+    public void visit(QualifiedName node) throws Exception {
+        for (NodePass pass : passes) {
+            pass.visit(node);
+        }
+    }
+}
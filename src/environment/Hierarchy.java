@@ -1,7 +1,12 @@
 package environment;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import ast.AST;
@@ -15,11 +20,11 @@ import exceptions.AbstractMethodException;
 import exceptions.HierarchyException;
 
 public class Hierarchy {
-    Set<TypeDeclaration> visited;
 
     public Hierarchy(List<AST> trees) throws Exception {
         buildHierarchy(trees);
         checkHierarchy(trees);
+        TypeHelper.buildSubtypeIndex(trees);
     }
 
     /**
@@ -30,41 +35,31 @@ public class Hierarchy {
      * @throws HierarchyException
      */
     public void buildHierarchy(List<AST> trees) throws HierarchyException {
-        visited = new HashSet<TypeDeclaration>();
+        // inherit environments of precompiled types are already filled
+        List<TypeDeclaration> types = new ArrayList<TypeDeclaration>();
         for (AST tree : trees) {
-            if (tree.root.types.size() > 0)
-                // System.out.println(tree.root.types.get(0).getFullName());
-                buildInherit(tree.root.types.get(0), new HashSet<TypeDeclaration>());
-            // if (tree.root.types.get(0).getFullName().equals("Main")) {
-            // for (String m :
-            // tree.root.types.get(0).getEnvironment().getEnclosing().methods.keySet())
-            // {
-            //
-            // System.out.println(m);
-            // }
-            // }
+            if (!tree.precompiled && tree.root.types.size() > 0) {
+                types.add(tree.root.types.get(0));
+            }
         }
-    }
-
-    private void buildInherit(TypeDeclaration typeDecl, Set<TypeDeclaration> ancestors) throws HierarchyException {
-
-        if (visited.contains(typeDecl)) {
-            // if already visited, skip.
-            // this is possible because of the super class calls
-            return;
+        for (TypeDeclaration typeDecl : types) {
+            addImplicitSuper(typeDecl);
         }
+        for (TypeDeclaration typeDecl : inheritanceOrder(types)) {
+            inherit(typeDecl, superTypes(typeDecl));
+        }
+    }
 
-        // create a new set of ancestors including self for checking cycles
-        Set<TypeDeclaration> newAncesters = new HashSet<TypeDeclaration>(ancestors);
-        newAncesters.add(typeDecl);
-        Set<TypeDeclaration> superTypes = new HashSet<TypeDeclaration>();
-
+    /**
+     * classes without a super class extend Object, interfaces without super
+     * interfaces the object interface.
+     */
+    private void addImplicitSuper(TypeDeclaration typeDecl) {
         if (typeDecl.isInterface) {
             if (typeDecl.interfaces.size() == 0 && typeDecl != SymbolTable.getObjectInterfaceRef()) {
                 // if interface does not extend any other interfaces
                 // implicitly inheirt from object interface
                 TypeDeclaration objInterface = SymbolTable.getObjectInterfaceRef();
-                superTypes.add(objInterface);
                 SimpleType st = new SimpleType(new SimpleName("objInterface"));
                 st.attachDeclaration(objInterface);
                 typeDecl.interfaces.add(st);
@@ -74,45 +69,114 @@ public class Hierarchy {
                 // if class does not extend any class
                 // inherit from object
                 TypeDeclaration obj = SymbolTable.getObjRef();
-                superTypes.add(obj);
                 SimpleType st = new SimpleType(new SimpleName("Object"));
                 st.attachDeclaration(obj);
                 typeDecl.superClass = st;
             }
         }
+    }
 
-        // inherit from super interfaces
+    private Set<TypeDeclaration> superTypes(TypeDeclaration typeDecl) {
+        Set<TypeDeclaration> superTypes = new HashSet<TypeDeclaration>();
         for (Type itf : typeDecl.interfaces) {
-            TypeDeclaration itfDecl = itf.getDeclaration();
-            if (newAncesters.contains(itfDecl)) {
-                // if super interface is an ancestor, error
-                throw new HierarchyException("cycle detected in class hierarchy.");
-            }
-            if (!visited.contains(itfDecl)) {
-                buildInherit(itfDecl, newAncesters);
-            }
-            superTypes.add(itfDecl);
+            superTypes.add(itf.getDeclaration());
         }
-
-        // parent class
         if (typeDecl.superClass != null) {
-            TypeDeclaration superDecl = typeDecl.superClass.getDeclaration();
-            if (newAncesters.contains(superDecl)) {
-                throw new HierarchyException("cycle detected in class hierarchy.");
+            superTypes.add(typeDecl.superClass.getDeclaration());
+        }
+        return superTypes;
+    }
+
+    /**
+     * the types with every type after its super types, found with Tarjan's
+     * strongly connected components, which come out super types first. a
+     * component of more than one type, or a type that is its own super
+     * type, is a cycle.
+     */
+    private List<TypeDeclaration> inheritanceOrder(List<TypeDeclaration> types) throws HierarchyException {
+        int n = types.size();
+        Map<TypeDeclaration, Integer> ids = new IdentityHashMap<TypeDeclaration, Integer>();
+        for (int i = 0; i < n; i++) {
+            ids.put(types.get(i), i);
+        }
+        // edges to the super types, -1 for precompiled ones which are done
+        int[][] supers = new int[n][];
+        for (int i = 0; i < n; i++) {
+            TypeDeclaration typeDecl = types.get(i);
+            supers[i] = new int[typeDecl.interfaces.size() + (typeDecl.superClass != null ? 1 : 0)];
+            int k = 0;
+            for (Type itf : typeDecl.interfaces) {
+                supers[i][k++] = id(ids, itf.getDeclaration());
             }
-            if (!visited.contains(superDecl)) {
-                // if the super class has not been processed, do it first
-                buildInherit(superDecl, newAncesters);
+            if (typeDecl.superClass != null) {
+                supers[i][k++] = id(ids, typeDecl.superClass.getDeclaration());
             }
-
-            superTypes.add(superDecl);
         }
 
-        // process superTypes
-        inherit(typeDecl, superTypes);
+        List<TypeDeclaration> order = new ArrayList<TypeDeclaration>(n);
+        int[] number = new int[n];
+        int[] low = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callType = new int[n];
+        int[] callEdge = new int[n];
+        Arrays.fill(number, -1);
+        int count = 0, top = 0, callTop = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (number[root] != -1) {
+                continue;
+            }
+            number[root] = low[root] = count++;
+            stack[top++] = root;
+            onStack[root] = true;
+            callType[callTop] = root;
+            callEdge[callTop++] = 0;
+
+            while (callTop > 0) {
+                int v = callType[callTop - 1];
+                int e = callEdge[callTop - 1];
+                if (e < supers[v].length) {
+                    callEdge[callTop - 1]++;
+                    int w = supers[v][e];
+                    if (w == v) {
+                        throw new HierarchyException("cycle detected in class hierarchy.");
+                    } else if (w < 0) {
+                        continue;
+                    } else if (number[w] == -1) {
+                        number[w] = low[w] = count++;
+                        stack[top++] = w;
+                        onStack[w] = true;
+                        callType[callTop] = w;
+                        callEdge[callTop++] = 0;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], number[w]);
+                    }
+                    continue;
+                }
 
-        visited.add(typeDecl);
+                // all super types of v are done
+                callTop--;
+                if (callTop > 0) {
+                    int u = callType[callTop - 1];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+                if (low[v] == number[v]) {
+                    if (stack[top - 1] != v) {
+                        throw new HierarchyException("cycle detected in class hierarchy.");
+                    }
+                    top--;
+                    onStack[v] = false;
+                    order.add(types.get(v));
+                }
+            }
+        }
+        return order;
+    }
 
+    private static int id(Map<TypeDeclaration, Integer> ids, TypeDeclaration typeDecl) {
+        Integer id = ids.get(typeDecl);
+        return id == null ? -1 : id;
     }
 
     private void inherit(TypeDeclaration typeDecl, Set<TypeDeclaration> superTypes) throws HierarchyException {
@@ -140,44 +204,89 @@ public class Hierarchy {
         }
     }
 
+    /**
+     * the methods of one name in the direct super types of a type: the one
+     * each super type contains, in the order of the super types, and whether
+     * any of them is not abstract or is public.
+     */
+    private static class Inherited {
+        final List<MethodDeclaration> decls = new ArrayList<MethodDeclaration>(2);
+        boolean concrete = false;
+        boolean isPublic = false;
+
+        void add(MethodDeclaration decl) {
+            decls.add(decl);
+            concrete |= !decl.isAbstract;
+            isPublic |= decl.modifiers.contains(Modifier.PUBLIC);
+        }
+    }
+
+    /**
+     * inherit the methods of the super types, which are done, so each
+     * contains its own methods and the ones in its inherit environment. those
+     * are merged by name once, and every inherited method is checked against
+     * the others of its name in the merge.
+     */
     private void inheritMethods(TypeDeclaration typeDecl, Set<TypeDeclaration> superTypes) throws HierarchyException {
+        Map<String, Inherited> merged = new HashMap<String, Inherited>();
         for (TypeDeclaration sup : superTypes) {
             Environment supEnv = sup.getEnvironment();
-            Environment supInheritEnv = supEnv.getEnclosing();
-            inheritEnv(typeDecl, supEnv, superTypes);
-            inheritEnv(typeDecl, supInheritEnv, superTypes);
+            Map<String, MethodDeclaration> declared = supEnv.methods;
+            for (Map.Entry<String, MethodDeclaration> entry : declared.entrySet()) {
+                merge(merged, entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, MethodDeclaration> entry : supEnv.getEnclosing().methods.entrySet()) {
+                if (!declared.containsKey(entry.getKey())) {
+                    merge(merged, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (TypeDeclaration sup : superTypes) {
+            Environment supEnv = sup.getEnvironment();
+            inheritEnv(typeDecl, supEnv, merged);
+            inheritEnv(typeDecl, supEnv.getEnclosing(), merged);
         }
     }
 
-    public void inheritEnv(TypeDeclaration cls, Environment supEnv, Set<TypeDeclaration> superTypes)
+    private static void merge(Map<String, Inherited> merged, String m, MethodDeclaration decl) {
+        Inherited inherited = merged.get(m);
+        if (inherited == null) {
+            inherited = new Inherited();
+            merged.put(m, inherited);
+        }
+        inherited.add(decl);
+    }
+
+    private void inheritEnv(TypeDeclaration cls, Environment supEnv, Map<String, Inherited> merged)
             throws HierarchyException {
         Environment clsEnv = cls.getEnvironment();
         Environment inheritEnv = clsEnv.getEnclosing();
-        for (String m : supEnv.methods.keySet()) {
-            // System.out.println("\t" + m);
+        for (Map.Entry<String, MethodDeclaration> entry : supEnv.methods.entrySet()) {
+            String m = entry.getKey();
+            MethodDeclaration smDecl = entry.getValue();
             MethodDeclaration mDecl = clsEnv.methods.get(m);
             if (mDecl != null) {
                 // m in declare(T), check replace, but do not add to inherit
-                checkReplace(mDecl, supEnv.methods.get(m));
+                checkReplace(mDecl, smDecl);
+            } else if (!smDecl.isAbstract) {
+                // m not in declare(T) and not abstract, in inherit. it
+                // replaces the other methods of the name
+                for (MethodDeclaration old : merged.get(m).decls) {
+                    if (old != smDecl) {
+                        checkReplace(smDecl, old);
+                    }
+                }
+                inheritEnv.addMethod(m, smDecl);
             } else {
-                // m not in declare(T)
-                MethodDeclaration smDecl = supEnv.methods.get(m);
-                if (!smDecl.isAbstract) {
-                    // if not abstract, in inherit
-
-                    // replace other abstract methods from other supers
-                    checkInheritReplace(m, smDecl, superTypes);
-
-                    inheritEnv.addMethod(m, smDecl);
-                } else {
-                    // find all methods like this one
-                    if (allAbstractAndNoMoreVisible(m, smDecl, superTypes)) {
-                        if (inheritEnv.methods.keySet().contains(m)) {
-                            MethodDeclaration existing = inheritEnv.methods.get(m);
-                            checkReturnType(smDecl, existing);
-                        }
-                        inheritEnv.addMethod(m, smDecl);
+                // abstract, in inherit if all of the name are abstract and
+                // none is more visible. a protected method is not public
+                Inherited inherited = merged.get(m);
+                if (!inherited.concrete && !(inherited.isPublic && smDecl.modifiers.contains(Modifier.PROTECTED))) {
+                    MethodDeclaration existing = inheritEnv.methods.get(m);
+                    if (existing != null) {
+                        checkReturnType(smDecl, existing);
                     }
+                    inheritEnv.addMethod(m, smDecl);
                 }
             }
         }
@@ -191,43 +300,6 @@ public class Hierarchy {
         }
     }
 
-    private void checkInheritReplace(String m, MethodDeclaration mDecl, Set<TypeDeclaration> superTypes)
-            throws HierarchyException {
-        Set<MethodDeclaration> all = getAllMethods(m, superTypes);
-        for (MethodDeclaration old : all) {
-            if (old != mDecl) {
-                checkReplace(mDecl, old);
-            }
-        }
-    }
-
-    /**
-     * check for all abstract. also if there is a version of better visibility.
-     * for example if this method is protected, and there is one that is public.
-     * return false.
-     * 
-     * 
-     * @param m
-     * @param mDecl
-     * @param superTypes
-     * @return
-     */
-    private boolean allAbstractAndNoMoreVisible(String m, MethodDeclaration mDecl, Set<TypeDeclaration> superTypes) {
-        for (TypeDeclaration sup : superTypes) {
-            Environment supEnv = sup.getEnvironment();
-            MethodDeclaration otherDecl = supEnv.lookUpMethod(m);
-            if (otherDecl != null && otherDecl != mDecl) {
-                if (!otherDecl.isAbstract) {
-                    return false;
-                } else if (otherDecl.modifiers.contains(Modifier.PUBLIC)
-                        && mDecl.modifiers.contains(Modifier.PROTECTED)) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     private void checkReplace(MethodDeclaration mDecl, MethodDeclaration old) throws HierarchyException {
         // TODO Auto-generated method stub
         MethodDeclaration decl1 = mDecl;
@@ -257,27 +329,9 @@ public class Hierarchy {
         }
     }
 
-    /**
-     * Get all methods of the same signature
-     * 
-     * @param m
-     * @param superTypes
-     * @return
-     */
-    private Set<MethodDeclaration> getAllMethods(String m, Set<TypeDeclaration> superTypes) {
-        Set<MethodDeclaration> all = new HashSet<MethodDeclaration>();
-        for (TypeDeclaration sup : superTypes) {
-            MethodDeclaration mDecl = sup.getEnvironment().lookUpMethod(m);
-            if (mDecl != null) {
-                all.add(mDecl);
-            }
-        }
-        return all;
-    }
-
     public void checkHierarchy(List<AST> trees) throws Exception {
         for (AST ast : trees) {
-            if (ast.root.types.size() == 0)
+            if (ast.root.types.size() == 0 || ast.precompiled)
                 continue;
             TypeDeclaration tDecl = ast.root.types.get(0);
 
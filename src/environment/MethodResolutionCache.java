@@ -0,0 +1,100 @@
+package environment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ast.ArrayType;
+import ast.MethodDeclaration;
+import ast.PrimitiveType;
+import ast.SimpleType;
+import ast.Type;
+import ast.TypeDeclaration;
+import exceptions.NameException;
+
+/**
+ * The method a call with a given receiver type, name and argument types
+ * resolves to, shared by the type checking of every unit of one compile.
+ *
+ * Keys use the ids of TypeHelper.buildSubtypeIndex, so a call whose types
+ * are not indexed is looked up without the cache. Only calls that resolve
+ * are remembered, a call that does not is looked up again and fails the
+ * same way.
+ */
+public class MethodResolutionCache {
+    private final Map<Key, MethodDeclaration> methods = new ConcurrentHashMap<Key, MethodDeclaration>();
+
+    private static final class Key {
+        final int receiver;
+        final String name;
+        final int[] args;
+        final int hash;
+
+        Key(int receiver, String name, int[] args) {
+            this.receiver = receiver;
+            this.name = name;
+            this.args = args;
+            hash = (receiver * 31 + name.hashCode()) * 31 + Arrays.hashCode(args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            // names are interned, a name that is not only misses the cache
+            return receiver == other.receiver && name == other.name && Arrays.equals(args, other.args);
+        }
+    }
+
+    /**
+     * the method name(paramTypes) of receiver, null if it has none.
+     */
+    public MethodDeclaration lookUp(TypeDeclaration receiver, String name, List<Type> paramTypes)
+            throws NameException {
+        Key key = key(receiver, name, paramTypes);
+        if (key == null) {
+            return receiver.getEnvironment().lookUpMethod(NameHelper.mangle(name, paramTypes));
+        }
+        MethodDeclaration mDecl = methods.get(key);
+        if (mDecl == null) {
+            mDecl = receiver.getEnvironment().lookUpMethod(NameHelper.mangle(name, paramTypes));
+            if (mDecl != null) {
+                methods.put(key, mDecl);
+            }
+        }
+        return mDecl;
+    }
+
+    private static Key key(TypeDeclaration receiver, String name, List<Type> paramTypes) {
+        if (!TypeHelper.indexed(receiver)) {
+            return null;
+        }
+        int[] args = new int[paramTypes.size()];
+        for (int i = 0; i < args.length; i++) {
+            Type t = paramTypes.get(i);
+            int array = 0;
+            if (t instanceof ArrayType) {
+                t = ((ArrayType) t).type;
+                array = 1;
+            }
+            int code;
+            if (t instanceof PrimitiveType) {
+                code = -1 - ((PrimitiveType) t).value.ordinal();
+            } else if (t instanceof SimpleType && TypeHelper.indexed(t.getDeclaration())) {
+                code = t.getDeclaration().typeId;
+            } else {
+                return null;
+            }
+            args[i] = code * 2 + array;
+        }
+        return new Key(receiver.typeId, name, args);
+    }
+}
@@ -21,17 +21,22 @@ public class NameHelper  {
      * ASSUMPTION: that type linking has been done on the parameters
      * 
      * Method name format: [namelength][methodname][typename1length][typename1][typename2length][typename2]
+     * Built once per declaration, the parameter types do not change after linking.
      * @param md
      * @return
      * @throws NameException 
      */
     public static String mangle(MethodDeclaration md) throws NameException {
+        if (md.mangledName != null) {
+            return md.mangledName;
+        }
         List<Type> paramTypes = new ArrayList<Type>();
         for (VariableDeclaration vd : md.parameters) {
             paramTypes.add(vd.type);
         }
 
-        return mangle(md.id, paramTypes);
+        md.mangledName = mangle(md.id, paramTypes);
+        return md.mangledName;
 //        String mName = md.id.length() + md.id;
 //        for (VariableDeclaration pd : md.parameters) {
 //            String typeName; 
@@ -58,8 +63,14 @@ public class NameHelper  {
     }
 
     public static String mangle(String methodName, List<Type> paramTypes) throws NameException {
-        String mName = methodName.length() + methodName;
+        StringBuilder mName = new StringBuilder();
+        mName.append(methodName.length()).append(methodName);
         for (Type t : paramTypes) {
+            Type canonical = t == null ? null : t.canonical();
+            if (canonical != null && canonical.mangledName != null) {
+                mName.append(canonical.mangledName);
+                continue;
+            }
             String typeName;
             if (t instanceof PrimitiveType) {
                 typeName = t.toString();
@@ -77,9 +88,13 @@ public class NameHelper  {
                 throw new NameException("unexpected type: " + (t==null? "null" : t.getClass().toString()));
             }
             
-            mName += typeName.length() + typeName;
+            String mangled = typeName.length() + typeName;
+            if (canonical != null) {
+                canonical.mangledName = mangled;
+            }
+            mName.append(mangled);
         }
 
-        return mName;
+        return mName.toString();
     }
 }
@@ -0,0 +1,71 @@
+package environment;
+
+import ast.Block;
+import ast.ExpressionStatement;
+import ast.ForStatement;
+import ast.IfStatement;
+import ast.MethodDeclaration;
+import ast.QualifiedName;
+import ast.ReturnStatement;
+import ast.SimpleName;
+import ast.TypeDeclaration;
+import ast.VariableDeclaration;
+import ast.VariableDeclarationStatement;
+import ast.WhileStatement;
+
+/**
+ * A pass over one compilation unit written as hooks instead of a visitor, so
+ * that a FusedTraversal can run several of them in a single walk of the
+ * tree. Every hook does nothing unless overridden.
+ *
+ * The walk is the one of TraversalVisitor except that method parameters are
+ * not visited and the statements of a block are visited in a loop. A
+ * statement is left once its sub statements and expressions have been.
+ */
+public abstract class NodePass {
+
+    public void enter(TypeDeclaration node) throws Exception {
+    }
+
+    public void enter(MethodDeclaration node) throws Exception {
+    }
+
+    public void leave(MethodDeclaration node) throws Exception {
+    }
+
+    public void enter(Block node) throws Exception {
+    }
+
+    public void leave(Block node) throws Exception {
+    }
+
+    public void leave(ExpressionStatement node) throws Exception {
+    }
+
+    public void leave(ForStatement node) throws Exception {
+    }
+
+    public void leave(IfStatement node) throws Exception {
+    }
+
+    public void leave(ReturnStatement node) throws Exception {
+    }
+
+    public void leave(VariableDeclarationStatement node) throws Exception {
+    }
+
+    public void leave(WhileStatement node) throws Exception {
+    }
+
+    public void enter(VariableDeclaration node) throws Exception {
+    }
+
+    public void leave(VariableDeclaration node) throws Exception {
+    }
+
+    public void visit(SimpleName node) throws Exception {
+    }
+
+    public void visit(QualifiedName node) throws Exception {
+    }
+}
@@ -0,0 +1,53 @@
+package environment;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import ast.TypeDeclaration;
+
+/**
+ * The types of one package by simple name. Built once per compile by
+ * SymbolTable and shared by every compilation unit in or importing the
+ * package.
+ */
+public class PackageView implements Serializable {
+    private static final long serialVersionUID = 1L;
+    public final String name;
+    private final Map<String, TypeDeclaration> types = new HashMap<String, TypeDeclaration>();
+
+    public PackageView(String name) {
+        this.name = name;
+    }
+
+    void add(TypeDeclaration type) {
+        types.put(type.id, type);
+    }
+
+    /**
+     * the type of the package with the simple name, null if there is none.
+     */
+    public TypeDeclaration get(String simpleName) {
+        return types.get(simpleName);
+    }
+
+    /**
+     * the types of the package by simple name, read only.
+     */
+    public Map<String, TypeDeclaration> getTypes() {
+        return Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * point the view at the declarations of the same names in global.
+     */
+    public void relink(Map<String, TypeDeclaration> global) {
+        for (Map.Entry<String, TypeDeclaration> entry : types.entrySet()) {
+            TypeDeclaration current = global.get(entry.getValue().getFullName());
+            if (current != null) {
+                entry.setValue(current);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package environment;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -9,6 +10,7 @@ import ast.AST;
 import ast.TypeDeclaration;
 import ast.Visitor;
 import exceptions.NameException;
+import utility.CompilationContext;
 
 /**
  * created so that it is easier to maintain environment stack through different visitors
@@ -18,8 +20,6 @@ import exceptions.NameException;
  */
 public class SymbolTable {
     Environment curr;
-    private static HashMap<String, TypeDeclaration> global = null;
-    private static HashMap<String, List<String>> globalPackages = null;
     private static final String OBJ = "java.lang.Object";
     private static final String OBJ_ITF = "joosc.lang.ObjInterface";
 
@@ -48,8 +48,9 @@ public class SymbolTable {
      * @throws NameException
      */
     public static void buildGlobal(List<AST> trees) throws NameException {
-        global = new HashMap<String, TypeDeclaration>();
-        globalPackages = new HashMap<String, List<String>>();
+        Map<String, TypeDeclaration> global = new HashMap<String, TypeDeclaration>();
+        Map<String, List<String>> globalPackages = new HashMap<String, List<String>>();
+        Map<String, PackageView> packageViews = new HashMap<String, PackageView>();
         for (AST ast : trees) {
             String fullName = "";
             String pkgName = "";
@@ -63,6 +64,7 @@ public class SymbolTable {
             if (pkgCls == null) {
                 pkgCls = new LinkedList<String>();
                 globalPackages.put(pkgName, pkgCls);
+                packageViews.put(pkgName, new PackageView(pkgName));
             }
 
             // if no types are defined, add nothing
@@ -76,12 +78,18 @@ public class SymbolTable {
                     throw new NameException("Duplicate Type");
                 }
                 global.put(fullName, type);
+                packageViews.get(pkgName).add(type);
 
             }
         }
+        CompilationContext context = CompilationContext.current();
+        context.global = global;
+        context.globalPackages = globalPackages;
+        context.packageViews = packageViews;
     }
 
     public static Map<String, TypeDeclaration> getGlobal() {
+        Map<String, TypeDeclaration> global = CompilationContext.current().global;
         if (global == null)
             throw new RuntimeException("build global environment first.");
         return global;
@@ -93,12 +101,24 @@ public class SymbolTable {
      * @return
      */
     public static Map<String, List<String>> getAllPackages() {
+        Map<String, List<String>> globalPackages = CompilationContext.current().globalPackages;
         if (globalPackages == null) {
             throw new RuntimeException("build global environment first.");
         }
         return globalPackages;
     }
 
+    /**
+     * a map from package name to the types of the package by simple name
+     */
+    public static Map<String, PackageView> getPackageViews() {
+        Map<String, PackageView> packageViews = CompilationContext.current().packageViews;
+        if (packageViews == null) {
+            throw new RuntimeException("build global environment first.");
+        }
+        return packageViews;
+    }
+
     /**
      * example of how buildGlobal and SemanticsVisitor will be used.
      * 
@@ -109,16 +129,43 @@ public class SymbolTable {
         buildGlobal(trees);
         Visitor sv = new TopDeclVisitor();
         for (AST tree : trees) {
+            if (tree.precompiled) {
+                // environments came with the tree
+                continue;
+            }
             tree.root.accept(sv);
         }
     }
 
+    /**
+     * make the global environment and the member scopes of the types of
+     * trees read only. After this the checks of different compilation units
+     * share nothing they write, so they can run at the same time. The
+     * compilation unit scopes are not written after TopDeclVisitor links
+     * them, and their type index is read only from then on.
+     */
+    public static void freeze(List<AST> trees) {
+        CompilationContext context = CompilationContext.current();
+        context.global = Collections.unmodifiableMap(context.global);
+        context.globalPackages = Collections.unmodifiableMap(context.globalPackages);
+        context.packageViews = Collections.unmodifiableMap(context.packageViews);
+        for (AST tree : trees) {
+            if (tree.precompiled || tree.root.types.isEmpty()) {
+                continue;
+            }
+            for (Environment env = tree.root.types.get(0).getEnvironment(); env != null
+                    && env.type != Environment.EnvType.COMPILATION_UNIT; env = env.getEnclosing()) {
+                env.freeze();
+            }
+        }
+    }
+
     public static TypeDeclaration getObjRef() {
-        return global.get(OBJ);
+        return getGlobal().get(OBJ);
     }
 
     public static TypeDeclaration getObjectInterfaceRef() {
-        return global.get(OBJ_ITF);
+        return getGlobal().get(OBJ_ITF);
     }
 
 }
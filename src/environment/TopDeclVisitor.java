@@ -67,7 +67,6 @@ public class TopDeclVisitor extends TraversalVisitor {
                                                                // for this file
         Environment curr = table.currentScope();
 
-        final Map<String, List<String>> pkgCls = SymbolTable.getAllPackages();
         final Map<String, TypeDeclaration> globalEnv = SymbolTable.getGlobal();
 
         // Done: check for ambiguous names
@@ -77,18 +76,9 @@ public class TopDeclVisitor extends TraversalVisitor {
             checkPkgName(cu.pkg.name);
             pkg = cu.pkg.name.toString();
         }
-        for (String cls : pkgCls.get(pkg)) {
-            TypeDeclaration otherDecl = globalEnv.get(cls);
-            TypeDeclaration thisDecl = null;
-            if (cu.types.size() > 0) {
-                thisDecl = cu.types.get(0);
-            }
-            if (thisDecl == null || cls != thisDecl.id) {
-                // if the file from same package is not this one, add it.
-                // names in samePackage is simple.
-                curr.addSamePackage(cls, otherDecl);
-            }
-        }
+        // the package's own view, which also holds this type; types is
+        // searched before it.
+        curr.setSamePackage(SymbolTable.getPackageViews().get(pkg));
 
         // imports
         // check for single type import collision. e.g java.util.List,
@@ -129,6 +119,7 @@ public class TopDeclVisitor extends TraversalVisitor {
         lang.add("java");
         lang.add("lang");
         importOnDemand(lang);
+        curr.buildTypeIndex();
 
         // class or interface declaration
         for (TypeDeclaration typeDecl : cu.types) {
@@ -403,21 +394,17 @@ public class TopDeclVisitor extends TraversalVisitor {
     private void importOnDemand(List<String> name) throws NameException {
         String qualifierStr = String.join(".", name);
         boolean found = false;
-        List<String> clsList = new LinkedList<String>();
-        for (String pkgName : SymbolTable.getAllPackages().keySet()) {
+        for (PackageView view : SymbolTable.getPackageViews().values()) {
+            String pkgName = view.name;
             if (pkgName.startsWith(qualifierStr)
                     && (pkgName.length() == qualifierStr.length() || pkgName.charAt(qualifierStr.length()) == '.')) {
                 found = true;
-                clsList.addAll(SymbolTable.getAllPackages().get(pkgName));
+                table.currentScope().addImportOnDemand(view);
             }
         }
 
         if (!found)
             throw new NameException("Import package name not recognized: " + qualifierStr);
-
-        for (String cls : clsList) {
-            table.currentScope().addImportOnDemand(cls, SymbolTable.getGlobal().get(cls));
-        }
     }
 
     private void checkPkgName(Name pkg) throws NameException {
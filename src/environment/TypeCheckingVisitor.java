@@ -52,9 +52,11 @@ import ast.Visitor;
 import ast.WhileStatement;
 import exceptions.NameException;
 import exceptions.TypeCheckingException;
+import utility.UnitTasks;
 
 public class TypeCheckingVisitor extends EnvTraversalVisitor {
     private final Map<String, TypeDeclaration> global = SymbolTable.getGlobal();
+    private final MethodResolutionCache methods;
     private String currentTypeName;
     private MethodDeclaration currentMethod;
     private TypeDeclaration currentTypeDecl;
@@ -63,6 +65,10 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
     // for forward reference checking
     Set<FieldDeclaration> unseenFields = new HashSet<FieldDeclaration>();
     boolean isFieldInit = false;
+
+    public TypeCheckingVisitor(MethodResolutionCache methods) {
+        this.methods = methods;
+    }
     
     @Override
     public void visit(CompilationUnit node) throws Exception {
@@ -162,7 +168,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
 
     @Override
     public void visit(BooleanLiteral node) throws Exception {
-        node.attachType(new PrimitiveType(Value.BOOLEAN));
+        node.attachType(PrimitiveType.of(Value.BOOLEAN));
     }
 
     @Override
@@ -187,13 +193,13 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         if (checkPrimitive(castToType, unaryType, false)) {
             node.attachType(castToType);
         } else if (checkPrimitive(castToType, unaryType, true)) {
-            node.attachType(new PrimitiveType(Value.BOOLEAN));
+            node.attachType(PrimitiveType.of(Value.BOOLEAN));
         } else if (TypeHelper.assignable(castToType, unaryType) || TypeHelper.assignable(unaryType, castToType)) {
             if (castToType instanceof ArrayType) {
                 ArrayType aCastToType = (ArrayType) castToType;
                 node.attachType(aCastToType);
             } else if (castToType instanceof SimpleType) {
-                node.attachType(simpleTypeBuilder((SimpleType) castToType));
+                node.attachType(SimpleType.of(castToType.getDeclaration()));
             }
         } else {
             throw new TypeCheckingException("No type found for cast.");
@@ -202,7 +208,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
 
     @Override
     public void visit(CharacterLiteral node) throws Exception {
-        node.attachType(new PrimitiveType(Value.CHAR));
+        node.attachType(PrimitiveType.of(Value.CHAR));
     }
     /**
      * get the constructors of node.type
@@ -266,7 +272,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         Type exprType = node.expr.getType();
         
         if (exprType instanceof ArrayType && node.id.toString().equals("length")) {
-            node.attachType(new PrimitiveType(Value.INT));
+            node.attachType(PrimitiveType.of(Value.INT));
         } else if (exprType instanceof SimpleType) {
             TypeDeclaration prefixDecl = node.expr.getType().getDeclaration();
             FieldDeclaration fDecl = prefixDecl.getEnvironment().lookUpField(node.id.toString());
@@ -314,7 +320,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         }
         
         if (TypeHelper.assignable(exprType, node.type) || TypeHelper.assignable(node.type, exprType)) {
-            node.attachType(new PrimitiveType(Value.BOOLEAN));
+            node.attachType(PrimitiveType.of(Value.BOOLEAN));
         } else {
             throw new TypeCheckingException("Uncomparable types in instanceof: " + exprType + ":=" + node.type  );
         }
@@ -322,7 +328,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
 
     @Override
     public void visit(IntegerLiteral node) throws Exception {
-        node.attachType(new PrimitiveType(Value.INT));
+        node.attachType(PrimitiveType.of(Value.INT));
     }
 
     /**
@@ -352,8 +358,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
             // Primary.id(...)
             node.expr.accept(this);    // there should always be an expression
             TypeDeclaration prefixDecl = node.expr.getType().getDeclaration();
-            String methodName = NameHelper.mangle(node.id.toString(), argTypes);
-            MethodDeclaration mDecl = prefixDecl.getEnvironment().lookUpMethod(methodName);
+            MethodDeclaration mDecl = methods.lookUp(prefixDecl, node.id.toString(), argTypes);
             if (mDecl == null)
                 throw new TypeCheckingException("Method invocation [Primary].[ID]() not recoginzed: " + node.expr + " " + node.id);
             
@@ -368,7 +373,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
             
             // check protected method
             if (mDecl.modifiers.contains(Modifier.PROTECTED)) {
-                checkInstanceProtected(prefixDecl, methodName);
+                checkInstanceProtected(prefixDecl, NameHelper.mangle(node.id.toString(), argTypes));
             }
             // check that it is not a static method
             checkNonStatic(mDecl);
@@ -427,7 +432,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
 
     @Override
     public void visit(StringLiteral node) throws Exception {
-        node.attachType(simpleTypeBuilder("java.lang.String"));
+        node.attachType(SimpleType.of(global.get("java.lang.String")));
     }
 
     @Override
@@ -437,7 +442,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
                 throw new TypeCheckingException("Cannot call this expression in static method.");
             }
         }
-        node.attachType(simpleTypeBuilder(this.currentTypeName));
+        node.attachType(SimpleType.of(currentTypeDecl));
     }
 
     @Override
@@ -628,7 +633,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
                 return type2;
             }
             if (checkPrimitive(lhs, rhs, false)) {
-                return new PrimitiveType(Value.INT);
+                return PrimitiveType.of(Value.INT);
             } else {
                 throw new TypeCheckingException("Invalid operation: + have to be used for PrimitiveType except boolean");
             }
@@ -637,7 +642,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         case BITOR:
         case BITAND:
             if (checkPrimitive(lhs, rhs, true)) {
-                return new PrimitiveType(Value.BOOLEAN);
+                return PrimitiveType.of(Value.BOOLEAN);
             } else {
                 throw new TypeCheckingException("Invalid comparison: & && | || have to be used for boolean");
             }
@@ -646,7 +651,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         case GEQ:
         case LEQ:
             if (checkPrimitive(lhs, rhs, false)) {
-                return new PrimitiveType(Value.BOOLEAN);
+                return PrimitiveType.of(Value.BOOLEAN);
             } else {
                 throw new TypeCheckingException("Invalid comparison: < << > >> have to be used for PrimitiveType except boolean");
             }
@@ -656,7 +661,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
                 throw new TypeCheckingException("Invalid comparison: cannot compare primitive with non-primitive");
             }
             if (TypeHelper.assignable(lhs, rhs) || TypeHelper.assignable(rhs, lhs)) {
-                return new PrimitiveType(Value.BOOLEAN);
+                return PrimitiveType.of(Value.BOOLEAN);
             } else {
                 throw new TypeCheckingException("Invalid comparison: = != have to be used for comparable types");
             }
@@ -665,7 +670,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         case SLASH:
         case MOD:
             if (checkPrimitive(lhs, rhs, false)) {
-                return new PrimitiveType(Value.INT);
+                return PrimitiveType.of(Value.INT);
             } else {
                 throw new TypeCheckingException("Invalid operation: - * / % have to be used for PrimitiveType except boolean");
             }
@@ -776,7 +781,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
                     resolveNameType(qualifier);
                 }
                 if (qualifier.getType() instanceof ArrayType) {
-                    name.attachType(new PrimitiveType(Value.INT));
+                    name.attachType(PrimitiveType.of(Value.INT));
                 } else {
                     throw new TypeCheckingException("non-array type cannot call length: " + name);
                 }
@@ -878,13 +883,11 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
 
     private SimpleType checkeStringConcat(Type type1, Type type2)
             throws TypeCheckingException {
-        if (type1 instanceof SimpleType) {
-            if (type1.getDeclaration().getFullName().equals("java.lang.String")) {
-                if (!(type2 instanceof Void)) {
-                    return simpleTypeBuilder((SimpleType) type1);
-                } else {
-                    throw new TypeCheckingException("Cannot concat string with void");
-                }
+        if (TypeHelper.isString(type1)) {
+            if (!(type2 instanceof Void)) {
+                return SimpleType.of(type1.getDeclaration());
+            } else {
+                throw new TypeCheckingException("Cannot concat string with void");
             }
         }
         return null;
@@ -921,14 +924,14 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
             // values.add(Value.CHAR);
             values.add(Value.BOOLEAN);
             if (CheckSinglePrimitive(expr, values, null)) {
-                return new PrimitiveType(Value.INT);
+                return PrimitiveType.of(Value.INT);
             }
             break;
         case NOT:
             values = new HashSet<Value>();
             values.add(Value.BOOLEAN);
             if (CheckSinglePrimitive(expr, null, values)) {
-                return new PrimitiveType(Value.BOOLEAN);
+                return PrimitiveType.of(Value.BOOLEAN);
             }
             break;
         }
@@ -956,34 +959,11 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
         return false;
     }
 
-    private SimpleType simpleTypeBuilder(SimpleType simpleType) {
-        Name name = simpleType.name;
-        SimpleType type = new SimpleType(name);
-        type.attachDeclaration(simpleType.getDeclaration());
-        return type;
-    }
-
     private ArrayType arrayTypeBuilder(Type type) throws TypeCheckingException {
-        ArrayType arrayType = null;
-        if (type instanceof SimpleType) {
-            SimpleType stype = (SimpleType) type;
-            arrayType = new ArrayType(stype);
-        } else if (type instanceof PrimitiveType) {
-            PrimitiveType ptype = (PrimitiveType) type;
-            arrayType = new ArrayType(ptype);
-        } else {
+        if (!(type instanceof SimpleType || type instanceof PrimitiveType)) {
             throw new TypeCheckingException("ArrayBuilder error.");
         }
-        return arrayType;
-    }
-
-    // Keep this for String Literal and this for now...
-    private SimpleType simpleTypeBuilder(String typeName) {
-        SimpleName name = new SimpleName(typeName);
-        SimpleType type = new SimpleType(name);
-        TypeDeclaration typeDec = global.get(typeName);
-        type.attachDeclaration(typeDec);
-        return type;
+        return ArrayType.of(type);
     }
 
     private void resolveMethodName(Name name, List<Type> paramTypes) throws Exception {
@@ -997,7 +977,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
     }
 
     private void resolveMethodName(SimpleName name, List<Type> paramTypes) throws NameException {
-        MethodDeclaration mDecl = curr.lookUpMethod(NameHelper.mangle(name.toString(), paramTypes));
+        MethodDeclaration mDecl = methods.lookUp(currentTypeDecl, name.toString(), paramTypes);
         if (mDecl == null)
             throw new NameException("Simple method name not recognized: " + name );
         
@@ -1042,7 +1022,7 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
                     prefixDecl = fDecl.type.getDeclaration();
                     j++;
                 }
-                MethodDeclaration mDecl = prefixDecl.getEnvironment().lookUpMethod(NameHelper.mangle(fn.get(j), paramTypes));
+                MethodDeclaration mDecl = methods.lookUp(prefixDecl, fn.get(j), paramTypes);
                 if (i == j && !mDecl.modifiers.contains(Modifier.STATIC)) {
                     // static method
                     throw new TypeCheckingException("Nonstatic method accessed in a static manner: " + name);
@@ -1073,16 +1053,19 @@ public class TypeCheckingVisitor extends EnvTraversalVisitor {
             i++;
         }
         
-        MethodDeclaration mDecl = prefixDecl.getEnvironment().lookUpMethod(NameHelper.mangle(fn.get(i), paramTypes));
+        MethodDeclaration mDecl = methods.lookUp(prefixDecl, fn.get(i), paramTypes);
         checkNonStatic(mDecl);
         return mDecl;
     }
 
     public static void typeCheck(List<AST> trees) throws Exception {
-        for (AST t : trees) {
-            Visitor tcv = new TypeCheckingVisitor();
-            t.root.accept(tcv);
-        }
+        final MethodResolutionCache methods = new MethodResolutionCache();
+        UnitTasks.forEach(trees, new UnitTasks.Task() {
+            public void run(AST t) throws Exception {
+                Visitor tcv = new TypeCheckingVisitor(methods);
+                t.root.accept(tcv);
+            }
+        });
     }
 
     private boolean samePkg(TypeDeclaration typeDecl1, TypeDeclaration typeDecl2) {
@@ -1,18 +1,127 @@
 package environment;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import ast.AST;
 import ast.ArrayType;
 import ast.PrimitiveType;
-import ast.SimpleName;
 import ast.SimpleType;
 import ast.Type;
 import ast.TypeDeclaration;
+import utility.CompilationContext;
 
 public class TypeHelper {
+    // every index gets a generation no other index has had, it is kept with
+    // Object, Cloneable and Serializable in the CompilationContext
+    private static final AtomicInteger generations = new AtomicInteger();
+
+    /**
+     * number the types of trees and record on each its super types, as a bit
+     * set of ids, and for classes its display: the chain of super classes
+     * indexed by depth. After this inheritsFrom between two of the types is
+     * a lookup. Run once the hierarchy has been built.
+     */
+    public static void buildSubtypeIndex(List<AST> trees) {
+        CompilationContext context = CompilationContext.current();
+        int generation = generations.incrementAndGet();
+        context.indexGeneration = generation;
+        Map<String, TypeDeclaration> global = SymbolTable.getGlobal();
+        context.object = global.get("java.lang.Object");
+        context.cloneable = global.get("java.lang.Cloneable");
+        context.serializable = global.get("java.io.Serializable");
+        context.string = SimpleType.of(global.get("java.lang.String"));
+
+        List<TypeDeclaration> types = new ArrayList<TypeDeclaration>();
+        for (AST tree : trees) {
+            if (tree.root.types.size() > 0) {
+                TypeDeclaration type = tree.root.types.get(0);
+                type.typeId = types.size();
+                type.indexGeneration = generation;
+                type.supertypes = null;
+                type.display = null;
+                types.add(type);
+            }
+        }
+
+        // super types before sub types, without recursing down deep chains
+        Deque<TypeDeclaration> stack = new ArrayDeque<TypeDeclaration>();
+        for (TypeDeclaration root : types) {
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                TypeDeclaration type = stack.peek();
+                if (type.supertypes != null) {
+                    stack.pop();
+                    continue;
+                }
+                boolean ready = true;
+                for (TypeDeclaration sup : superTypes(type)) {
+                    if (sup.indexGeneration != generation) {
+                        // a declaration outside trees, leave the type and
+                        // its sub types to the walk in inheritsFrom
+                        type.indexGeneration = 0;
+                        type.supertypes = new BitSet(0);
+                        ready = false;
+                        break;
+                    }
+                    if (sup.supertypes == null) {
+                        stack.push(sup);
+                        ready = false;
+                    }
+                }
+                if (type.indexGeneration != generation) {
+                    stack.pop();
+                } else if (ready) {
+                    stack.pop();
+                    index(type, types.size());
+                }
+            }
+        }
+    }
+
+    private static List<TypeDeclaration> superTypes(TypeDeclaration type) {
+        List<TypeDeclaration> supers = new ArrayList<TypeDeclaration>(type.interfaces.size() + 1);
+        for (Type itf : type.interfaces) {
+            supers.add(itf.getDeclaration());
+        }
+        if (type.superClass != null) {
+            supers.add(type.superClass.getDeclaration());
+        }
+        return supers;
+    }
+
+    private static void index(TypeDeclaration type, int size) {
+        BitSet supertypes = new BitSet(size);
+        supertypes.set(type.typeId);
+        for (TypeDeclaration sup : superTypes(type)) {
+            supertypes.or(sup.supertypes);
+        }
+        type.supertypes = supertypes;
+        if (!type.isInterface) {
+            TypeDeclaration[] parent = type.superClass == null ? new TypeDeclaration[0]
+                    : type.superClass.getDeclaration().display;
+            type.display = Arrays.copyOf(parent, parent.length + 1);
+            type.display[parent.length] = type;
+        }
+    }
+
+    static boolean indexed(TypeDeclaration type) {
+        return indexed(CompilationContext.current(), type);
+    }
+
+    private static boolean indexed(CompilationContext context, TypeDeclaration type) {
+        return type.indexGeneration == context.indexGeneration && type.supertypes != null;
+    }
+
     // t1 := t2
     public static boolean assignable(Type t1, Type t2) {
         if (t1 == null) {
@@ -47,6 +156,11 @@ public class TypeHelper {
             }
             if (t2 instanceof ArrayType) {
                 SimpleType tau1 = (SimpleType) t1;
+                TypeDeclaration decl = tau1.getDeclaration();
+                CompilationContext context = CompilationContext.current();
+                if (indexed(context, decl)) {
+                    return decl == context.object || decl == context.cloneable || decl == context.serializable;
+                }
                 return tau1.getDeclaration().getFullName().equals("java.lang.Object") ||
                        tau1.getDeclaration().getFullName().equals("java.lang.Cloneable") ||
                        tau1.getDeclaration().getFullName().equals("java.io.Serializable");
@@ -74,6 +188,13 @@ public class TypeHelper {
         return false;
     }
 
+    /**
+     * whether type is java.lang.String, by identity of its canonical type.
+     */
+    public static boolean isString(Type type) {
+        return type instanceof SimpleType && type.canonical() == CompilationContext.current().string;
+    }
+
     /**
      * check if tau2 inherits from tau1.
      * TODO: add Object in here.
@@ -83,12 +204,16 @@ public class TypeHelper {
      */
     public static boolean inheritsFrom(Type tau1, Type tau2) {
         TypeDeclaration tDecl1 = tau1.getDeclaration();
+        TypeDeclaration tDecl2 = tau2.getDeclaration();
+        CompilationContext context = CompilationContext.current();
+        if (indexed(context, tDecl1) && indexed(context, tDecl2)) {
+            return indexedInheritsFrom(context, tDecl1, tDecl2);
+        }
         if (tDecl1.getFullName().equals("java.lang.Object")) {
             return true;
         }
         
         if (!tDecl1.isInterface) {
-            TypeDeclaration tDecl2 = tau2.getDeclaration();
             if (tDecl2.isInterface) {
                 return false;
             }
@@ -134,12 +259,31 @@ public class TypeHelper {
         return false;
     }
     
+    /**
+     * inheritsFrom with the index: Cohen's display test when tau1 is a
+     * class, the bit set of tau2 when it is an interface.
+     */
+    private static boolean indexedInheritsFrom(CompilationContext context, TypeDeclaration tDecl1,
+            TypeDeclaration tDecl2) {
+        if (tDecl1 == context.object) {
+            return true;
+        }
+        if (!tDecl1.isInterface) {
+            if (tDecl2.isInterface) {
+                return false;
+            }
+            int depth = tDecl1.display.length - 1;
+            return depth < tDecl2.display.length && tDecl2.display[depth] == tDecl1;
+        }
+        return tDecl2.supertypes.get(tDecl1.typeId);
+    }
+
     public static boolean inheritsFrom(TypeDeclaration tau1, TypeDeclaration tau2) {
-    	Type t1 = new SimpleType(new SimpleName(tau1.id));
-    	t1.attachDeclaration(tau1);
-    	Type t2 = new SimpleType(new SimpleName(tau2.id));
-    	t2.attachDeclaration(tau2);
-    	return inheritsFrom(t1, t2);
+        CompilationContext context = CompilationContext.current();
+        if (indexed(context, tau1) && indexed(context, tau2)) {
+            return indexedInheritsFrom(context, tau1, tau2);
+        }
+    	return inheritsFrom(SimpleType.of(tau1), SimpleType.of(tau2));
     }
 
 }
@@ -1,7 +1,6 @@
 package environment;
 
 import java.util.Map;
-import java.util.Set;
 
 import ast.ArrayType;
 import ast.PrimitiveType;
@@ -68,41 +67,14 @@ public class TypeVisitor extends TopDeclVisitor {
         // now. See getCompUnitEnv.
         Environment env = getCompUnitEnv(table.curr);
         // Types are for enclosing class or interface? Key is full name?
-        if (!checkSimpleName(env.types, node.toString())
-                && !checkSimpleName(env.singleImports, node.toString())
-                && !checkSimpleName(env.samePackage, node.toString())
-                && !checkSimpleName(env.importOnDemands,node.toString())) {
+        TypeDeclaration decl = env.lookUpSimpleType(node.toString());
+        if (decl == null) {
             throw new TypeLinkException("The type name is not found: " + node);
         }
+        this.typeDec = decl;
         
     }
 
-    /**
-     * @param fullNames
-     * @param simpleName
-     * @return
-     * @throws TypeLinkException 
-     */
-    private boolean checkSimpleName(Map<String, TypeDeclaration> map, String simpleName) throws TypeLinkException {
-        Set<String> fullNames = map.keySet();
-        boolean simpleNameExists = false;
-        TypeDeclaration typeDec = null;
-        for (String fullName : fullNames) {
-            if (fullName.substring(fullName.lastIndexOf('.') + 1).equals(simpleName)) {
-                if (simpleNameExists) {
-                    throw new TypeLinkException("The type " + simpleName + " is ambiguous");
-                }
-                simpleNameExists = true;
-                typeDec = map.get(fullName);
-            }
-        }
-        if (typeDec != null) {
-            this.typeDec = typeDec;
-            return true;
-        }
-        return false;
-    }
-
     private Environment getCompUnitEnv(Environment env) {
         if (env.types == null) {
             env = getCompUnitEnv(env.getEnclosing());
@@ -4,6 +4,7 @@ import ast.Type;
 import ast.Visitor;
 
 public class Void extends Type {
+    private static final long serialVersionUID = 1L;
     @Override
     public String toString() {
         return "void";
@@ -0,0 +1,8 @@
+package exceptions;
+
+public class ParseException extends Exception {
+    private static final long serialVersionUID = 1L;
+    public ParseException(String errorMessage) {
+        super(errorMessage);
+    }
+}
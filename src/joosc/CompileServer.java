@@ -0,0 +1,118 @@
+package joosc;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps one JVM around for many compiles, so the parse table and the JIT
+ * stay warm between them.
+ *
+ * java joosc.Joosc --server               requests on stdin, replies on stdout
+ * java joosc.Joosc --server --socket PATH requests on a Unix domain socket
+ *
+ * A request is one line holding the arguments joosc would get on the command
+ * line, separated by whitespace. The reply is one line with the exit code,
+ * 0 or 42. Relative paths are resolved against the directory the server was
+ * started in, and output/ is written there too. Requests are handled one at a
+ * time, as they all write the same output/.
+ *
+ * With -Djoosc.snapshot=true, standard library files (anything under a java
+ * directory) are linked against a snapshot instead of being compiled again,
+ * see Joosc.compileLinked.
+ *
+ * A request that fails with an Error, like a StackOverflowError on a deeply
+ * nested program, is answered with 42 like any other failed compile, and a
+ * client that fails does not stop the server.
+ */
+public class CompileServer {
+
+    public static int run(String[] args) {
+        try {
+            if (args.length == 2 && args[0].equals("--socket")) {
+                serveSocket(new File(args[1]));
+            } else if (args.length == 0) {
+                serveStdin();
+            } else {
+                System.err.println("Usage: java Joosc --server [--socket <path>]");
+                return 42;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 42;
+        }
+        return 0;
+    }
+
+    private static void serveStdin() throws Exception {
+        // anything the compiler prints must not end up between the replies
+        PrintStream replies = new PrintStream(new FileOutputStream(FileDescriptor.out), true);
+        System.setOut(System.err);
+        serve(new InputStreamReader(System.in), new PrintWriter(replies));
+    }
+
+    private static void serveSocket(final File path) throws Exception {
+        System.setOut(System.err);
+        path.delete();
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(path.toPath()));
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            public void run() {
+                path.delete();
+            }
+        });
+        while (true) {
+            SocketChannel client = server.accept();
+            try {
+                serve(Channels.newReader(client, StandardCharsets.UTF_8),
+                        Channels.newWriter(client, StandardCharsets.UTF_8));
+            } catch (Throwable e) {
+                // the client went away, or its requests ran out of memory
+                // reading them. what they used is garbage once this returns,
+                // keep serving the others
+                e.printStackTrace();
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * answer requests until the end of input.
+     */
+    private static void serve(Reader in, Writer out) throws Exception {
+        BufferedReader requests = new BufferedReader(in);
+        PrintWriter replies = out instanceof PrintWriter ? (PrintWriter) out : new PrintWriter(out);
+        String line;
+        while ((line = requests.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            int code;
+            try {
+                code = Joosc.compileLinked(line.split("\\s+"));
+            } catch (Error e) {
+                // a program that overflows the stack or the heap fails to
+                // compile. its trees are unreachable once the compile has
+                // unwound, so the server can go on
+                e.printStackTrace();
+                code = 42;
+            }
+            replies.println(code);
+            replies.flush();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package joosc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import parser.ParseTable;
+import ast.AST;
+import ast.TypeDeclaration;
+import code_generation.CodePrinter;
+import code_generation.OffSet;
+import environment.Environment;
+import environment.PackageView;
+import environment.SymbolTable;
+import utility.CompilationContext;
+
+/**
+ * Incremental compiles, turned on with -Djoosc.incremental=true.
+ *
+ * After a successful compile the trees (after code generation) and a manifest
+ * are stored in output/joosc.state. The next compile of the same files only
+ * puts the compilation units that changed, and the ones depending on them,
+ * through the pipeline again; the others are restored and marked precompiled,
+ * and their .s files are left alone.
+ *
+ * A unit depends on every unit whose type it names (including through a
+ * qualified name) and on the whole library. Restored trees point straight at
+ * the declarations of their dependencies, so dependents of a changed unit are
+ * recompiled even if only its method bodies changed; the closure is taken
+ * transitively because members of a type can be reached through another
+ * type without naming it.
+ *
+ * Anything that could change name resolution or global offsets of units that
+ * are not recompiled falls back to a full compile: a different list of
+ * files, a unit that now declares a different type, or different interface
+ * method offsets. Type offsets only depend on the order of the files.
+ */
+public class IncrementalBuild {
+    private static final int VERSION = 1;
+    private static final String STATE_FILE = "joosc.state";
+    // the state and the trees in it, anything else is rejected
+    private static final ObjectInputFilter CLASSES = ObjectInputFilter.Config
+            .createFilter("joosc.IncrementalBuild$State;" + StdlibSnapshot.TREE_CLASSES + ";!*");
+
+    /**
+     * what is kept between compiles, one entry per file in compile order.
+     */
+    private static class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String compiler;
+        List<String> files;
+        List<String> hashes = new ArrayList<String>();
+        List<String> typeNames = new ArrayList<String>();
+        List<Set<String>> names = new ArrayList<Set<String>>();
+        List<String> codeFiles = new ArrayList<String>();
+        List<String> interfaceMethods;
+        String layout;
+        byte[] trees;
+    }
+
+    public static int compile(List<String> files) {
+        File output = CompilationContext.current().output;
+        File stateFile = new File(output, STATE_FILE);
+        try {
+            ParseTable grammar = ParseTable.load(Joosc.grammarFile());
+            List<String> hashes = new ArrayList<String>();
+            for (String file : files) {
+                hashes.add(hash(file));
+            }
+
+            State previous = read(stateFile);
+            if (previous == null || !previous.files.equals(files)) {
+                compileAll(files, hashes, grammar, stateFile);
+                return 0;
+            }
+
+            Map<Integer, AST> fresh = new HashMap<Integer, AST>();
+            Map<Integer, Set<String>> names = new HashMap<Integer, Set<String>>();
+            for (int i = 0; i < files.size(); i++) {
+                if (!hashes.get(i).equals(previous.hashes.get(i))) {
+                    Set<String> unitNames = new HashSet<String>();
+                    AST tree = Joosc.buildAST(files.get(i), grammar, unitNames);
+                    if (!typeName(tree).equals(previous.typeNames.get(i))) {
+                        compileAll(files, hashes, grammar, stateFile);
+                        return 0;
+                    }
+                    fresh.put(i, tree);
+                    names.put(i, unitNames);
+                }
+            }
+            if (fresh.isEmpty() && outputsExist(output, previous)) {
+                return 0;
+            }
+
+            Set<Integer> dirty = dependents(previous, fresh.keySet());
+            for (int i : dirty) {
+                if (!fresh.containsKey(i)) {
+                    Set<String> unitNames = new HashSet<String>();
+                    fresh.put(i, Joosc.buildAST(files.get(i), grammar, unitNames));
+                    names.put(i, unitNames);
+                }
+            }
+
+            List<AST> trees = restore(previous);
+            for (Map.Entry<Integer, AST> entry : fresh.entrySet()) {
+                trees.set(entry.getKey(), entry.getValue());
+            }
+            Joosc.check(trees);
+            relink(trees);
+            Joosc.generate(trees);
+            if (!OffSet.getInterfaceMethods().equals(previous.interfaceMethods)) {
+                // code that was not regenerated uses the old offsets
+                compileAll(files, hashes, grammar, stateFile);
+                return 0;
+            }
+
+            // output/ and the state disagree until the new state is written
+            stateFile.delete();
+            CodePrinter printer = new CodePrinter();
+            String layout = printer.getLayoutFingerprint();
+            printer.printChanged(trees, !layout.equals(previous.layout));
+
+            State state = newState(files, hashes, trees, layout);
+            for (int i = 0; i < files.size(); i++) {
+                state.names.add(names.containsKey(i) ? names.get(i) : previous.names.get(i));
+            }
+            write(stateFile, state, trees);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 42;
+        }
+        return 0;
+    }
+
+    private static void compileAll(List<String> files, List<String> hashes, ParseTable grammar, File stateFile)
+            throws Exception {
+        List<AST> trees = new ArrayList<AST>();
+        List<Set<String>> names = new ArrayList<Set<String>>();
+        for (String file : files) {
+            Set<String> unitNames = new HashSet<String>();
+            trees.add(Joosc.buildAST(file, grammar, unitNames));
+            names.add(unitNames);
+        }
+        Joosc.check(trees);
+        Joosc.generate(trees);
+        CodePrinter printer = new CodePrinter();
+        printer.printCode(trees);
+
+        State state = newState(files, hashes, trees, printer.getLayoutFingerprint());
+        state.names = names;
+        write(stateFile, state, trees);
+    }
+
+    /**
+     * the import and package views of restored trees still list the old
+     * declarations of recompiled types. they are never used to resolve names
+     * again, but point them at the new ones so the stored state does not keep
+     * old trees alive.
+     */
+    private static void relink(List<AST> trees) {
+        Map<String, TypeDeclaration> global = SymbolTable.getGlobal();
+        for (AST tree : trees) {
+            Environment env = tree.root.getEnvironment();
+            if (tree.precompiled && env != null) {
+                relink(env.singleImports, global);
+                for (PackageView view : env.importOnDemands) {
+                    view.relink(global);
+                }
+                if (env.samePackage != null) {
+                    env.samePackage.relink(global);
+                }
+            }
+        }
+    }
+
+    private static void relink(Map<String, TypeDeclaration> view, Map<String, TypeDeclaration> global) {
+        for (Map.Entry<String, TypeDeclaration> entry : view.entrySet()) {
+            TypeDeclaration current = global.get(entry.getValue().getFullName());
+            if (current != null) {
+                entry.setValue(current);
+            }
+        }
+    }
+
+    private static State newState(List<String> files, List<String> hashes, List<AST> trees, String layout) {
+        State state = new State();
+        state.compiler = VERSION + ":" + StdlibSnapshot.getBuildStamp();
+        state.files = new ArrayList<String>(files);
+        state.hashes = hashes;
+        for (AST tree : trees) {
+            state.typeNames.add(typeName(tree));
+            if (tree.root.types.size() > 0 && tree.root.types.get(0).getCode() != null) {
+                state.codeFiles.add(typeName(tree) + ".s");
+            }
+        }
+        state.interfaceMethods = new ArrayList<String>(OffSet.getInterfaceMethods());
+        state.layout = layout;
+        return state;
+    }
+
+    /**
+     * changed units and everything that depends on them, directly or not.
+     */
+    private static Set<Integer> dependents(State state, Set<Integer> changed) {
+        Set<Integer> dirty = new HashSet<Integer>(changed);
+        Set<String> dirtyNames = new HashSet<String>();
+        boolean libraryDirty = false;
+        boolean grown = true;
+        while (grown) {
+            grown = false;
+            for (int i : dirty) {
+                String typeName = state.typeNames.get(i);
+                dirtyNames.add(typeName.substring(typeName.lastIndexOf('.') + 1));
+                libraryDirty |= isLibrary(typeName);
+            }
+            for (int i = 0; i < state.files.size(); i++) {
+                if (dirty.contains(i)) {
+                    continue;
+                }
+                if (libraryDirty || !disjoint(state.names.get(i), dirtyNames)) {
+                    dirty.add(i);
+                    grown = true;
+                }
+            }
+        }
+        return dirty;
+    }
+
+    private static boolean disjoint(Set<String> names, Set<String> dirtyNames) {
+        for (String name : dirtyNames) {
+            if (names.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLibrary(String typeName) {
+        return typeName.startsWith("java.") || typeName.startsWith("joosc.");
+    }
+
+    /**
+     * full name of the type declared in tree, or "" if there is none.
+     */
+    private static String typeName(AST tree) {
+        if (tree.root.types.size() == 0) {
+            return "";
+        }
+        return tree.root.types.get(0).getFullName();
+    }
+
+    private static boolean outputsExist(File output, State state) {
+        String[] tables = { "ugly.s", "staticinit.s", "hierarchy.s", "primitivevtable.s" };
+        for (String table : tables) {
+            if (!new File(output, table).exists()) {
+                return false;
+            }
+        }
+        for (String codeFile : state.codeFiles) {
+            if (!new File(output, codeFile).exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AST> restore(State state) throws Exception {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state.trees));
+        in.setObjectInputFilter(CLASSES);
+        try {
+            return new ArrayList<AST>((List<AST>) in.readObject());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @return the stored state, or null if there is none or it was written by
+     *         another build of the compiler.
+     */
+    private static State read(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            ObjectInputStream in = new ObjectInputStream(new FileInputStream(file));
+            in.setObjectInputFilter(CLASSES);
+            try {
+                State state = (State) in.readObject();
+                if (!state.compiler.equals(VERSION + ":" + StdlibSnapshot.getBuildStamp())) {
+                    return null;
+                }
+                return state;
+            } finally {
+                in.close();
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void write(File file, State state, List<AST> trees) throws Exception {
+        for (AST tree : trees) {
+            tree.precompiled = true;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream treeOut = new ObjectOutputStream(bytes);
+        treeOut.writeObject(trees);
+        treeOut.close();
+        state.trees = bytes.toByteArray();
+
+        File tmp = new File(file.getPath() + ".tmp");
+        ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tmp));
+        try {
+            out.writeObject(state);
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+        }
+    }
+
+    private static String hash(String file) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-1");
+        byte[] digest = md.digest(Files.readAllBytes(new File(file).toPath()));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
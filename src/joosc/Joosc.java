@@ -2,26 +2,38 @@ package joosc;
 import java.io.File;
 import java.io.FileReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import parser.ParseTable;
 import parser.ParseTree;
 import parser.Parser;
+import scanner.ByteScanner;
 import scanner.Scanner;
-import scanner.Token;
-import static_analysis.ReachabilityVisitor;
+import scanner.TokenBuffer;
+import scanner.TokenSource;
+import static_analysis.ReachabilityPass;
 import static_analysis.VariableAnalysis;
-import weeder.Weeder;
 import ast.AST;
+import ast.ASTBuilder;
 import code_generation.CodeGenerator;
 import code_generation.CodePrinter;
 import code_generation.HierarchyTableBuilder;
 import code_generation.OffSet;
 import code_generation.UglyTableBuilder;
+import code_generation.VariableOffSetPass;
 import environment.Disambiguation;
 import environment.Hierarchy;
+import environment.NodePass;
 import environment.SymbolTable;
 import environment.TypeCheckingVisitor;
+import utility.CompilationContext;
 
 public class Joosc {
     public static void main(String[] args) {
@@ -30,10 +42,31 @@ public class Joosc {
             System.exit(42);
         }
 
+        if (args[0].equals("--server")) {
+            System.exit(CompileServer.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
         System.exit(compile(args));
     }
 
     public static int compile(String[] args) {
+        return compile(args, CompilationContext.defaultOutput());
+    }
+
+    /**
+     * compile args into the directory output, in a CompilationContext of
+     * its own. compiles into different directories can run at the same time
+     * on different threads.
+     */
+    public static int compile(String[] args, File output) {
+        CompilationContext previous = CompilationContext.bind(new CompilationContext(output));
+        try {
+            return compileInContext(args);
+        } finally {
+            CompilationContext.bind(previous);
+        }
+    }
+
+    private static int compileInContext(String[] args) {
         String objInterfacePath = System.getProperty("user.dir") + "/data/ObjInterface.java";
         List<String> augArgs = new LinkedList<String>();
         for (String arg : args) {
@@ -41,58 +74,348 @@ public class Joosc {
         }
         augArgs.add(objInterfacePath);
 
-        Scanner scanner = null;
-        List<Token> tokens = null;
+        if (Boolean.getBoolean("joosc.incremental")) {
+            return IncrementalBuild.compile(augArgs);
+        }
 
-        File grammar;
+        Metrics.start();
         try {
-            grammar = new File(System.getProperty("user.dir") + "/data/grammar.lr1");
-            List<AST> trees = new LinkedList<AST>();
-            for (String arg : augArgs) {
-                // System.out.println(arg);
-                File input = new File(arg);
-                scanner = new Scanner(new FileReader(input));
-                tokens = scanner.scan();
-                Parser parser = new Parser(tokens, grammar);
-                ParseTree parseTree = parser.parse();
-                Weeder weeder = new Weeder(parseTree, input.getName().substring(0, input.getName().lastIndexOf('.')));
-                weeder.weed();
-                AST ast = new AST(parseTree);
-                trees.add(ast);
-            }
-            SymbolTable.buildEnvs(trees);
-            new Hierarchy(trees);
-            Disambiguation.disambiguate(trees);
-            TypeCheckingVisitor.typeCheck(trees);
-            ReachabilityVisitor.checkReachability(trees);
-            VariableAnalysis.check(trees);
-            OffSet.computeOffSet(trees);
-            UglyTableBuilder.build();
-            HierarchyTableBuilder.build(trees);
-            CodeGenerator.generate(trees);
-            CodePrinter printer = new CodePrinter();
-            printer.printCode(trees);
+            ParseTable grammar = ParseTable.load(grammarFile());
+            List<AST> trees = buildASTs(augArgs, grammar);
+            check(trees);
+            generate(trees);
+            print(trees);
         } catch (Exception e) {
             e.printStackTrace();
             return 42;
+        } finally {
+            Metrics.report();
         }
         return 0;
     }
 
+    /**
+     * semantic analysis. trees marked precompiled are only used for lookups.
+     */
+    static void check(List<AST> trees) throws Exception {
+        checkPasses().run(trees);
+    }
+
+    /**
+     * the passes of semantic analysis. reachability, the variable checks and
+     * local variable offsets each only need the checked tree, so they share
+     * one walk of each unit.
+     */
+    public static PassManager checkPasses() {
+        PassManager passes = new PassManager();
+        passes.add(new PassManager.ProgramPass("environments", new String[] {}, new String[] { "environments" }) {
+            public void run(List<AST> trees, Metrics.Phase phase) throws Exception {
+                SymbolTable.buildEnvs(trees);
+                Metrics.countTypes(phase, trees);
+            }
+        });
+        passes.add(new PassManager.ProgramPass("hierarchy", new String[] { "environments" },
+                new String[] { "hierarchy" }) {
+            public void run(List<AST> trees, Metrics.Phase phase) throws Exception {
+                new Hierarchy(trees);
+            }
+        });
+        passes.add(new PassManager.ProgramPass("disambiguation", new String[] { "hierarchy" },
+                new String[] { "names", "frozen" }) {
+            public void run(List<AST> trees, Metrics.Phase phase) throws Exception {
+                Disambiguation.disambiguate(trees);
+                SymbolTable.freeze(trees);
+            }
+        });
+        passes.add(new PassManager.ProgramPass("type checking", new String[] { "names", "frozen" },
+                new String[] { "types" }) {
+            public void run(List<AST> trees, Metrics.Phase phase) throws Exception {
+                TypeCheckingVisitor.typeCheck(trees);
+            }
+        });
+        passes.add(new PassManager.UnitPass("reachability", new String[] { "types" },
+                new String[] { "reachability" }) {
+            public NodePass newNodePass() {
+                return new ReachabilityPass();
+            }
+        });
+        passes.add(new PassManager.UnitPass("variable analysis", new String[] { "types" },
+                new String[] { "initializers" }) {
+            public NodePass newNodePass() {
+                return new VariableAnalysis();
+            }
+        });
+        passes.add(new PassManager.UnitPass("local offsets", new String[] { "types" },
+                new String[] { "local offsets" }) {
+            public NodePass newNodePass() {
+                return new VariableOffSetPass();
+            }
+        });
+        return passes;
+    }
+
+    /**
+     * offsets, tables and code for each tree, kept in memory until printed.
+     */
+    static void generate(List<AST> trees) throws Exception {
+        Metrics.Phase phase = Metrics.begin("offsets", null);
+        OffSet.computeOffSet(trees);
+        phase.end();
+        phase = Metrics.begin("ugly table", null);
+        UglyTableBuilder.build();
+        phase.end();
+        phase = Metrics.begin("hierarchy table", null);
+        HierarchyTableBuilder.build(trees);
+        phase.end();
+        phase = Metrics.begin("code generation", null);
+        CodeGenerator.generate(trees);
+        phase.end();
+    }
+
+    /**
+     * write output/ for trees.
+     */
+    private static void print(List<AST> trees) throws Exception {
+        Metrics.Phase phase = Metrics.begin("print", null);
+        CodePrinter printer = new CodePrinter();
+        printer.printCode(trees);
+        phase.end();
+        Metrics.countOutputs(trees);
+    }
+
+    private static List<AST> buildASTs(List<String> args, ParseTable grammar) throws Exception {
+        if (Boolean.getBoolean("joosc.parallel")) {
+            return buildASTsParallel(args, grammar);
+        }
+        List<AST> trees = new LinkedList<AST>();
+        for (String arg : args) {
+            // System.out.println(arg);
+            trees.add(buildAST(arg, grammar));
+        }
+        return trees;
+    }
+
+    /**
+     * front end for one compilation unit: scan, parse, weed and build the AST.
+     */
+    static AST buildAST(String arg, ParseTable grammar) throws Exception {
+        return buildAST(arg, grammar, null);
+    }
+
+    /**
+     * front end for one compilation unit, also collecting the identifiers it
+     * uses into names if names is not null.
+     */
+    static AST buildAST(String arg, ParseTable grammar, Set<String> names) throws Exception {
+        File input = new File(arg);
+        // the parser pulls tokens from the scanner, so parse includes scanning
+        Metrics.Phase phase = Metrics.begin("parse", arg);
+        FileReader reader = null;
+        Parser parser;
+        if ("buffer".equals(System.getProperty("joosc.scanner"))) {
+            TokenBuffer tokens = ByteScanner.open(input, CompilationContext.current().names).scanAll();
+            if (names != null) {
+                NameCollector.collect(tokens, names);
+            }
+            parser = new Parser(tokens, grammar);
+        } else {
+            reader = new FileReader(input);
+            TokenSource tokens = new Scanner(reader, CompilationContext.current().names);
+            if (names != null) {
+                tokens = new NameCollector(tokens, names);
+            }
+            parser = new Parser(tokens, grammar);
+        }
+        try {
+            // members are weeded and built as they are reduced, so parse
+            // includes most of weed and ast
+            ASTBuilder builder = new ASTBuilder(input.getName().substring(0, input.getName().lastIndexOf('.')));
+            parser.setReducer(builder);
+            ParseTree parseTree = parser.parse();
+            Metrics.countParseTree(phase, builder.getNodes(), builder.getTokens());
+            phase.end();
+            phase = Metrics.begin("ast", arg);
+            AST tree = builder.build(parseTree);
+            phase.end();
+            return tree;
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * run the front end of all compilation units concurrently. Compilation units
+     * are independent until the symbol table is built. trees come back in input
+     * order, and the error reported is the one from the first failing file in
+     * input order, i.e. the one the sequential loop would have stopped at.
+     */
+    private static List<AST> buildASTsParallel(List<String> args, final ParseTable grammar) throws Exception {
+        final CompilationContext context = CompilationContext.current();
+        List<Future<AST>> futures = new ArrayList<Future<AST>>();
+        for (final String arg : args) {
+            futures.add(ForkJoinPool.commonPool().submit(new Callable<AST>() {
+                public AST call() throws Exception {
+                    CompilationContext previous = CompilationContext.bind(context);
+                    try {
+                        return buildAST(arg, grammar);
+                    } finally {
+                        CompilationContext.bind(previous);
+                    }
+                }
+            }));
+        }
+
+        List<AST> trees = new LinkedList<AST>();
+        try {
+            for (Future<AST> future : futures) {
+                trees.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            for (Future<AST> future : futures) {
+                future.cancel(false);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+        return trees;
+    }
+
+    /**
+     * the precompiled binary table if it has been generated, the text table otherwise.
+     */
+    static File grammarFile() {
+        File binary = new File(System.getProperty("user.dir") + "/data/grammar.bin");
+        if (binary.exists()) {
+            return binary;
+        }
+        return new File(System.getProperty("user.dir") + "/data/grammar.lr1");
+    }
+
     /**
      * write a version of main method that adds the standard library to arguments for testing.
      * @param args
      */
 
     public static int compileSTL(String[] args) {
+        return compileSTL(args, CompilationContext.defaultOutput());
+    }
+
+    /**
+     * compileSTL into the directory output, see compile(String[], File).
+     */
+    public static int compileSTL(String[] args, File output) {
         File javaLib = new File(System.getProperty("user.dir") + "/java/");
-        List<String> sourceFiles = new ArrayList<String>(getLibFiles(javaLib));
+        List<String> libFiles = getLibFiles(javaLib);
+        if (useSnapshot()) {
+            Integer result = compileWithSnapshot(libFiles, args, output);
+            if (result != null) {
+                return result;
+            }
+        }
+        List<String> sourceFiles = new ArrayList<String>(libFiles);
         for (String arg : args) {
             sourceFiles.add(arg);
         }
         String[] sourceFilesInArray = new String[sourceFiles.size()];
         sourceFilesInArray = sourceFiles.toArray(sourceFilesInArray);
-        return compile(sourceFilesInArray);
+        return compile(sourceFilesInArray, output);
+    }
+
+    /**
+     * compile args, linking the standard library files among them against
+     * the snapshot instead of compiling them again. The library comes first
+     * in the trees, so offsets may differ from compile's, but the result is
+     * the same program.
+     */
+    static int compileLinked(String[] args) {
+        List<String> libFiles = new ArrayList<String>();
+        List<String> userFiles = new ArrayList<String>();
+        for (String arg : args) {
+            if (isLibraryFile(arg)) {
+                libFiles.add(arg);
+            } else {
+                userFiles.add(arg);
+            }
+        }
+        if (!libFiles.isEmpty() && useSnapshot()) {
+            Integer result = compileWithSnapshot(libFiles, userFiles.toArray(new String[userFiles.size()]),
+                    CompilationContext.defaultOutput());
+            if (result != null) {
+                return result;
+            }
+        }
+        return compile(args);
+    }
+
+    /**
+     * whether the library is linked against the snapshot, turned on with
+     * -Djoosc.snapshot=true. off by default: restoring the checked library
+     * trees costs more than parsing and checking the library again.
+     * incremental compiles go through compile instead, which keeps the
+     * library in the state of IncrementalBuild with the other units.
+     */
+    private static boolean useSnapshot() {
+        return Boolean.getBoolean("joosc.snapshot") && !Boolean.getBoolean("joosc.incremental");
+    }
+
+    /**
+     * whether the file lies under a directory named java, as the library
+     * sources do. StdlibSnapshot rejects files that turn out not to be in a
+     * java.* package.
+     */
+    private static boolean isLibraryFile(String arg) {
+        return new File(arg).getAbsolutePath().contains(File.separator + "java" + File.separator);
+    }
+
+    /**
+     * compile args against the precompiled standard library. Trees are
+     * ordered as compile would order them: library, args, ObjInterface.
+     * @return the exit code, or null if the snapshot can not be used.
+     */
+    private static Integer compileWithSnapshot(List<String> libFiles, String[] args, File output) {
+        CompilationContext previous = CompilationContext.bind(new CompilationContext(output));
+        try {
+            return compileWithSnapshotInContext(libFiles, args);
+        } finally {
+            CompilationContext.bind(previous);
+        }
+    }
+
+    private static Integer compileWithSnapshotInContext(List<String> libFiles, String[] args) {
+        String objInterfacePath = System.getProperty("user.dir") + "/data/ObjInterface.java";
+        Metrics.start();
+        try {
+            ParseTable grammar = ParseTable.load(grammarFile());
+            List<AST> userTrees = buildASTs(Arrays.asList(args), grammar);
+            if (!StdlibSnapshot.canUse(userTrees)) {
+                return null;
+            }
+
+            List<AST> trees;
+            try {
+                Metrics.Phase phase = Metrics.begin("library snapshot", null);
+                trees = StdlibSnapshot.get(libFiles, objInterfacePath, grammar).restore();
+                phase.count("trees", trees.size()).end();
+            } catch (Exception e) {
+                return null;
+            }
+            trees.addAll(trees.size() - 1, userTrees);
+
+            check(trees);
+            generate(trees);
+            print(trees);
+        } catch (Exception e) {
+            e.printStackTrace();
+            Metrics.report();
+            return 42;
+        }
+        Metrics.report();
+        return 0;
     }
 
     private static List<String> getLibFiles(File javaLib) {
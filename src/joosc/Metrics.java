@@ -0,0 +1,357 @@
+package joosc;
+
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import ast.AST;
+import ast.BodyDeclaration;
+import ast.FieldDeclaration;
+import ast.MethodDeclaration;
+import ast.TypeDeclaration;
+import code_generation.HierarchyTableBuilder;
+import code_generation.UglyTableBuilder;
+import utility.CompilationContext;
+
+/**
+ * Opt-in compile metrics, turned on with -Djoosc.metrics=FILE (or - for
+ * stderr).
+ *
+ * Each phase of a compile, and the front end of each file, records its wall
+ * time, the bytes allocated by the thread running it and a few counts. With
+ * -Djoosc.parallel the work of a phase started outside the common pool runs
+ * on the pool, so the allocation of such a phase is that of every thread in
+ * the JVM while it ran. After
+ * the compile a JSON report lists the phases, their totals and the size of
+ * each section of the emitted assembly. Phases are also committed as JFR
+ * events (joosc.Phase), so a recording can see them without the report.
+ * What is collected belongs to the CompilationContext of the compile.
+ */
+public class Metrics {
+
+    /**
+     * what is collected about one compile, kept in its context while
+     * metrics are on.
+     */
+    static class Collected {
+        final long started = System.nanoTime();
+        final List<Phase> phases = Collections.synchronizedList(new ArrayList<Phase>());
+        final Map<String, Map<String, Long>> outputs = new LinkedHashMap<String, Map<String, Long>>();
+    }
+
+    /**
+     * what the current compile collects, null if metrics are off.
+     */
+    private static Collected collected() {
+        return (Collected) CompilationContext.current().metrics;
+    }
+
+    /**
+     * one run of a phase. counts and allocations are only collected if they
+     * will be reported somewhere.
+     */
+    public static class Phase {
+        final Collected collected = collected();
+        final String name;
+        final String file;
+        final Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        final PhaseEvent event = new PhaseEvent();
+        final boolean measured;
+        final boolean fansOut;
+        long start;
+        long wall;
+        long allocStart;
+        AllThreads threadsStart;
+        long allocated;
+
+        Phase(String name, String file) {
+            this.name = name;
+            this.file = file;
+            measured = collected != null || event.isEnabled();
+            // the front end of a file runs on one pool thread, the units of
+            // a pass are spread over the pool by UnitTasks
+            fansOut = Boolean.getBoolean("joosc.parallel")
+                    && !(Thread.currentThread() instanceof ForkJoinWorkerThread);
+            if (measured) {
+                if (fansOut) {
+                    threadsStart = AllThreads.now();
+                } else {
+                    allocStart = allocatedBytes();
+                }
+            }
+            event.begin();
+            start = System.nanoTime();
+        }
+
+        public Phase count(String what, long n) {
+            if (collected != null) {
+                counts.put(what, n);
+            }
+            return this;
+        }
+
+        public void end() {
+            wall = System.nanoTime() - start;
+            event.end();
+            if (measured) {
+                allocated = fansOut ? AllThreads.now().since(threadsStart) : allocatedBytes() - allocStart;
+            }
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.file = file;
+                event.allocated = allocated;
+                event.commit();
+            }
+            if (collected != null) {
+                collected.phases.add(this);
+            }
+        }
+    }
+
+    /**
+     * forget the last compile and start collecting if -Djoosc.metrics is set.
+     */
+    public static void start() {
+        CompilationContext.current().metrics = System.getProperty("joosc.metrics") != null ? new Collected() : null;
+    }
+
+    /**
+     * start a phase, file is null for phases over the whole program.
+     */
+    public static Phase begin(String name, String file) {
+        return new Phase(name, file);
+    }
+
+    /**
+     * counts for the parse tree of one file, counted while it was built.
+     */
+    public static void countParseTree(Phase phase, long nodes, long tokens) {
+        if (phase.collected != null) {
+            phase.count("nodes", nodes).count("tokens", tokens);
+        }
+    }
+
+    /**
+     * counts of the declarations in trees.
+     */
+    public static void countTypes(Phase phase, List<AST> trees) {
+        if (phase.collected == null) {
+            return;
+        }
+        long classes = 0, interfaces = 0, fields = 0, methods = 0;
+        for (AST tree : trees) {
+            for (TypeDeclaration type : tree.root.types) {
+                if (type.isInterface) {
+                    interfaces++;
+                } else {
+                    classes++;
+                }
+                for (BodyDeclaration member : type.members) {
+                    if (member instanceof FieldDeclaration) {
+                        fields++;
+                    } else if (member instanceof MethodDeclaration) {
+                        methods++;
+                    }
+                }
+            }
+        }
+        phase.count("classes", classes).count("interfaces", interfaces).count("fields", fields).count("methods",
+                methods);
+    }
+
+    /**
+     * sizes of the code generated for trees and of the tables.
+     */
+    public static void countOutputs(List<AST> trees) {
+        Collected collected = collected();
+        if (collected == null) {
+            return;
+        }
+        Map<String, Map<String, Long>> outputs = collected.outputs;
+        outputs.put("ugly.s", sections(UglyTableBuilder.getUgly()));
+        outputs.put("hierarchy.s", sections(HierarchyTableBuilder.getHierarchyTable()));
+        for (AST tree : trees) {
+            for (TypeDeclaration type : tree.root.types) {
+                if (type.getCode() != null) {
+                    outputs.put(type.getFullName() + ".s", sections(type.getCode()));
+                }
+            }
+        }
+    }
+
+    /**
+     * bytes in each section of an assembly file, and in total.
+     */
+    private static Map<String, Long> sections(String asm) {
+        Map<String, Long> sizes = new LinkedHashMap<String, Long>();
+        String section = "none";
+        long total = 0;
+        for (String line : asm.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("section ")) {
+                section = trimmed.substring("section ".length()).trim();
+            }
+            Long size = sizes.get(section);
+            sizes.put(section, (size == null ? 0 : size) + line.length() + 1);
+            total += line.length() + 1;
+        }
+        sizes.put("total", total);
+        return sizes;
+    }
+
+    /**
+     * write the report for the compile since start, if there is one to write.
+     */
+    public static void report() {
+        Collected collected = collected();
+        if (collected == null) {
+            return;
+        }
+        CompilationContext.current().metrics = null;
+        String target = System.getProperty("joosc.metrics");
+        try {
+            PrintWriter out = target.equals("-") || target.isEmpty() ? new PrintWriter(System.err)
+                    : new PrintWriter(new OutputStreamWriter(new FileOutputStream(target), "UTF-8"));
+            writeReport(collected, out);
+            if (target.equals("-") || target.isEmpty()) {
+                out.flush();
+            } else {
+                out.close();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void writeReport(Collected collected, PrintWriter out) {
+        List<Phase> phases = collected.phases;
+        Map<String, Map<String, Long>> outputs = collected.outputs;
+        Map<String, long[]> totals = new LinkedHashMap<String, long[]>();
+        out.println("{");
+        out.println("  \"wallNanos\": " + (System.nanoTime() - collected.started) + ",");
+        out.println("  \"phases\": [");
+        synchronized (phases) {
+            for (int i = 0; i < phases.size(); i++) {
+                Phase phase = phases.get(i);
+                out.print("    {\"phase\": " + quote(phase.name));
+                if (phase.file != null) {
+                    out.print(", \"file\": " + quote(phase.file));
+                }
+                out.print(", \"wallNanos\": " + phase.wall + ", \"allocatedBytes\": " + phase.allocated);
+                for (Map.Entry<String, Long> count : phase.counts.entrySet()) {
+                    out.print(", " + quote(count.getKey()) + ": " + count.getValue());
+                }
+                out.println(i + 1 < phases.size() ? "}," : "}");
+
+                long[] total = totals.get(phase.name);
+                if (total == null) {
+                    total = new long[3];
+                    totals.put(phase.name, total);
+                }
+                total[0]++;
+                total[1] += phase.wall;
+                total[2] += phase.allocated;
+            }
+        }
+        out.println("  ],");
+        out.println("  \"totals\": [");
+        int i = 0;
+        for (Map.Entry<String, long[]> total : totals.entrySet()) {
+            out.print("    {\"phase\": " + quote(total.getKey()) + ", \"runs\": " + total.getValue()[0]
+                    + ", \"wallNanos\": " + total.getValue()[1] + ", \"allocatedBytes\": " + total.getValue()[2]);
+            out.println(++i < totals.size() ? "}," : "}");
+        }
+        out.println("  ],");
+        out.println("  \"outputs\": [");
+        i = 0;
+        for (Map.Entry<String, Map<String, Long>> output : outputs.entrySet()) {
+            out.print("    {\"file\": " + quote(output.getKey()));
+            for (Map.Entry<String, Long> section : output.getValue().entrySet()) {
+                out.print(", " + quote(section.getKey()) + ": " + section.getValue());
+            }
+            out.println(++i < outputs.size() ? "}," : "}");
+        }
+        out.println("  ]");
+        out.println("}");
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static long allocatedBytes() {
+        return Threads.bean == null ? 0 : Threads.bean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * what each live thread has allocated so far.
+     */
+    private static class AllThreads {
+        final long[] ids;
+        final long[] bytes;
+
+        AllThreads(long[] ids, long[] bytes) {
+            this.ids = ids;
+            this.bytes = bytes;
+        }
+
+        static AllThreads now() {
+            if (Threads.bean == null) {
+                return new AllThreads(new long[0], new long[0]);
+            }
+            long[] ids = Threads.bean.getAllThreadIds();
+            return new AllThreads(ids, Threads.bean.getThreadAllocatedBytes(ids));
+        }
+
+        /**
+         * bytes allocated since start by the threads alive now. a pool thread
+         * that retired in between is missed.
+         */
+        long since(AllThreads start) {
+            Map<Long, Long> before = new HashMap<Long, Long>();
+            for (int i = 0; i < start.ids.length; i++) {
+                before.put(start.ids[i], start.bytes[i]);
+            }
+            long total = 0;
+            for (int i = 0; i < ids.length; i++) {
+                Long old = before.get(ids[i]);
+                if (bytes[i] >= 0) {
+                    total += bytes[i] - (old == null || old < 0 ? 0 : old);
+                }
+            }
+            return total;
+        }
+    }
+
+    // loaded on first use, management beans are slow to start
+    private static class Threads {
+        static final com.sun.management.ThreadMXBean bean = threadBean();
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+}
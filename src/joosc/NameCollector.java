@@ -0,0 +1,41 @@
+package joosc;
+
+import java.util.Set;
+
+import scanner.Symbol;
+import scanner.Token;
+import scanner.TokenBuffer;
+import scanner.TokenSource;
+
+/**
+ * passes tokens through to the parser and remembers the lexeme of every
+ * identifier on the way.
+ */
+class NameCollector implements TokenSource {
+    private final TokenSource tokens;
+    private final Set<String> names;
+
+    NameCollector(TokenSource tokens, Set<String> names) {
+        this.tokens = tokens;
+        this.names = names;
+    }
+
+    public Token next() throws Exception {
+        Token token = tokens.next();
+        if (token != null && token.getTokenType() == Symbol.ID) {
+            names.add(token.getLexeme());
+        }
+        return token;
+    }
+
+    /**
+     * the same for tokens that have been scanned already.
+     */
+    static void collect(TokenBuffer tokens, Set<String> names) {
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.kind(i) == Symbol.ID) {
+                names.add(tokens.lexeme(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package joosc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ast.AST;
+import environment.FusedTraversal;
+import environment.NodePass;
+import utility.UnitTasks;
+
+/**
+ * Runs passes in an order that gives each the facts it requires, the facts
+ * being names the passes before it produce.
+ *
+ * A pass over the whole program runs alone. A pass that works one
+ * compilation unit at a time through a NodePass is fused with the other
+ * such passes that are ready at the same point and do not require each
+ * other: each unit is walked once by a FusedTraversal of all of them. Each
+ * step is a metrics phase named after its passes.
+ */
+public class PassManager {
+    private final List<Pass> passes = new ArrayList<Pass>();
+
+    public abstract static class Pass {
+        final String name;
+        final Set<String> requires;
+        final Set<String> produces;
+
+        Pass(String name, String[] requires, String[] produces) {
+            this.name = name;
+            this.requires = new HashSet<String>(Arrays.asList(requires));
+            this.produces = new HashSet<String>(Arrays.asList(produces));
+        }
+    }
+
+    /**
+     * a pass over the whole program.
+     */
+    public abstract static class ProgramPass extends Pass {
+        public ProgramPass(String name, String[] requires, String[] produces) {
+            super(name, requires, produces);
+        }
+
+        /**
+         * run the pass, counting into phase.
+         */
+        public abstract void run(List<AST> trees, Metrics.Phase phase) throws Exception;
+    }
+
+    /**
+     * a pass over each compilation unit that is not precompiled.
+     */
+    public abstract static class UnitPass extends Pass {
+        public UnitPass(String name, String[] requires, String[] produces) {
+            super(name, requires, produces);
+        }
+
+        /**
+         * the pass for one more compilation unit.
+         */
+        public abstract NodePass newNodePass();
+    }
+
+    public PassManager add(Pass pass) {
+        passes.add(pass);
+        return this;
+    }
+
+    /**
+     * the passes in the order they run, those run in one step together.
+     */
+    public List<List<Pass>> schedule() {
+        List<List<Pass>> steps = new ArrayList<List<Pass>>();
+        List<Pass> waiting = new ArrayList<Pass>(passes);
+        Set<String> facts = new HashSet<String>();
+        while (!waiting.isEmpty()) {
+            Pass first = null;
+            for (Pass pass : waiting) {
+                if (facts.containsAll(pass.requires)) {
+                    first = pass;
+                    break;
+                }
+            }
+            if (first == null) {
+                throw new IllegalStateException("no pass can run after " + facts + ", waiting: " + names(waiting));
+            }
+
+            List<Pass> step = new ArrayList<Pass>();
+            step.add(first);
+            if (first instanceof UnitPass) {
+                for (Pass pass : waiting) {
+                    if (pass != first && pass instanceof UnitPass && facts.containsAll(pass.requires)) {
+                        step.add(pass);
+                    }
+                }
+            }
+            for (Pass pass : step) {
+                waiting.remove(pass);
+                facts.addAll(pass.produces);
+            }
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    public void run(List<AST> trees) throws Exception {
+        for (List<Pass> step : schedule()) {
+            run(trees, step);
+        }
+    }
+
+    /**
+     * run the step with the pass called name, assuming the steps before it
+     * have run.
+     */
+    public void runStep(List<AST> trees, String name) throws Exception {
+        for (List<Pass> step : schedule()) {
+            for (Pass pass : step) {
+                if (pass.name.equals(name)) {
+                    run(trees, step);
+                    return;
+                }
+            }
+        }
+        throw new IllegalArgumentException("no pass " + name);
+    }
+
+    private static void run(List<AST> trees, final List<Pass> step) throws Exception {
+        Metrics.Phase phase = Metrics.begin(names(step), null);
+        try {
+            if (step.get(0) instanceof ProgramPass) {
+                ((ProgramPass) step.get(0)).run(trees, phase);
+            } else {
+                UnitTasks.forEach(trees, new UnitTasks.Task() {
+                    public void run(AST tree) throws Exception {
+                        List<NodePass> nodePasses = new ArrayList<NodePass>();
+                        for (Pass pass : step) {
+                            nodePasses.add(((UnitPass) pass).newNodePass());
+                        }
+                        tree.root.accept(new FusedTraversal(nodePasses));
+                    }
+                });
+            }
+        } finally {
+            // a step that fails the compile is still reported
+            phase.end();
+        }
+    }
+
+    private static String names(List<Pass> step) {
+        StringBuilder names = new StringBuilder();
+        for (Pass pass : step) {
+            if (names.length() > 0) {
+                names.append(" + ");
+            }
+            names.append(pass.name);
+        }
+        return names.toString();
+    }
+}
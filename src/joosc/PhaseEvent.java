@@ -0,0 +1,28 @@
+package joosc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one compiler phase, or the front end of one file. Committed
+ * whether or not -Djoosc.metrics is set; JFR drops it unless a recording
+ * enables joosc.Phase.
+ */
+@Name("joosc.Phase")
+@Label("Compiler Phase")
+@Category("Joosc")
+@Description("A phase of the Joos compiler")
+public class PhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("File")
+    String file;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,333 @@
+package joosc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import parser.ParseTable;
+import ast.AST;
+import utility.CompilationContext;
+
+/**
+ * The standard library (and ObjInterface) after semantic analysis, offsets
+ * and code generation, serialized once so later compiles can link against it
+ * instead of putting java.* through the whole pipeline again.
+ *
+ * Every compile restores its own copy of the trees, because the later phases
+ * still read (and the table builders index) the library declarations. The
+ * snapshot is kept in memory for the JVM and also written to ~/.cache/joosc,
+ * keyed by the library sources and the compiler build, so new processes can
+ * load it. The directory is only used if it belongs to the user and no one
+ * else may enter it, and the snapshot is read back through a filter that
+ * only lets the classes of the trees through.
+ *
+ * The generated library code only depends on other library types as long as
+ * the library trees come first, ObjInterface comes last and no user type is
+ * in a java.* or joosc.* package; see canUse.
+ *
+ * Only used with -Djoosc.snapshot=true. Deserializing the checked trees of
+ * the whole library takes longer than parsing and checking it again, so the
+ * snapshot only pays off where the library is much larger than this one.
+ */
+public class StdlibSnapshot {
+    private static final int VERSION = 1;
+    private static final int CACHED = 4;
+    // the few snapshots used last, a compile server may see many libraries
+    private static final Map<String, StdlibSnapshot> snapshots = new LinkedHashMap<String, StdlibSnapshot>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, StdlibSnapshot> eldest) {
+            return size() > CACHED;
+        }
+    };
+    // why the snapshots of the few libraries that failed last could not be
+    // built, so a server does not build them again for every request
+    private static final Map<String, Exception> failures = new LinkedHashMap<String, Exception>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, Exception> eldest) {
+            return size() > CACHED;
+        }
+    };
+    private static String buildStamp = null;
+    // the classes trees are made of, anything else is rejected. also used
+    // for the state of incremental compiles
+    static final String TREE_CLASSES = "ast.*;environment.*;java.util.*;java.lang.Enum;java.lang.Object";
+    private static final ObjectInputFilter CLASSES = ObjectInputFilter.Config.createFilter(TREE_CLASSES + ";!*");
+
+    private final byte[] state;
+
+    private StdlibSnapshot(byte[] state) {
+        this.state = state;
+    }
+
+    /**
+     * snapshot of the given library files, building it on first use.
+     * @throws Exception why the snapshot could not be built, also on later
+     *         calls until the library files change.
+     */
+    public static synchronized StdlibSnapshot get(List<String> libFiles, String objInterfacePath, ParseTable grammar)
+            throws Exception {
+        String fingerprint = fingerprint(libFiles, objInterfacePath);
+        StdlibSnapshot snapshot = snapshots.get(fingerprint);
+        if (snapshot == null) {
+            Exception failure = failures.get(fingerprint);
+            if (failure != null) {
+                throw failure;
+            }
+            File dir = cacheDir();
+            File file = dir == null ? null : new File(dir, "joosc-stdlib-" + fingerprint + ".snapshot");
+            snapshot = file == null ? null : read(file, fingerprint);
+            if (snapshot == null) {
+                try {
+                    snapshot = build(libFiles, objInterfacePath, grammar);
+                } catch (Exception e) {
+                    failures.put(fingerprint, e);
+                    throw e;
+                }
+                if (file != null) {
+                    write(file, fingerprint, snapshot);
+                }
+            }
+            snapshots.put(fingerprint, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * whether user code may be linked against the snapshot. User packages
+     * under java or joosc could change how the library itself resolves names.
+     */
+    public static boolean canUse(List<AST> userTrees) {
+        for (AST tree : userTrees) {
+            if (tree.root.pkg != null) {
+                String pkg = tree.root.pkg.name.toString();
+                if (pkg.equals("java") || pkg.startsWith("java.") || pkg.equals("joosc") || pkg.startsWith("joosc.")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * a fresh copy of the precompiled trees: the library files in the order
+     * given to get, then ObjInterface.
+     */
+    @SuppressWarnings("unchecked")
+    public List<AST> restore() throws Exception {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state));
+        in.setObjectInputFilter(CLASSES);
+        try {
+            return new LinkedList<AST>((List<AST>) in.readObject());
+        } finally {
+            in.close();
+        }
+    }
+
+    private static StdlibSnapshot build(List<String> libFiles, String objInterfacePath, ParseTable grammar)
+            throws Exception {
+        List<AST> trees = new ArrayList<AST>();
+        for (String file : libFiles) {
+            AST tree = Joosc.buildAST(file, grammar);
+            if (tree.root.pkg == null || !tree.root.pkg.name.toString().startsWith("java.")) {
+                throw new Exception(file + " is not part of the standard library");
+            }
+            trees.add(tree);
+        }
+        trees.add(Joosc.buildAST(objInterfacePath, grammar));
+        // the library is checked on its own, not in the compile that wants it
+        CompilationContext previous = CompilationContext.bind(CompilationContext.current().nested());
+        try {
+            Joosc.check(trees);
+            Joosc.generate(trees);
+        } finally {
+            CompilationContext.bind(previous);
+        }
+        for (AST tree : trees) {
+            tree.precompiled = true;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(trees);
+        out.close();
+        return new StdlibSnapshot(bytes.toByteArray());
+    }
+
+    /**
+     * the directory snapshots are stored in, made if needed: ~/.cache/joosc,
+     * owned by the user and closed to everyone else.
+     * @return null if there is no such directory, then snapshots are only
+     *         kept in memory.
+     */
+    private static File cacheDir() {
+        try {
+            Path dir = FileSystems.getDefault().getPath(System.getProperty("user.home"), ".cache", "joosc");
+            Set<PosixFilePermission> owner = PosixFilePermissions.fromString("rwx------");
+            if (!Files.exists(dir, LinkOption.NOFOLLOW_LINKS)) {
+                Files.createDirectories(dir.getParent());
+                Files.createDirectory(dir, PosixFilePermissions.asFileAttribute(owner));
+            }
+            UserPrincipal user = dir.getFileSystem().getUserPrincipalLookupService()
+                    .lookupPrincipalByName(System.getProperty("user.name"));
+            if (!Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)
+                    || !Files.getOwner(dir, LinkOption.NOFOLLOW_LINKS).equals(user)
+                    || !Files.getPosixFilePermissions(dir, LinkOption.NOFOLLOW_LINKS).equals(owner)) {
+                return null;
+            }
+            return dir.toFile();
+        } catch (Exception e) {
+            // no home, or not a POSIX file system
+            return null;
+        }
+    }
+
+    /**
+     * @return the snapshot stored in file, or null if there is none or it
+     *         can not be used by this build.
+     */
+    private static StdlibSnapshot read(File file, String fingerprint) {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new FileInputStream(file));
+            try {
+                if (!in.readUTF().equals(fingerprint)) {
+                    return null;
+                }
+                byte[] state = new byte[in.readInt()];
+                in.readFully(state);
+                StdlibSnapshot snapshot = new StdlibSnapshot(state);
+                snapshot.restore();
+                // kept by prune as one of the snapshots used last
+                file.setLastModified(System.currentTimeMillis());
+                return snapshot;
+            } finally {
+                in.close();
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void write(File file, String fingerprint, StdlibSnapshot snapshot) {
+        // best effort, the in memory copy is enough for this process
+        try {
+            File tmp = File.createTempFile("joosc-stdlib", ".tmp", file.getParentFile());
+            DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp));
+            try {
+                out.writeUTF(fingerprint);
+                out.writeInt(snapshot.state.length);
+                out.write(snapshot.state);
+            } finally {
+                out.close();
+            }
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                return;
+            }
+            prune(file.getParentFile());
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * delete all but the CACHED snapshots in dir used last. each build of
+     * the compiler and each change to the library writes a new one.
+     */
+    private static void prune(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> stored = new ArrayList<File>();
+        for (File file : files) {
+            if (file.getName().startsWith("joosc-stdlib-") && file.getName().endsWith(".snapshot")) {
+                stored.add(file);
+            }
+        }
+        Collections.sort(stored, new Comparator<File>() {
+            public int compare(File a, File b) {
+                return Long.compare(b.lastModified(), a.lastModified());
+            }
+        });
+        for (File file : stored.subList(Math.min(CACHED, stored.size()), stored.size())) {
+            file.delete();
+        }
+    }
+
+    /**
+     * hash of the library sources, in order, and of the compiler build.
+     */
+    private static String fingerprint(List<String> libFiles, String objInterfacePath) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-1");
+        md.update(Integer.toString(VERSION).getBytes());
+        md.update(getBuildStamp().getBytes());
+        List<String> files = new ArrayList<String>(libFiles);
+        files.add(objInterfacePath);
+        for (String file : files) {
+            md.update(file.getBytes());
+            md.update((byte) 0);
+            md.update(Files.readAllBytes(new File(file).toPath()));
+            md.update((byte) 0);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : md.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * identifies the compiler build: the newest class file (or the jar) it
+     * was loaded from.
+     */
+    static String getBuildStamp() {
+        if (buildStamp == null) {
+            long newest = 0;
+            URL location = StdlibSnapshot.class.getProtectionDomain().getCodeSource().getLocation();
+            try {
+                newest = newestModified(new File(location.toURI()));
+            } catch (Exception e) {
+                newest = System.nanoTime(); // unknown build, never reuse a stored snapshot
+            }
+            buildStamp = location + "@" + newest;
+        }
+        return buildStamp;
+    }
+
+    private static long newestModified(File f) {
+        long newest = f.lastModified();
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                newest = Math.max(newest, newestModified(child));
+            }
+        }
+        return newest;
+    }
+}
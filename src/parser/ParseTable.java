@@ -0,0 +1,328 @@
+package parser;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import scanner.Symbol;
+
+/**
+ * LR(1) parse table shared by every Parser in the JVM.
+ *
+ * A table is loaded once per grammar file and never modified afterwards. The
+ * binary format written by jlalr.BinaryTableWriter is memory-mapped; the text
+ * format printed by Jlr1 (and the first binary format) is still accepted,
+ * and kept uncompressed.
+ *
+ * The action and goto tables are comb vectors: the entry of state s and a
+ * symbol is at base[s] + the symbol's column if check there is s. A state
+ * without an entry for a terminal takes its default reduction (or fails), a
+ * state without one for a non-terminal the non-terminal's default goto.
+ */
+public class ParseTable {
+    static final int MAGIC = 0x4C523154; // "LR1T"
+    static final int VERSION = 2;
+    static final byte SHIFT = 0, REDUCE = 1;
+
+    private static final Map<String, ParseTable> tables = new HashMap<String, ParseTable>();
+
+    /** Number of symbols, the Symbol ordinals. */
+    static final int NUM_SYMBOLS = Symbol.values().length;
+
+    private final int stateSize;
+    /**
+     * Column of each symbol by ordinal, in the action table for terminals and
+     * in the goto table for non-terminals. -1 if not in the grammar.
+     */
+    private final int[] columns = new int[NUM_SYMBOLS];
+    /**
+     * Packed action of each state for terminals it has no entry for: a
+     * reduction or 0. Shift to state s is stored as s + 1, reduce by rule r
+     * as -(r + 1), and 0 marks a syntax error.
+     */
+    private int[] defaults;
+    /** State to go to from a state without an entry, by column. */
+    private int[] defaultGotos;
+    private int[] actionBase, actionNext, actionCheck;
+    private int[] gotoBase, gotoNext, gotoCheck;
+    /** Left hand side of each rule. */
+    private final Symbol[] ruleLhs;
+    /** Number of right hand side symbols of each rule. */
+    private final int[] ruleLength;
+    private final List<List<Symbol>> productions;
+
+    private ParseTable(int stateSize, List<List<Symbol>> productions) {
+        this.stateSize = stateSize;
+        this.productions = freeze(productions);
+        ruleLhs = new Symbol[productions.size()];
+        ruleLength = new int[productions.size()];
+        for (int i = 0; i < ruleLhs.length; i++) {
+            List<Symbol> rule = productions.get(i);
+            ruleLhs[i] = rule.get(0);
+            ruleLength[i] = rule.size() - 1;
+        }
+        Arrays.fill(columns, -1);
+    }
+
+    /**
+     * Return the table for the given grammar file, reading it on first use.
+     */
+    public static synchronized ParseTable load(File f) throws Exception {
+        String key = f.getCanonicalPath();
+        ParseTable table = tables.get(key);
+        if (table == null) {
+            table = isBinary(f) ? readBinary(f) : readText(f);
+            tables.put(key, table);
+        }
+        return table;
+    }
+
+    private static boolean isBinary(File f) throws Exception {
+        if (f.length() < 4) {
+            return false;
+        }
+        DataInputStream in = new DataInputStream(new FileInputStream(f));
+        try {
+            return in.readInt() == MAGIC;
+        } finally {
+            in.close();
+        }
+    }
+
+    private static ParseTable readText(File f) throws Exception {
+        ParseTableReader ptr = new ParseTableReader(f);
+        int stateSize = ptr.getNumStates();
+        int[] actions = new int[stateSize * NUM_SYMBOLS];
+        ParseActions[] parseActions = ptr.getParseActions();
+        for (int state = 0; state < stateSize; state++) {
+            if (parseActions[state] == null) {
+                continue;
+            }
+            for (Map.Entry<Symbol, Action> entry : parseActions[state].actions.entrySet()) {
+                Action action = entry.getValue();
+                actions[state * NUM_SYMBOLS + entry.getKey().ordinal()] =
+                        pack(action.getShiftReduce(), action.getNum());
+            }
+        }
+        return dense(stateSize, actions, ptr.getProductionRules());
+    }
+
+    private static ParseTable readBinary(File f) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(f, "r");
+        ByteBuffer buf;
+        try {
+            FileChannel channel = raf.getChannel();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buf = mapped;
+        } finally {
+            raf.close();
+        }
+
+        buf.getInt(); // magic
+        int version = buf.getInt();
+        if (version != VERSION && version != 1) {
+            throw new Exception("unsupported parse table version " + version + " in " + f);
+        }
+
+        Symbol[] symbols = new Symbol[buf.getInt()];
+        for (int i = 0; i < symbols.length; i++) {
+            byte[] name = new byte[buf.getShort()];
+            buf.get(name);
+            symbols[i] = Symbol.valueOf(new String(name, "US-ASCII"));
+        }
+
+        int numRules = buf.getInt();
+        List<List<Symbol>> productions = new ArrayList<List<Symbol>>(numRules);
+        for (int i = 0; i < numRules; i++) {
+            int length = buf.getShort();
+            List<Symbol> rule = new ArrayList<Symbol>(length);
+            for (int j = 0; j < length; j++) {
+                rule.add(symbols[buf.getShort()]);
+            }
+            productions.add(rule);
+        }
+
+        int stateSize = buf.getInt();
+        if (version == 1) {
+            return readActions(buf, f, symbols, stateSize, productions);
+        }
+
+        int numTerms = buf.getInt();
+        ParseTable table = new ParseTable(stateSize, productions);
+        for (int i = 0; i < symbols.length; i++) {
+            table.columns[symbols[i].ordinal()] = i < numTerms ? i : i - numTerms;
+        }
+        table.defaults = readInts(buf, stateSize);
+        table.defaultGotos = readInts(buf, symbols.length - numTerms);
+        table.actionBase = readInts(buf, stateSize);
+        int length = buf.getInt();
+        table.actionNext = readInts(buf, length);
+        table.actionCheck = readInts(buf, length);
+        table.gotoBase = readInts(buf, stateSize);
+        length = buf.getInt();
+        table.gotoNext = readInts(buf, length);
+        table.gotoCheck = readInts(buf, length);
+        return table;
+    }
+
+    /**
+     * the actions of the first binary format, one per (state, symbol).
+     */
+    private static ParseTable readActions(ByteBuffer buf, File f, Symbol[] symbols, int stateSize,
+            List<List<Symbol>> productions) throws Exception {
+        int actionSize = buf.getInt();
+        int[] actions = new int[stateSize * NUM_SYMBOLS];
+        for (int i = 0; i < actionSize; i++) {
+            int state = buf.getInt();
+            Symbol symbol = symbols[buf.getShort()];
+            byte kind = buf.get();
+            int target = buf.getInt();
+            int index = state * NUM_SYMBOLS + symbol.ordinal();
+            if (kind == SHIFT) {
+                actions[index] = pack(ShiftReduce.SHIFT, target);
+            } else if (kind == REDUCE) {
+                actions[index] = pack(ShiftReduce.REDUCE, target);
+            } else {
+                throw new Exception("unexpected action kind " + kind + " in " + f);
+            }
+        }
+        return dense(stateSize, actions, productions);
+    }
+
+    /**
+     * a table from a dense one, indexed by state * NUM_SYMBOLS + symbol
+     * ordinal, without compressing it: every row has its own base and there
+     * are no defaults.
+     */
+    private static ParseTable dense(int stateSize, int[] actions, List<List<Symbol>> productions) {
+        ParseTable table = new ParseTable(stateSize, productions);
+        for (int i = 0; i < NUM_SYMBOLS; i++) {
+            table.columns[i] = i;
+        }
+        Set<Symbol> nonTerminals = EnumSet.noneOf(Symbol.class);
+        for (List<Symbol> rule : productions) {
+            nonTerminals.add(rule.get(0));
+        }
+        table.defaults = new int[stateSize];
+        table.defaultGotos = new int[NUM_SYMBOLS];
+        Arrays.fill(table.defaultGotos, -1);
+        table.actionBase = new int[stateSize];
+        table.gotoBase = new int[stateSize];
+        table.actionNext = new int[actions.length];
+        table.actionCheck = new int[actions.length];
+        table.gotoNext = new int[actions.length];
+        table.gotoCheck = new int[actions.length];
+        Arrays.fill(table.actionCheck, -1);
+        Arrays.fill(table.gotoCheck, -1);
+        for (int state = 0; state < stateSize; state++) {
+            table.actionBase[state] = table.gotoBase[state] = state * NUM_SYMBOLS;
+            for (Symbol symbol : Symbol.values()) {
+                int index = state * NUM_SYMBOLS + symbol.ordinal();
+                if (actions[index] == 0) {
+                    continue;
+                }
+                if (nonTerminals.contains(symbol)) {
+                    table.gotoNext[index] = target(actions[index]);
+                    table.gotoCheck[index] = state;
+                } else {
+                    table.actionNext[index] = actions[index];
+                    table.actionCheck[index] = state;
+                }
+            }
+        }
+        return table;
+    }
+
+    private static int[] readInts(ByteBuffer buf, int length) {
+        int[] values = new int[length];
+        buf.asIntBuffer().get(values);
+        buf.position(buf.position() + length * 4);
+        return values;
+    }
+
+    private static List<List<Symbol>> freeze(List<List<Symbol>> productions) {
+        List<List<Symbol>> frozen = new ArrayList<List<Symbol>>(productions.size());
+        for (List<Symbol> rule : productions) {
+            frozen.add(Collections.unmodifiableList(rule));
+        }
+        return Collections.unmodifiableList(frozen);
+    }
+
+    public int getNumStates() {
+        return stateSize;
+    }
+
+    /**
+     * Packed action for the given state and terminal. Use isShift/isReduce
+     * and target to decode it.
+     */
+    public int action(int state, int terminal) {
+        int column = columns[terminal];
+        if (column >= 0) {
+            int i = actionBase[state] + column;
+            if (actionCheck[i] == state) {
+                return actionNext[i];
+            }
+        }
+        return defaults[state];
+    }
+
+    /**
+     * State to go to from the given state after reducing to a non-terminal,
+     * -1 if there is none.
+     */
+    public int goTo(int state, int nonTerminal) {
+        int column = columns[nonTerminal];
+        if (column < 0) {
+            return -1;
+        }
+        int i = gotoBase[state] + column;
+        if (gotoCheck[i] == state) {
+            return gotoNext[i];
+        }
+        return defaultGotos[column];
+    }
+
+    public Symbol ruleLhs(int rule) {
+        return ruleLhs[rule];
+    }
+
+    public int ruleLength(int rule) {
+        return ruleLength[rule];
+    }
+
+    static int pack(ShiftReduce act, int num) {
+        return act == ShiftReduce.SHIFT ? num + 1 : -(num + 1);
+    }
+
+    public static boolean isShift(int action) {
+        return action > 0;
+    }
+
+    public static boolean isReduce(int action) {
+        return action < 0;
+    }
+
+    /**
+     * State to shift to, or rule to reduce by.
+     */
+    public static int target(int action) {
+        return action > 0 ? action - 1 : -action - 1;
+    }
+
+    public List<List<Symbol>> getProductionRules() {
+        return productions;
+    }
+}
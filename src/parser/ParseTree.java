@@ -1,6 +1,7 @@
 package parser;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import scanner.Symbol;
@@ -14,32 +15,68 @@ import scanner.Token;
  */
 public class ParseTree extends Token{
 
+    // null until the first child is added, most nodes are tokens
     List<ParseTree> children;
 
+    // semantic value attached by a Reducer, e.g. the AST node built for the
+    // subtree this node replaces
+    private Object value;
+
     public ParseTree(Symbol s) {
         super(null, s);
-        children = new LinkedList<ParseTree>();
+    }
+
+    /**
+     * a node that stands for an already reduced subtree, which is dropped.
+     */
+    public ParseTree(Symbol s, Object value) {
+        super(null, s);
+        this.value = value;
     }
 
     public ParseTree(Token t) {
-        super(t.getLexeme(), t.getTokenType());
-        children = new LinkedList<ParseTree>();
+        this(t.getLexeme(), t.getTokenType());
+    }
+
+    public ParseTree(String lexeme, Symbol s) {
+        super(lexeme, s);
+    }
+
+    private List<ParseTree> children(int capacity) {
+        if (children == null) {
+            children = new ArrayList<ParseTree>(capacity);
+        }
+        return children;
     }
 
     public void addChild(ParseTree subTree) {
-        children.add(subTree);
+        children(4).add(subTree);
     }
 
     public void addChildToHead(ParseTree subTree) {
-        children.add(0, subTree);
+        children(4).add(0, subTree);
     }
 
     public void addChildren(List<ParseTree> subTrees) {
-        children.addAll(subTrees);
+        children(subTrees.size()).addAll(subTrees);
+    }
+
+    /**
+     * add the length nodes of nodes from from as children.
+     */
+    public void addChildren(ParseTree[] nodes, int from, int length) {
+        List<ParseTree> list = children(length);
+        for (int i = from; i < from + length; i++) {
+            list.add(nodes[i]);
+        }
     }
 
     public List<ParseTree> getChildren() {
-        return children;
+        return children == null ? Collections.<ParseTree>emptyList() : children;
+    }
+
+    public Object getValue() {
+        return value;
     }
 
     /**
@@ -51,7 +88,7 @@ public class ParseTree extends Token{
      * @return a child node of the type
      */
     public ParseTree findChild(Symbol sym) {
-        for (ParseTree child : children) {
+        for (ParseTree child : getChildren()) {
             if (child.getTokenType() == sym) {
                 return child;
             }
@@ -60,7 +97,7 @@ public class ParseTree extends Token{
     }
 
     public ParseTree getFirstChild() {
-        return children.get(0);
+        return getChildren().get(0);
     }
 
     public void pprint() {
@@ -73,7 +110,7 @@ public class ParseTree extends Token{
             System.out.print(" ");
         }
         System.out.println(this.getTokenType());
-        for (ParseTree child : children) {
+        for (ParseTree child : getChildren()) {
             child.pprint(indent + distance);
         }
     }
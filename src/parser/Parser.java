@@ -2,87 +2,150 @@ package parser;
 
 import java.io.File;
 import java.util.List;
-import java.util.Stack;
 
+import exceptions.ParseException;
+import scanner.ListTokenSource;
 import scanner.Symbol;
 import scanner.Token;
+import scanner.TokenBuffer;
+import scanner.TokenSource;
 
 public class Parser {
-    List<Token> tokens;
-    ParseActions[] parseTable;
-    List<List<Symbol>> productionRules;
+    TokenSource tokens;
+    TokenBuffer buffer;
+    ParseTable parseTable;
+    Reducer reducer = null;
 
-    final int START = 0, HEAD = 0;
+    final int START = 0;
+
+    // parse stacks, grown on demand
+    int[] stateStack = new int[64];
+    ParseTree[] nodeStack = new ParseTree[64];
+    int top;
+
+    // the lookahead: its kind, and the token or its index in buffer
+    Symbol kind;
+    Token token;
+    int index;
 
     public Parser(List<Token> tokenList, File grammar) throws Exception {
-        tokens = tokenList;
-        // grammar file. point to data/test.lr1 for now.
-        ParseTableReader ptr = new ParseTableReader(grammar);
-        parseTable = ptr.getParseActions();
-        productionRules = ptr.getProductionRules();
-
-        // augment token list
-        tokens.add(0, new Token("", Symbol.BOF));
-        tokens.add(new Token("", Symbol.EOF));
+        this(tokenList, ParseTable.load(grammar));
     }
 
-    public ParseTree parse() throws Exception {
-        Stack<ParseTree> nodeStack = new Stack<ParseTree>();
-        Stack<Integer> stateStack = new Stack<Integer>();
+    public Parser(List<Token> tokenList, ParseTable table) {
+        this(new ListTokenSource(tokenList), table);
+    }
 
-        Token bof = tokens.remove(HEAD);
-        Action action = parseTable[START].getAction(bof.getTokenType());
+    /**
+     * Parse tokens as they are pulled from the source, e.g. straight from a
+     * Scanner, so the whole token list never has to exist at once.
+     */
+    public Parser(TokenSource source, ParseTable table) {
+        tokens = source;
+        parseTable = table;
+    }
 
-        if (action.getShiftReduce() == ShiftReduce.SHIFT) {
-            stateStack.push(action.getNum());
-            nodeStack.push(new ParseTree(bof));
-        } else {
-            throw new Exception("BOF error.");
-        }
+    /**
+     * Parse tokens that have all been scanned already. Leaves only get a
+     * lexeme of their own if they are identifiers or literals, and errors
+     * say which line they are on.
+     */
+    public Parser(TokenBuffer buffer, ParseTable table) {
+        this.buffer = buffer;
+        parseTable = table;
+    }
 
-        while (tokens.size() > 0) {
-            Token a = tokens.get(HEAD);
-
-            try {
-                action = parseTable[stateStack.peek()].getAction(a.getTokenType());
-            } catch (Exception e) {
-                // System.err.println(a);
-                // System.err.println("Stack:");
-                // while (!nodeStack.isEmpty()) {
-                // nodeStack.pop().pprint(5);
-                // }
-                throw e;
-            }
-            /* for debugging only.
-            */
-
-            // action =
-            // parseTable[stateStack.peek()].getAction(a.getTokenType());
-
-            if (action.getShiftReduce() == ShiftReduce.SHIFT) {
-                // shift
-                stateStack.push(action.getNum());
-                if (a instanceof ParseTree) {
-                    // if a is already a ParseTree, just push
-                    nodeStack.push((ParseTree) a);
+    /**
+     * run reducer on every reduction instead of just building the parse
+     * tree.
+     */
+    public void setReducer(Reducer reducer) {
+        this.reducer = reducer;
+    }
+
+    public ParseTree parse() throws Exception {
+        top = -1;
+        push(START, null);
+
+        kind = Symbol.BOF;
+        index = -1;
+        while (true) {
+            int action = parseTable.action(stateStack[top], kind.ordinal());
+
+            if (ParseTable.isShift(action)) {
+                push(ParseTable.target(action), new ParseTree(lexeme(), kind));
+                if (kind == Symbol.EOF) {
+                    break;
+                }
+                advance();
+            } else if (ParseTable.isReduce(action)) {
+                int rule = ParseTable.target(action);
+                Symbol lhs = parseTable.ruleLhs(rule);
+                int length = parseTable.ruleLength(rule);
+                int from = top - length + 1;
+                ParseTree node;
+                if (reducer != null) {
+                    node = reducer.reduce(rule, lhs, nodeStack, from, length);
                 } else {
-                    nodeStack.push(new ParseTree(a));
+                    node = new ParseTree(lhs);
+                    node.addChildren(nodeStack, from, length);
                 }
-                tokens.remove(HEAD); // remove a from tokens
-            } else {
-                // reduce
-                List<Symbol> rule = productionRules.get(action.getNum());
-                ParseTree node = new ParseTree(rule.get(0));
+                for (int i = from; i <= top; i++) {
+                    nodeStack[i] = null;
+                }
+                top -= length;
 
-                for (int i = 0; i < rule.size() - 1; i++) {
-                    stateStack.pop();
-                    node.addChildToHead(nodeStack.pop());
+                int next = parseTable.goTo(stateStack[top], lhs.ordinal());
+                if (next < 0) {
+                    throw new ParseException("no goto on " + lhs + " from state " + stateStack[top]);
                 }
-                tokens.add(0, node);
+                push(next, node);
+            } else if (top == 0) {
+                throw new ParseException("BOF error.");
+            } else {
+                throw new ParseException("can't find such action. Next symbol: " + kind + " " + lexeme()
+                        + position());
             }
         }
 
-        nodeStack.pop();
-        return nodeStack.pop();
+        // stack holds the initial state, BOF, the parsed unit and EOF
+        return nodeStack[top - 1];
+    }
+
+    private void advance() throws Exception {
+        if (buffer != null) {
+            index++;
+            kind = index < buffer.size() ? buffer.kind(index) : Symbol.EOF;
+        } else {
+            token = tokens.next();
+            kind = token == null ? Symbol.EOF : token.getTokenType();
+        }
+    }
+
+    private String lexeme() {
+        if (kind == Symbol.BOF || kind == Symbol.EOF) {
+            return "";
+        }
+        return buffer != null ? buffer.lexeme(index) : token.getLexeme();
+    }
+
+    private String position() {
+        if (buffer == null || index < 0 || buffer.size() == 0) {
+            return "";
+        }
+        return " on line " + (index < buffer.size() ? buffer.line(index) : buffer.line(buffer.size() - 1));
+    }
+
+    private void push(int state, ParseTree node) {
+        if (++top == stateStack.length) {
+            int[] states = new int[top * 2];
+            System.arraycopy(stateStack, 0, states, 0, top);
+            stateStack = states;
+            ParseTree[] nodes = new ParseTree[top * 2];
+            System.arraycopy(nodeStack, 0, nodes, 0, top);
+            nodeStack = nodes;
+        }
+        stateStack[top] = state;
+        nodeStack[top] = node;
     }
 }
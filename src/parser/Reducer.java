@@ -0,0 +1,17 @@
+package parser;
+
+import scanner.Symbol;
+
+/**
+ * Semantic actions, run by Parser on every reduction.
+ */
+public interface Reducer {
+    /**
+     * @param rule the production reduced
+     * @param lhs its left hand side
+     * @param nodes the parse stack, the right hand side is the length nodes
+     *        from from
+     * @return the node that stands for lhs on the stack
+     */
+    ParseTree reduce(int rule, Symbol lhs, ParseTree[] nodes, int from, int length) throws Exception;
+}
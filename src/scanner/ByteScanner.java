@@ -0,0 +1,612 @@
+package scanner;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import exceptions.IllegalBlockCommentException;
+import exceptions.IllegalCharException;
+import exceptions.IllegalIDException;
+import exceptions.IllegalInputCharException;
+
+/**
+ * Scanner over the bytes of a whole file, turned on with
+ * -Djoosc.scanner=buffer. Produces the same tokens and throws the same
+ * exceptions as Scanner.
+ *
+ * The file is read into a ByteBuffer in one go (memory-mapped if it is
+ * large), characters are classified with a table indexed by the byte, and
+ * lexemes are cut out of the buffer once the token is known. Keywords are
+ * looked up with a perfect hash over the bytes of the identifier, so they,
+ * separators and operators share constant lexemes and do not allocate.
+ * Other identifiers come from the NameTable, and only allocate the first
+ * time they are seen.
+ *
+ * Tokens are either pulled one at a time with next(), or all scanned into a
+ * TokenBuffer with scanAll(), which records where each token is instead of
+ * creating it.
+ */
+public class ByteScanner implements TokenSource {
+    // files larger than this are mapped instead of read
+    private static final int MAP_THRESHOLD = 1 << 16;
+
+    // character classes
+    private static final byte OTHER = 0;
+    private static final byte SPACE = 1;
+    private static final byte LETTER = 2;
+    private static final byte DIGIT = 3;
+    private static final byte SEPARATOR = 4;
+    private static final byte OPERATOR = 5;
+    private static final byte QUOTE = 6;
+    private static final byte DOUBLE_QUOTE = 7;
+
+    private static final byte[] CLASSES = new byte[128];
+    private static final boolean[] ID_PART = new boolean[128];
+    private static final Symbol[] SEPARATORS = new Symbol[128];
+    // lexemes of the tokens that always have the same one, by Symbol ordinal
+    static final String[] FIXED = new String[Symbol.values().length];
+
+    private static final String[] KEYWORDS = { "true", "false", "null", "abstract", "boolean", "break", "byte",
+            "case", "catch", "char", "class", "const", "continue", "default", "do", "double", "else", "extends",
+            "final", "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int",
+            "interface", "long", "native", "new", "package", "private", "protected", "public", "return", "short",
+            "static", "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try",
+            "void", "volatile", "while" };
+    private static final int KEYWORD_SLOTS = 128;
+    private static final int MAX_KEYWORD = 12;
+    private static final byte[][] KEYWORD_BYTES = new byte[KEYWORD_SLOTS][];
+    private static final Symbol[] KEYWORD_SYMBOLS = new Symbol[KEYWORD_SLOTS];
+
+    static {
+        for (int c = 0; c < 128; c++) {
+            if (Character.isWhitespace(c)) {
+                CLASSES[c] = SPACE;
+            } else if (Character.isLetter(c)) {
+                CLASSES[c] = LETTER;
+            } else if (Character.isDigit(c)) {
+                CLASSES[c] = DIGIT;
+            }
+            ID_PART[c] = Character.isLetterOrDigit(c) || c == '_' || c == '$';
+        }
+        for (char c : "(){}[];,.".toCharArray()) {
+            CLASSES[c] = SEPARATOR;
+        }
+        for (char c : "><=!?:&|^+-*/%~".toCharArray()) {
+            CLASSES[c] = OPERATOR;
+        }
+        CLASSES['\''] = QUOTE;
+        CLASSES['\"'] = DOUBLE_QUOTE;
+
+        SEPARATORS['('] = Symbol.LPAREN;
+        SEPARATORS[')'] = Symbol.RPAREN;
+        SEPARATORS['{'] = Symbol.LBRACE;
+        SEPARATORS['}'] = Symbol.RBRACE;
+        SEPARATORS['['] = Symbol.LBRACKET;
+        SEPARATORS[']'] = Symbol.RBRACKET;
+        SEPARATORS[';'] = Symbol.SEMICOLON;
+        SEPARATORS[','] = Symbol.COMMA;
+        SEPARATORS['.'] = Symbol.DOT;
+
+        for (String keyword : KEYWORDS) {
+            byte[] bytes = keyword.getBytes(StandardCharsets.US_ASCII);
+            int slot = hash(bytes[0], bytes[1], bytes[bytes.length - 1], bytes.length);
+            if (KEYWORD_BYTES[slot] != null) {
+                throw new IllegalStateException("keyword hash is not perfect: " + keyword);
+            }
+            KEYWORD_BYTES[slot] = bytes;
+            KEYWORD_SYMBOLS[slot] = Symbol.valueOf(keyword.toUpperCase());
+            FIXED[KEYWORD_SYMBOLS[slot].ordinal()] = keyword;
+        }
+        for (char c : "(){}[];,.".toCharArray()) {
+            FIXED[SEPARATORS[c].ordinal()] = String.valueOf(c);
+        }
+        String[] operators = { ">", ">>", ">>>", ">=", ">>=", ">>>=", "<", "<<", "<=", "<<=", "=", "==", "!", "!=",
+                "^", "^=", "*", "*=", "%", "%=", "&", "&&", "&=", "|", "||", "|=", "+", "++", "+=", "-", "--", "-=",
+                "?", "~", ":", "/", "/=" };
+        Symbol[] operatorSymbols = { Symbol.RANGLE, Symbol.DBRANGLE, Symbol.TPRANGLE, Symbol.GEQ, Symbol.RSHIFT_EQ,
+                Symbol.URSHIFT_EQ, Symbol.LANGLE, Symbol.DBLANGLE, Symbol.LEQ, Symbol.LSHIFT_EQ, Symbol.ASSIGN,
+                Symbol.EQUAL, Symbol.NOT, Symbol.NEQ, Symbol.EXOR, Symbol.EXOR_EQ, Symbol.STAR, Symbol.STAR_EQ,
+                Symbol.MOD, Symbol.MOD_EQ, Symbol.BITAND, Symbol.AND, Symbol.AND_EQ, Symbol.BITOR, Symbol.LOR,
+                Symbol.OR_EQ, Symbol.PLUS, Symbol.INCREMENT, Symbol.PLUS_EQ, Symbol.MINUS, Symbol.DECREMENT,
+                Symbol.MINUS_EQ, Symbol.QUESTION, Symbol.BIT_COMP, Symbol.COLON, Symbol.SLASH, Symbol.SLASH_EQ };
+        for (int i = 0; i < operators.length; i++) {
+            FIXED[operatorSymbols[i].ordinal()] = operators[i];
+        }
+    }
+
+    private final ByteBuffer _in;
+    private final NameTable _names;  // where identifiers are interned
+    private final byte[] _bytes;    // backing array of _in, null if it is mapped
+    private final int _offset;      // of the first byte in _bytes
+    private final int _limit;
+    private int _pos;               // index after _next
+    private int _next;              // character read
+    private int _line;              // line of _next
+    private boolean _started;       // whether the first character has been read
+    private Symbol _token;          // type of the token found by the current call to scan()
+    private int _start;             // where it starts
+    private int _end;               // and ends, exclusive
+    private int _startLine;         // and its line
+    private Symbol _last;           // type of the previous token
+
+    public ByteScanner(ByteBuffer in) {
+        this(in, new NameTable());
+    }
+
+    public ByteScanner(ByteBuffer in, NameTable names) {
+        _in = in;
+        _names = names;
+        if (in.hasArray()) {
+            _bytes = in.array();
+            _offset = in.arrayOffset();
+        } else {
+            _bytes = null;
+            _offset = 0;
+        }
+        _pos = in.position();
+        _limit = in.limit();
+        _next = -1;
+        _line = 1;
+        _started = false;
+        _token = null;
+        _last = null;
+    }
+
+    /**
+     * a scanner over the whole file.
+     */
+    public static ByteScanner open(File file) throws IOException {
+        return open(file, new NameTable());
+    }
+
+    /**
+     * a scanner over the whole file, interning identifiers into names.
+     */
+    public static ByteScanner open(File file, NameTable names) throws IOException {
+        if (file.length() <= MAP_THRESHOLD) {
+            return new ByteScanner(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), names);
+        }
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            // the mapping stays valid after the channel is closed
+            return new ByteScanner(in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, in.length()), names);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static int hash(int first, int second, int last, int length) {
+        return (first * 21 + second + last * 60 + length * 2) & (KEYWORD_SLOTS - 1);
+    }
+
+    private int byteAt(int i) {
+        return _bytes != null ? _bytes[_offset + i] : _in.get(i);
+    }
+
+    private int read() throws IllegalInputCharException {
+        // keeps counting past the end, so _pos - 1 is always where _next is
+        int i = _pos++;
+        if (i >= _limit) {
+            return -1;
+        }
+        int c = byteAt(i);
+        if (c < 0) {
+            throw new IllegalInputCharException();
+        }
+        if (c == '\n') {
+            _line++;
+        }
+        return c;
+    }
+
+    private static int classOf(int c) {
+        return c < 0 ? OTHER : CLASSES[c];
+    }
+
+    private static boolean isIdPart(int c) {
+        return c >= 0 && ID_PART[c];
+    }
+
+    /**
+     * the text from start up to, not including, _next.
+     */
+    private String lexeme(int start) {
+        return text(_in, start, _pos - 1 - start);
+    }
+
+    /**
+     * lexeme of a token of the given kind: a constant, a name from names or
+     * the text itself.
+     */
+    static String lexeme(ByteBuffer in, NameTable names, Symbol kind, int start, int length) {
+        String fixed = FIXED[kind.ordinal()];
+        if (fixed != null) {
+            return fixed;
+        }
+        return kind == Symbol.ID ? names.intern(in, start, length) : text(in, start, length);
+    }
+
+    /**
+     * the length bytes of in from start, as a String.
+     */
+    static String text(ByteBuffer in, int start, int length) {
+        if (in.hasArray()) {
+            return new String(in.array(), in.arrayOffset() + start, length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] bytes = new byte[length];
+        in.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Scan just far enough to produce the next token.
+     * @return the next token, or null at end of file.
+     */
+    public Token next() throws Exception {
+        if (!scan()) {
+            return null;
+        }
+        return new Token(lexeme(_in, _names, _token, _start, _end - _start), _token);
+    }
+
+    /**
+     * Scan the rest of the input into a buffer.
+     */
+    public TokenBuffer scanAll() throws Exception {
+        TokenBuffer tokens = new TokenBuffer(_in, _names, (_limit - _pos) / 4);
+        while (scan()) {
+            tokens.add(_token, _start, _end - _start, _startLine);
+        }
+        return tokens;
+    }
+
+    /**
+     * find the next token and where it is.
+     * @return false at end of file.
+     */
+    private boolean scan() throws Exception {
+        if (!_started) {
+            _next = read();
+            _started = true;
+        }
+        _token = null;
+        while (_token == null) {
+            while (classOf(_next) == SPACE) {
+                _next = read();
+            }
+
+            if (_next == -1) { //end of file
+                return false;
+            }
+
+            _startLine = _line;
+            switch (classOf(_next)) {
+            case LETTER:
+                scanId();
+                break;
+            case DIGIT:
+                if (_next == '0') {
+                    scanZero();
+                } else {
+                    scanInteger();
+                }
+                break;
+            case QUOTE:
+                scanChar();
+                break;
+            case DOUBLE_QUOTE:
+                scanString();
+                break;
+            case SEPARATOR:
+                int start = _pos - 1;
+                Symbol separator = SEPARATORS[_next];
+                _next = read();
+                emit(separator, start);
+                break;
+            case OPERATOR:
+                // comments produce no token, in which case keep going
+                scanOperator();
+                break;
+            default:
+                throw new RuntimeException("input " + (char) _next + "["
+                        + (char) _next + "] not yet implemented");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * the token of the given type runs from start up to _next.
+     */
+    private void emit(Symbol type, int start) {
+        _token = type;
+        _start = start;
+        _end = _pos - 1;
+        _last = type;
+    }
+
+    private void scanId() throws IllegalInputCharException {
+        int start = _pos - 1;
+        do {
+            _next = read();
+        } while (isIdPart(_next));
+        int slot = keyword(start, _pos - 1 - start);
+        emit(slot >= 0 ? KEYWORD_SYMBOLS[slot] : Symbol.ID, start);
+    }
+
+    /**
+     * @return the slot of the keyword at start, or -1 if it is not one.
+     */
+    private int keyword(int start, int length) {
+        if (length < 2 || length > MAX_KEYWORD) {
+            return -1;
+        }
+        int slot = hash(byteAt(start), byteAt(start + 1), byteAt(start + length - 1), length);
+        byte[] keyword = KEYWORD_BYTES[slot];
+        if (keyword == null || keyword.length != length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (keyword[i] != byteAt(start + i)) {
+                return -1;
+            }
+        }
+        return slot;
+    }
+
+    private void scanOperator() throws IllegalInputCharException, IllegalBlockCommentException {
+        int start = _pos - 1;
+        int first = _next;
+        _next = read();
+        switch (first) {
+        case '>':
+            Symbol rangle = Symbol.RANGLE;
+            if (_next == '>') {
+                _next = read();
+                rangle = Symbol.DBRANGLE;
+                if (_next == '>') {
+                    _next = read();
+                    rangle = Symbol.TPRANGLE;
+                    if (_next == '=') {
+                        _next = read();
+                        rangle = Symbol.URSHIFT_EQ;
+                    }
+                } else if (_next == '=') {
+                    _next = read();
+                    rangle = Symbol.RSHIFT_EQ;
+                }
+            } else if (_next == '=') {
+                _next = read();
+                rangle = Symbol.GEQ;
+            }
+            emit(rangle, start);
+            break;
+        case '<':
+            Symbol langle = Symbol.LANGLE;
+            if (_next == '<') {
+                _next = read();
+                langle = Symbol.DBLANGLE;
+                if (_next == '=') {
+                    _next = read();
+                    langle = Symbol.LSHIFT_EQ;
+                }
+            } else if (_next == '=') {
+                _next = read();
+                langle = Symbol.LEQ;
+            }
+            emit(langle, start);
+            break;
+        case '=':
+            scanTwoOptionsOp(Symbol.ASSIGN, Symbol.EQUAL, start);
+            break;
+        case '!':
+            scanTwoOptionsOp(Symbol.NOT, Symbol.NEQ, start);
+            break;
+        case '^':
+            scanTwoOptionsOp(Symbol.EXOR, Symbol.EXOR_EQ, start);
+            break;
+        case '*':
+            scanTwoOptionsOp(Symbol.STAR, Symbol.STAR_EQ, start);
+            break;
+        case '%':
+            scanTwoOptionsOp(Symbol.MOD, Symbol.MOD_EQ, start);
+            break;
+        case '&':
+            scanThreeOptionsOp(Symbol.BITAND, '&', Symbol.AND, Symbol.AND_EQ, start);
+            break;
+        case '|':
+            scanThreeOptionsOp(Symbol.BITOR, '|', Symbol.LOR, Symbol.OR_EQ, start);
+            break;
+        case '+':
+            scanThreeOptionsOp(Symbol.PLUS, '+', Symbol.INCREMENT, Symbol.PLUS_EQ, start);
+            break;
+        case '-':
+            scanThreeOptionsOp(Symbol.MINUS, '-', Symbol.DECREMENT, Symbol.MINUS_EQ, start);
+            break;
+        case '?':
+            emit(Symbol.QUESTION, start);
+            break;
+        case '~':
+            emit(Symbol.BIT_COMP, start);
+            break;
+        case ':':
+            emit(Symbol.COLON, start);
+            break;
+        default:
+            scanSlash(start);
+        }
+    }
+
+    /**
+     * the operator just read, or the two character one ending in =.
+     */
+    private void scanTwoOptionsOp(Symbol defaultType, Symbol twoCharsType, int start)
+            throws IllegalInputCharException {
+        if (_next == '=') {
+            _next = read();
+            emit(twoCharsType, start);
+        } else {
+            emit(defaultType, start);
+        }
+    }
+
+    /**
+     * the operator just read, the same one twice, or the one ending in =.
+     */
+    private void scanThreeOptionsOp(Symbol defaultType, char doubled, Symbol doubledType, Symbol assignType,
+            int start) throws IllegalInputCharException {
+        if (_next == doubled) {
+            _next = read();
+            emit(doubledType, start);
+        } else if (_next == '=') {
+            _next = read();
+            emit(assignType, start);
+        } else {
+            emit(defaultType, start);
+        }
+    }
+
+    private void scanSlash(int start) throws IllegalInputCharException, IllegalBlockCommentException {
+        if (_next == '/') {         // in-line comment
+            do {
+                _next = read();
+            } while (_next != '\n' && _next != '\r' && _next != -1);
+        } else if (_next == '*') {  // block comment
+            _next = read();
+            for ( ; ; ) {
+                if (_next == -1) {
+                    throw new IllegalBlockCommentException();
+                }
+                if (_next == '*') {
+                    _next = read();
+                    if (_next == '/') {
+                        break;
+                    }
+                } else { // necessary since "**/" can end a comment
+                    _next = read();
+                }
+            }
+            _next = read();
+        } else if (_next == '=') {
+            _next = read();
+            emit(Symbol.SLASH_EQ, start);
+        } else {
+            emit(Symbol.SLASH, start);
+        }
+    }
+
+    private void scanZero() throws IllegalInputCharException, IllegalIDException {
+        int start = _pos - 1;
+        _next = read();
+        emit(Symbol.DECIMAL, start);
+        if (isIdPart(_next)) {
+            throw new IllegalIDException("0" + (char) _next);
+        }
+    }
+
+    /**
+     * scanning integer literals, which have to fit an int (with the minus
+     * sign if the previous token was one).
+     */
+    private void scanInteger() throws IllegalInputCharException, IllegalIDException {
+        int start = _pos - 1;
+        long value = 0;
+        long max = _last == Symbol.MINUS ? 1L + Integer.MAX_VALUE : Integer.MAX_VALUE;
+        boolean overflow = false;
+        while (classOf(_next) == DIGIT) {
+            value = value * 10 + _next - '0';
+            overflow |= value > max;
+            if (overflow) {
+                value = 0;
+            }
+            _next = read();
+        }
+        if (overflow) {
+            throw new NumberFormatException("For input string: \"" + (_last == Symbol.MINUS ? "-" : "")
+                    + lexeme(start) + "\"");
+        }
+
+        emit(Symbol.DECIMAL, start);
+        // A proper integer must be terminated with space, operators or ';'.
+        // check for illegal identifiers.
+        if (classOf(_next) == LETTER || _next == '_' || _next == '$') {
+            throw new IllegalIDException(lexeme(start) + (char) _next);
+        }
+    }
+
+    /**
+     * scanning character literals
+     */
+    private void scanChar() throws Exception {
+        int start = _pos - 1;
+        _next = read();
+        runawayCheck();
+        // single character
+        readChar(start);
+
+        // terminating literal
+        if ('\'' != _next) {
+            throw new IllegalCharException(lexeme(start) + (char) _next + '\'');
+        }
+        _next = read();
+        emit(Symbol.CHARACTER, start);
+    }
+
+    /**
+     * scanning string literals
+     */
+    private void scanString() throws Exception {
+        int start = _pos - 1;
+        _next = read();
+        while ('\"' != _next) {
+            runawayCheck();
+            readChar(start);
+        }
+        _next = read();
+        emit(Symbol.STRING, start);
+    }
+
+    /**
+     * Helper for reading _next as a single character of the literal starting
+     * at start, escapes included.
+     */
+    private void readChar(int start) throws IllegalInputCharException, IllegalCharException {
+        if ('\\' != _next) {
+            _next = read();
+            return;
+        }
+        _next = read();
+        // octal
+        if (_next >= '0' && _next <= '3') {
+            _next = read();
+            for (int i = 0; i < 2 && _next >= '0' && _next <= '7'; i++) {
+                _next = read();
+            }
+        } else if (_next >= '4' && _next <= '7') {
+            _next = read();
+            if (_next >= '0' && _next <= '7') {
+                _next = read();
+            }
+        } else if (_next >= 0 && "btnfr\"\'\\".indexOf(_next) >= 0) {
+            _next = read();
+        } else {
+            throw new IllegalCharException(lexeme(start) + (char) _next + '\'');
+        }
+    }
+
+    /**
+     * Used in String and Character to check that no new line or EOF happen before quoting back.
+     */
+    private void runawayCheck() throws Exception {
+        if (_next == -1) {
+            // file terminated before quoting back.
+            throw new Exception("EOF with unfinished String.");
+        } else if ('\n' == _next) {
+            // runaway line
+            throw new Exception("New line with unfinished String.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package scanner;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * TokenSource over tokens that have already been scanned into a list.
+ */
+public class ListTokenSource implements TokenSource {
+    private final Iterator<Token> tokens;
+
+    public ListTokenSource(List<Token> tokenList) {
+        tokens = tokenList.iterator();
+    }
+
+    public Token next() {
+        return tokens.hasNext() ? tokens.next() : null;
+    }
+}
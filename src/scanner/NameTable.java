@@ -0,0 +1,145 @@
+package scanner;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The one copy of every identifier and type name seen by one compile.
+ *
+ * The scanners put identifiers through here, so the same name in two places
+ * is the same String: names that both come from the table can be compared
+ * with ==, and the hash code is computed once. Names can be looked up from
+ * a slice of a buffer or a StringBuilder without creating a String unless
+ * the name is new.
+ *
+ * Each compile interns into the table of its CompilationContext, handed to
+ * the scanners it creates, so the table goes away with the compile. A
+ * scanner created without one interns into a table of its own.
+ *
+ * The parallel front end scans files on several threads at once, so the
+ * table is split into segments by the high bits of the hash, each with a
+ * lock of its own.
+ */
+public class NameTable {
+    private static final int SEGMENTS = 16;
+
+    /** an open addressing table of the names whose hash falls in it. */
+    private static final class Segment {
+        String[] names = new String[64];
+        int[] hashes = new int[64];
+        int size = 0;
+
+        int slot(int hash) {
+            return hash & (names.length - 1);
+        }
+
+        int next(int i) {
+            return (i + 1) & (names.length - 1);
+        }
+
+        String add(int i, int hash, String name) {
+            names[i] = name;
+            hashes[i] = hash;
+            if (++size * 2 > names.length) {
+                rehash();
+            }
+            return name;
+        }
+
+        private void rehash() {
+            String[] oldNames = names;
+            int[] oldHashes = hashes;
+            names = new String[oldNames.length * 2];
+            hashes = new int[oldNames.length * 2];
+            for (int j = 0; j < oldNames.length; j++) {
+                if (oldNames[j] != null) {
+                    int i = slot(oldHashes[j]);
+                    while (names[i] != null) {
+                        i = next(i);
+                    }
+                    names[i] = oldNames[j];
+                    hashes[i] = oldHashes[j];
+                }
+            }
+        }
+    }
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public NameTable() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    public String intern(String name) {
+        int hash = name.hashCode();
+        Segment segment = segment(hash);
+        synchronized (segment) {
+            int i = segment.slot(hash);
+            for (String entry = segment.names[i]; entry != null; entry = segment.names[i]) {
+                if (segment.hashes[i] == hash && entry.equals(name)) {
+                    return entry;
+                }
+                i = segment.next(i);
+            }
+            return segment.add(i, hash, name);
+        }
+    }
+
+    public String intern(CharSequence chars) {
+        int hash = 0;
+        for (int k = 0; k < chars.length(); k++) {
+            hash = 31 * hash + chars.charAt(k);
+        }
+        Segment segment = segment(hash);
+        synchronized (segment) {
+            int i = segment.slot(hash);
+            for (String entry = segment.names[i]; entry != null; entry = segment.names[i]) {
+                if (segment.hashes[i] == hash && entry.contentEquals(chars)) {
+                    return entry;
+                }
+                i = segment.next(i);
+            }
+            return segment.add(i, hash, chars.toString());
+        }
+    }
+
+    /**
+     * the name held by the length ASCII bytes of in from start.
+     */
+    public String intern(ByteBuffer in, int start, int length) {
+        int hash = 0;
+        for (int k = 0; k < length; k++) {
+            hash = 31 * hash + in.get(start + k);
+        }
+        Segment segment = segment(hash);
+        synchronized (segment) {
+            int i = segment.slot(hash);
+            for (String entry = segment.names[i]; entry != null; entry = segment.names[i]) {
+                if (segment.hashes[i] == hash && equals(entry, in, start, length)) {
+                    return entry;
+                }
+                i = segment.next(i);
+            }
+            return segment.add(i, hash, ByteScanner.text(in, start, length));
+        }
+    }
+
+    private static boolean equals(String name, ByteBuffer in, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int k = 0; k < length; k++) {
+            if (name.charAt(k) != in.get(start + k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Segment segment(int hash) {
+        // spread the high bits, String hashes of short names are small
+        int spread = hash ^ (hash >>> 16);
+        return segments[(spread ^ (spread >>> 8)) & (SEGMENTS - 1)];
+    }
+}
@@ -15,11 +15,15 @@ import exceptions.IllegalIDException;
 import exceptions.IllegalInputCharException;
 
 
-public class Scanner {
+public class Scanner implements TokenSource {
     private Reader _in;
     private StringBuilder _sb;  // builds lexemes
     private int _next;          // character read
+    private boolean _started;   // whether the first character has been read
+    private Token _token;       // token produced by the current call to next()
+    private Symbol _last;       // type of the previous token
     private List<Token> _tokens;
+    private final NameTable _names;  // where identifiers are interned
     
     private final Map<Character, RunnableScan> opMap;
     private final Map<Character, Symbol> sepMap;
@@ -31,10 +35,21 @@ public class Scanner {
     }
 
     public Scanner(Reader in) {
+        this(in, new NameTable());
+    }
+
+    /**
+     * a scanner interning identifiers into names.
+     */
+    public Scanner(Reader in, NameTable names) {
 
         _in = in;
+        _names = names;
         _sb = new StringBuilder();
         _next = -1;
+        _started = false;
+        _token = null;
+        _last = null;
         _tokens = null;
         
         // Example for organizing functions for operators
@@ -151,7 +166,7 @@ public class Scanner {
         // if scan has already been called, just return the same list
         if (_tokens == null) {
             _tokens = new LinkedList<Token>();
-            scanStart();
+            scanAll();
         }
 
         return _tokens;
@@ -164,13 +179,27 @@ public class Scanner {
      */
     public List<Token> scanThrow() throws Exception {
         _tokens = new ArrayList<Token>();
-        scanStart();
+        scanAll();
         return _tokens;
     }
 
-    private void scanStart() throws Exception {
-        _next = read();
-        for ( ; ; ) {
+    private void scanAll() throws Exception {
+        for (Token t = next(); t != null; t = next()) {
+            _tokens.add(t);
+        }
+    }
+
+    /**
+     * Scan just far enough to produce the next token.
+     * @return the next token, or null at end of file.
+     */
+    public Token next() throws Exception {
+        if (!_started) {
+            _next = read();
+            _started = true;
+        }
+        _token = null;
+        while (_token == null) {
             /* The loop intentionally does not call read() here--not all tokens are terminated with whitespace;
              * e.g., "scanStart();" needs to read the '(' to find the end of the ID and return.
              * If read() was called in this loop, the LPAREN will be skipped.
@@ -180,7 +209,7 @@ public class Scanner {
             }
 
             if (_next == -1) { //end of file
-                break;
+                return null;
             }
 
             _sb.setLength(0); //clear StringBuilder
@@ -201,12 +230,19 @@ public class Scanner {
                 // find TokenType.
                 scanSeparators();
             } else if (opMap.containsKey((char) _next)) {
+                // comments produce no token, in which case keep going
                 opMap.get((char) _next).run();
             } else {
                 throw new RuntimeException("input " + (char) _next + "["
                         + (char) _next + "] not yet implemented");
             }
         }
+        return _token;
+    }
+
+    private void emit(Token token) {
+        _token = token;
+        _last = token.getTokenType();
     }
 
     private void scanId() throws IOException, IllegalInputCharException {
@@ -214,9 +250,9 @@ public class Scanner {
             _sb.append((char) _next);
             _next = read();
             if (!Character.isLetterOrDigit(_next) && _next != '_' && _next != '$') {
-                String lexeme = _sb.toString();
+                String lexeme = _names.intern(_sb);
                 Symbol type = (idMap.containsKey(lexeme) ? idMap.get(lexeme) : Symbol.ID);
-                _tokens.add(new Token(lexeme, type));
+                emit(new Token(lexeme, type));
                 return;
             }
         }
@@ -244,7 +280,7 @@ public class Scanner {
                 }
                 _sb.append((char) _next);
             }
-            _tokens.add(new Token(_sb.toString(), tokenType));
+            emit(new Token(_sb.toString(), tokenType));
         }
     };
 
@@ -267,7 +303,7 @@ public class Scanner {
                 }
                 _sb.append((char) _next);
             }
-            _tokens.add(new Token(_sb.toString(), tokenType));
+            emit(new Token(_sb.toString(), tokenType));
         }
     };
 
@@ -284,7 +320,7 @@ public class Scanner {
             }
             _sb.append((char) _next);
         }
-        _tokens.add(new Token(_sb.toString(), tokenType));
+        emit(new Token(_sb.toString(), tokenType));
     }
 
     private void scanThreeOptionsOp(Symbol defaultType, char firstOption,
@@ -303,7 +339,7 @@ public class Scanner {
             }
         _sb.append((char) _next);
         }
-        _tokens.add(new Token(_sb.toString(), tokenType));
+        emit(new Token(_sb.toString(), tokenType));
     }
 
     private RunnableScan scanAssign = new RunnableScan() {
@@ -324,7 +360,7 @@ public class Scanner {
 
         public void run() throws IOException, IllegalInputCharException {
             _sb.append((char) _next);
-            _tokens.add(new Token(_sb.toString(), Symbol.QUESTION));
+            emit(new Token(_sb.toString(), Symbol.QUESTION));
             _next = read();
         }
     };
@@ -333,7 +369,7 @@ public class Scanner {
 
         public void run() throws IOException, IllegalInputCharException {
             _sb.append((char) _next);
-            _tokens.add(new Token(_sb.toString(), Symbol.BIT_COMP));
+            emit(new Token(_sb.toString(), Symbol.BIT_COMP));
             _next = read();
         }
     };
@@ -342,7 +378,7 @@ public class Scanner {
 
         public void run() throws IOException, IllegalInputCharException {
             _sb.append((char) _next);
-            _tokens.add(new Token(_sb.toString(), Symbol.COLON));
+            emit(new Token(_sb.toString(), Symbol.COLON));
             _next = read();
         }
     };
@@ -420,11 +456,11 @@ public class Scanner {
 
                 _next = read();
             } else if (_next == '=') {
-                _tokens.add(new Token("/=", Symbol.SLASH_EQ));
+                emit(new Token("/=", Symbol.SLASH_EQ));
 
                 _next = read();
             } else {
-                _tokens.add(new Token("/", Symbol.SLASH));
+                emit(new Token("/", Symbol.SLASH));
             }
         }
     };
@@ -443,12 +479,12 @@ public class Scanner {
     private void scanSeparators() throws IOException, IllegalInputCharException {
         _sb.append((char) _next);
         String lexeme = _sb.toString();
-        _tokens.add(new Token(lexeme, sepMap.get(lexeme.charAt(0))));
+        emit(new Token(lexeme, sepMap.get(lexeme.charAt(0))));
         _next = read();
     }
     
     private void scanZero() throws IOException, IllegalInputCharException, IllegalIDException {
-        _tokens.add(new Token("0", Symbol.DECIMAL));
+        emit(new Token("0", Symbol.DECIMAL));
         _next = read();
         if (Character.isLetterOrDigit(_next) || _next == '_' || _next == '$') {
             throw new IllegalIDException("0" + (char) _next);
@@ -471,7 +507,7 @@ public class Scanner {
         // missing case 1 - 2147483648
         try {
             String intStr = _sb.toString();
-            if (_tokens.size() > 0 && _tokens.get(_tokens.size() - 1).getTokenType() == Symbol.MINUS) {
+            if (_last == Symbol.MINUS) {
                 intStr = "-" + _sb.toString();
             }
             Integer.parseInt(intStr);
@@ -479,7 +515,7 @@ public class Scanner {
             throw e;
         }
 
-        _tokens.add(new Token(_sb.toString(), Symbol.DECIMAL));
+        emit(new Token(_sb.toString(), Symbol.DECIMAL));
         // A proper integer must be terminated with space, operators or ';'.
         // check for illegal identifiers.
         if (Character.isLetter(_next) || _next == '_' || _next == '$') {
@@ -503,7 +539,7 @@ public class Scanner {
             throw new IllegalCharException(_sb.toString() + (char) _next + '\'');
         }
         _sb.append((char) _next);
-        _tokens.add(new Token(_sb.toString(), Symbol.CHARACTER));
+        emit(new Token(_sb.toString(), Symbol.CHARACTER));
 
         _next = read();
     }
@@ -521,7 +557,7 @@ public class Scanner {
         }
 
         _sb.append((char) _next);
-        _tokens.add(new Token(_sb.toString(), Symbol.STRING));
+        emit(new Token(_sb.toString(), Symbol.STRING));
 
         _next = read();
     }
@@ -0,0 +1,91 @@
+package scanner;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The tokens of one file, scanned by ByteScanner.scanAll, kept as parallel
+ * arrays of kind, start offset, length and line instead of Token objects.
+ *
+ * Lexemes are only cut out of the source when asked for, and only for
+ * literals; identifiers come from the NameTable, keywords, separators and
+ * operators share constant ones.
+ */
+public class TokenBuffer {
+    private static final Symbol[] SYMBOLS = Symbol.values();
+
+    private final ByteBuffer source;
+    private final NameTable names;
+    private int size;
+    private int[] kinds;
+    private int[] starts;
+    private int[] lengths;
+    private int[] lines;
+
+    TokenBuffer(ByteBuffer source, NameTable names, int capacity) {
+        this.source = source;
+        this.names = names;
+        capacity = Math.max(capacity, 16);
+        kinds = new int[capacity];
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        lines = new int[capacity];
+    }
+
+    void add(Symbol kind, int start, int length, int line) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = grow(kinds, capacity);
+            starts = grow(starts, capacity);
+            lengths = grow(lengths, capacity);
+            lines = grow(lines, capacity);
+        }
+        kinds[size] = kind.ordinal();
+        starts[size] = start;
+        lengths[size] = length;
+        lines[size] = line;
+        size++;
+    }
+
+    private int[] grow(int[] array, int capacity) {
+        int[] grown = new int[capacity];
+        System.arraycopy(array, 0, grown, 0, size);
+        return grown;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Symbol kind(int i) {
+        return SYMBOLS[kinds[i]];
+    }
+
+    /**
+     * offset of the first byte of token i in the file.
+     */
+    public int start(int i) {
+        return starts[i];
+    }
+
+    public int length(int i) {
+        return lengths[i];
+    }
+
+    /**
+     * line of token i, counting from 1.
+     */
+    public int line(int i) {
+        return lines[i];
+    }
+
+    public String lexeme(int i) {
+        return ByteScanner.lexeme(source, names, SYMBOLS[kinds[i]], starts[i], lengths[i]);
+    }
+
+    /**
+     * token i as a Token, for code that wants one.
+     */
+    public Token token(int i) {
+        return new Token(lexeme(i), kind(i));
+    }
+}
@@ -0,0 +1,12 @@
+package scanner;
+
+/**
+ * A stream of tokens pulled one at a time, e.g. by the parser.
+ */
+public interface TokenSource {
+    /**
+     * @return the next token, or null once the input is exhausted.
+     * @throws Exception on a lexical error.
+     */
+    Token next() throws Exception;
+}
@@ -1,46 +1,29 @@
 package static_analysis;
 
-import java.util.List;
-
-import ast.AST;
-import ast.MethodDeclaration;
-import ast.Modifier;
 import ast.Name;
 import ast.QualifiedName;
 import ast.SimpleName;
 import ast.VariableDeclaration;
-import ast.Visitor;
-import environment.TraversalVisitor;
+import environment.NodePass;
 import exceptions.VariableException;
 
-public class VariableAnalysis extends TraversalVisitor{
+/**
+ * every local variable is initialized, and not with an expression that uses
+ * the variable itself. parameters are not walked, they need no initializer.
+ */
+public class VariableAnalysis extends NodePass {
     VariableDeclaration currVd = null;
 
     @Override
-    public void visit(MethodDeclaration node) throws Exception {
-        for (Modifier mo : node.modifiers) {
-            mo.accept(this);
-        }
-        if (!node.isConstructor) {
-            // check for void
-            if (node.returnType != null) {
-                node.returnType.accept(this);
-            }
-        }
-        // do not visit parameter declarations because they do not need to be initialized
-        if (node.body != null) {
-            node.body.accept(this);
-        }
-    }
-
-    @Override
-    public void visit(VariableDeclaration node) throws Exception {
-        node.type.accept(this); // useless but why not
+    public void enter(VariableDeclaration node) throws Exception {
         if (node.initializer == null)
             throw new VariableException("Variable not initialized: " + node.id);
 
         currVd = node;
-        node.initializer.accept(this);
+    }
+
+    @Override
+    public void leave(VariableDeclaration node) throws Exception {
         currVd = null;
     }
 
@@ -59,12 +42,4 @@ public class VariableAnalysis extends TraversalVisitor{
             }
         }
     }
-
-    public static void check(List<AST> trees) throws Exception {
-        for (AST ast : trees) {
-            Visitor vav = new VariableAnalysis();
-            ast.root.accept(vav);
-        }
-
-    }
 }
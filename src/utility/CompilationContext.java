@@ -0,0 +1,123 @@
+package utility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ast.SimpleType;
+import ast.Type;
+import ast.TypeDeclaration;
+import ast.TypeTable;
+import environment.PackageView;
+import scanner.NameTable;
+
+/**
+ * What one compile builds up on the way from the source to output/: the
+ * names, the symbol table, the type table, the offsets and tables of code
+ * generation and the metrics. Each thread compiles in its current context,
+ * so a JVM can run several compiles at once as long as each has a context,
+ * and output directory, of its own.
+ *
+ * A thread that never binds a context gets one of its own the first time it
+ * asks for it, which is enough for compiles run one after the other. Work
+ * handed to other threads in a compile, like the parallel front end or
+ * UnitTasks, binds the context of the compile for its duration.
+ */
+public class CompilationContext {
+    private static final ThreadLocal<CompilationContext> current = new ThreadLocal<CompilationContext>() {
+        protected CompilationContext initialValue() {
+            return new CompilationContext();
+        }
+    };
+
+    // where the assembly is written
+    public final File output;
+
+    // identifiers and type names, interned by the scanners of the compile
+    public final NameTable names = new NameTable();
+
+    // environment.SymbolTable, set by buildGlobal
+    public Map<String, TypeDeclaration> global = null;
+    public Map<String, List<String>> globalPackages = null;
+    public Map<String, PackageView> packageViews = null;
+
+    // environment.TypeHelper, the subtype index of the compile and the
+    // canonical String type
+    public int indexGeneration = 0;
+    public TypeDeclaration object = null;
+    public TypeDeclaration cloneable = null;
+    public TypeDeclaration serializable = null;
+    public SimpleType string = null;
+
+    public final TypeTable typeTable = new TypeTable();
+
+    // code_generation.OffSet, the ugly table by class and the interface
+    // methods at their offsets in it
+    public Map<TypeDeclaration, List<String>> ugly = new HashMap<TypeDeclaration, List<String>>();
+    public List<String> itfMethods = null;
+    // code_generation.UglyTableBuilder
+    public StringBuilder uglyText = new StringBuilder();
+    // code_generation.HierarchyTableBuilder, the canonical types in offset
+    // order and the offset of each by id, -1 for types not in the table
+    public Map<Type, List<String>> hierarchyTable = new HashMap<Type, List<String>>();
+    public List<Type> hierarchyTypes = new ArrayList<Type>();
+    public int[] hierarchyOffSets = new int[0];
+    // code_generation.CodeGenerator, the static initializer calls of the
+    // program and the code of those of the class being generated
+    public StringBuilder[] staticFieldInit = { new StringBuilder(), new StringBuilder() };
+    public Set<String> staticInitExtern = new HashSet<String>();
+
+    // what joosc.Metrics collects about the compile, null if it collects
+    // nothing. only Metrics knows what it is
+    public Object metrics = null;
+
+    /**
+     * a context writing to defaultOutput().
+     */
+    public CompilationContext() {
+        this(defaultOutput());
+    }
+
+    public CompilationContext(File output) {
+        this.output = output;
+    }
+
+    /**
+     * output/ in the working directory.
+     */
+    public static File defaultOutput() {
+        return new File(System.getProperty("user.dir") + "/output");
+    }
+
+    /**
+     * the context of the compile the calling thread is running.
+     */
+    public static CompilationContext current() {
+        return current.get();
+    }
+
+    /**
+     * make context the current one of the calling thread.
+     * @return the context it replaces, to bind again when done.
+     */
+    public static CompilationContext bind(CompilationContext context) {
+        CompilationContext previous = current.get();
+        current.set(context);
+        return previous;
+    }
+
+    /**
+     * a new context for a compile run in the middle of this one, like the
+     * build of the standard library snapshot. it writes to the same place
+     * and its phases are reported with this one's.
+     */
+    public CompilationContext nested() {
+        CompilationContext context = new CompilationContext(output);
+        context.metrics = metrics;
+        return context;
+    }
+}
@@ -0,0 +1,72 @@
+package utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import ast.AST;
+
+/**
+ * Runs a check on each compilation unit that is not precompiled.
+ *
+ * With -Djoosc.parallel the units are checked concurrently on the common
+ * pool, which is safe for checks that only read what the units share (see
+ * environment.SymbolTable.freeze) and write to their own tree. The error
+ * reported is still the one from the first failing unit in tree order, the
+ * one the sequential loop would have stopped at. The checks run in the
+ * CompilationContext of the thread that started them.
+ */
+public class UnitTasks {
+
+    public interface Task {
+        void run(AST tree) throws Exception;
+    }
+
+    public static void forEach(List<AST> trees, final Task task) throws Exception {
+        if (!Boolean.getBoolean("joosc.parallel")) {
+            for (AST tree : trees) {
+                if (!tree.precompiled) {
+                    task.run(tree);
+                }
+            }
+            return;
+        }
+
+        final CompilationContext context = CompilationContext.current();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (final AST tree : trees) {
+            if (tree.precompiled) {
+                continue;
+            }
+            futures.add(ForkJoinPool.commonPool().submit(new Callable<Void>() {
+                public Void call() throws Exception {
+                    CompilationContext previous = CompilationContext.bind(context);
+                    try {
+                        task.run(tree);
+                    } finally {
+                        CompilationContext.bind(previous);
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            for (Future<Void> future : futures) {
+                future.cancel(false);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+}
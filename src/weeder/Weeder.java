@@ -1,10 +1,9 @@
 package weeder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 import java.util.Stack;
 
@@ -12,6 +11,14 @@ import parser.ParseTree;
 import scanner.Symbol;
 import exceptions.WeedException;
 
+/**
+ * Checks the rules of Joos the grammar does not enforce.
+ *
+ * Members (fields, methods, constructors and interface methods) are checked
+ * on their own and the type afterwards, so weeding can run while parsing,
+ * as soon as each of them is reduced (see ast.ASTBuilder), or over a whole
+ * parse tree with weed().
+ */
 public class Weeder {
 
     final private ParseTree parseTree;
@@ -19,244 +26,282 @@ public class Weeder {
     private String fileName;
     private boolean isAbstractClass = false;
 
+    // collected from the members for the checks of the type
+    private List<String> constructorNames = new ArrayList<String>();
+    private boolean hasAbstractMethod = false;
+    private boolean typeWeeded = false;
+
+    // what walk found in the last member
+    private boolean hasBody;
+    private String constructorName;
+
+    // the stack of walk, a node and the state it is visited in
+    private static final int MODIFIERS = 1;
+    private static final int CAST_TYPE = 2;
+    private static final int NEGATED = 4;
+    private static final int MINUS = 8;
+    private ParseTree[] nodes = new ParseTree[64];
+    private int[] states = new int[64];
+    private int top;
+
     public Weeder(ParseTree parseTree, String fileName) throws Exception {
         this.parseTree = parseTree;
         this.fileName = fileName;
     }
 
+    /**
+     * a weeder that is given the members and the type one at a time.
+     */
+    public Weeder(String fileName) {
+        this.parseTree = null;
+        this.fileName = fileName;
+    }
 
     public void weed() throws WeedException {
-        ParseTree ClassDecNode = findNode(parseTree, Symbol.ClassDeclaration);
-        boolean noModifier = true;
-        if (ClassDecNode != null) {
-            for (ParseTree child: ClassDecNode.getChildren()) {
-                if (checkNodeType(child, Symbol.Modifiers)) {
-                    noModifier = false;
-                    visitModifier(child, Symbol.ClassDeclaration);
-                } else if (checkNodeType(child, Symbol.ClassBody)) {
-                    visitClassBody(child);
-                } else if (checkNodeType(child, Symbol.ID)) {
-                    this.className = child.getLexeme();
-                    if (!this.className.equals(this.fileName)) {
-                        throw new WeedException(
-                                "Class's name has to be same as file's name: " + this.className + " " + this.fileName);
-                    }
-                }
+        // members before the type that contains them, as the parser reduces them
+        List<ParseTree> types = new ArrayList<ParseTree>();
+        Stack<ParseTree> stack = new Stack<ParseTree>();
+        stack.push(parseTree);
+        while (!stack.isEmpty()) {
+            ParseTree currentNode = stack.pop();
+            if (isMember(currentNode.getTokenType())) {
+                weedMember(currentNode);
+                continue;
             }
-        } else {
-            ParseTree InterfaceDecNode = findNode(parseTree,Symbol.InterfaceDeclaration);
-            for (ParseTree child : InterfaceDecNode.getChildren()) {
-                if (checkNodeType(child, Symbol.Modifiers)) {
-                    noModifier = false;
-                } else if (checkNodeType(child, Symbol.ID)) {
-                    this.className = child.getLexeme();
-                    if (!this.className.equals(this.fileName)) {
-                        throw new WeedException(
-                                "Interface's name has to be same as file's name");
-                    }
-                }
+            if (checkNodeType(currentNode, Symbol.ClassDeclaration)
+                    || checkNodeType(currentNode, Symbol.InterfaceDeclaration)) {
+                types.add(currentNode);
             }
-            if (InterfaceDecNode != null) {
-                ParseTree methodHeaderNode = findNode(InterfaceDecNode,
-                        Symbol.MethodHeader);
-                if (methodHeaderNode != null) {
-                    ParseTree modifierNode = findNode(methodHeaderNode,Symbol.Modifiers);
-                    if (modifierNode != null) {
-                        visitModifier(modifierNode, Symbol.InterfaceDeclaration);
-                    }
-                }
+            for (ParseTree child : currentNode.getChildren()) {
+                stack.push(child);
             }
         }
-        // Check: No package private classes.
-        if (noModifier) {
-            throw new WeedException("No package private classes");
+        for (ParseTree type : types) {
+            weedType(type);
         }
+        finish();
     }
-    
-    private void visitClassBody(ParseTree classBodyNode) throws WeedException {
-        ParseTree ClassBodyDecNode = findNode(classBodyNode, Symbol.ClassBodyDeclarations);
-        ParseTree modifierNode;
-        ParseTree blockNode;
-        List<ParseTree> constructorDecs = new ArrayList<ParseTree>();
-        if (ClassBodyDecNode != null) {
-            Queue<ParseTree> queue = new LinkedList<ParseTree>();
-            queue.add(classBodyNode);
-            while (!queue.isEmpty()) {
-                ParseTree currentNode = (ParseTree) queue.remove();
-                for (ParseTree child : currentNode.getChildren()) {
-                    if (checkNodeType(child, Symbol.FieldDeclaration)) {
-                        modifierNode = findNode(child, Symbol.Modifiers);
-                        if (modifierNode != null) {
-
-                            visitModifier(modifierNode, Symbol.FieldDeclaration);
-                            // Check: No package private field.
-                        } else if (modifierNode == null) {
-                            throw new WeedException("No package private field");
-                        }
-                    } else if (checkNodeType(child, Symbol.MethodDeclaration)) {
-                        modifierNode = findNode(child, Symbol.Modifiers);
-                        if (modifierNode != null) {
 
-                            visitModifier(modifierNode, Symbol.MethodHeader);
-                            // Check: No package private method.
-                        } else {
-                            throw new WeedException("No package private method");
-                        }
-                        blockNode = findNode(child, Symbol.Block);
-                        if (blockNode != null) {
+    public static boolean isMember(Symbol symbol) {
+        return symbol == Symbol.FieldDeclaration || symbol == Symbol.MethodDeclaration
+                || symbol == Symbol.ConstructorDeclaration || symbol == Symbol.AbstractMethodDeclaration;
+    }
 
-                            visitModifier(modifierNode, Symbol.MethodDeclaration);
-//                            ParseTree castNode = findNode(blockNode, Symbol.CastExpression);
-//                            if (castNode != null) {
-//                                visitCast(castNode);
-//                            }
-                            visitBlock(blockNode);
-                        } else {
-                            
-                            visitModifier(modifierNode, Symbol.Block);
-                        }
-                    } else if (checkNodeType(child, Symbol.ConstructorDeclaration)) {
-                        constructorDecs.add(child);
-                    }
-                    if (!checkNodeType(child, Symbol.FieldDeclaration)
-                            && !checkNodeType(child, Symbol.MethodDeclaration)
-                            && !checkNodeType(child, Symbol.ConstructorDeclaration)) {
-                        queue.add(child);
-                    }
-                }
+    /**
+     * checks of one member that do not depend on the rest of the type, all
+     * made in one walk over the member's subtree.
+     */
+    public void weedMember(ParseTree member) throws WeedException {
+        Set<Symbol> modifiers = walk(member);
+        switch (member.getTokenType()) {
+        case FieldDeclaration:
+            if (modifiers == null) {
+                // Check: No package private field.
+                throw new WeedException("No package private field");
             }
+            visitModifier(modifiers, Symbol.FieldDeclaration);
+            break;
+        case MethodDeclaration:
+            if (modifiers == null) {
+                // Check: No package private method.
+                throw new WeedException("No package private method");
+            }
+            visitModifier(modifiers, Symbol.MethodHeader);
+            if (modifiers.contains(Symbol.ABSTRACT)) {
+                // whether the class is abstract is checked with the class
+                hasAbstractMethod = true;
+            }
+            visitModifier(modifiers, hasBody ? Symbol.MethodDeclaration : Symbol.Block);
+            break;
+        case ConstructorDeclaration:
+            constructorNames.add(constructorName);
+            break;
+        case AbstractMethodDeclaration:
+            if (modifiers != null) {
+                visitModifier(modifiers, Symbol.InterfaceDeclaration);
+            }
+            break;
+        default:
+            break;
         }
-        // Check: Every class must contain at least one explicit constructor.
-        if (constructorDecs.isEmpty() || ClassBodyDecNode == null) {
-            throw new WeedException("Every class must contain at least one explicit constructor.");
-        }
-        visitConstructorDec(constructorDecs);
     }
 
-    private void visitBlock(ParseTree blockNode) throws WeedException {
-        Queue<ParseTree> queue = new LinkedList<ParseTree>();
-        queue.add(blockNode);
-        while (!queue.isEmpty()) {
-            ParseTree currentNode = (ParseTree) queue.remove();
-            for (ParseTree child : currentNode.getChildren()) {
-                if (checkNodeType(child, Symbol.UnaryExpression)) {
-                    visitUnary(child, false);
-                } else {
-                    queue.add(child);
+    /**
+     * checks of a class or interface declaration, after all its members.
+     */
+    public void weedType(ParseTree typeNode) throws WeedException {
+        boolean isClass = checkNodeType(typeNode, Symbol.ClassDeclaration);
+        boolean noModifier = true;
+        for (ParseTree child : typeNode.getChildren()) {
+            if (checkNodeType(child, Symbol.Modifiers)) {
+                noModifier = false;
+                if (isClass) {
+                    visitModifier(walk(child), Symbol.ClassDeclaration);
                 }
+            } else if (checkNodeType(child, Symbol.ID)) {
+                this.className = child.getLexeme();
+                if (!this.className.equals(this.fileName)) {
+                    throw new WeedException(isClass ? "Class's name has to be same as file's name: " + this.className
+                            + " " + this.fileName : "Interface's name has to be same as file's name");
+                }
+            }
+        }
+        if (isClass) {
+            // Check: Every class must contain at least one explicit constructor.
+            if (constructorNames.isEmpty()) {
+                throw new WeedException("Every class must contain at least one explicit constructor.");
+            }
+            visitConstructorDec(constructorNames);
+            // Check: Class contains abstract Method must be abstract.
+            if (hasAbstractMethod && !isAbstractClass) {
+                throw new WeedException("class contains abstract Method must be abstract");
             }
         }
+        // Check: No package private classes.
+        if (noModifier) {
+            throw new WeedException("No package private classes");
+        }
+        typeWeeded = true;
     }
 
-    private void visitUnary(ParseTree unaryNode, boolean minusSibling) throws WeedException {
-        boolean isNegative = false;
-        for (ParseTree child : unaryNode.getChildren()) {
-            if (checkNodeType(child, Symbol.MINUS)) {
-                isNegative = true;
-            }
+    /**
+     * checks once the whole compilation unit has been seen.
+     */
+    public void finish() throws WeedException {
+        if (!typeWeeded) {
+            throw new WeedException("No type declaration in " + fileName);
         }
-        Queue<ParseTree> queue = new LinkedList<ParseTree>();
-        queue.add(unaryNode);
-        while (!queue.isEmpty()) {
-            ParseTree currentNode = (ParseTree) queue.remove();
-            for (ParseTree child : currentNode.getChildren()) {
-                if (checkNodeType(child, Symbol.UnaryExpression)) {
-                    if (isNegative) {
-                        visitUnary(child, true);
-                    } else {
-                        visitUnary(child, false);
-                    }
-                    
-                } else if (checkNodeType(child, Symbol.DECIMAL)) {
-                    String value = child.getLexeme();
-                    if (minusSibling) {
-                        value = "-" + value;
-                    }
-                    try {
-                        Integer.parseInt(value);
-                    } catch (NumberFormatException e) {
-                        throw e;
+    }
+
+    /**
+     * walks the subtree of a member (or of the modifiers of a type) once,
+     * checking the literals and casts of its expressions as it goes and
+     * collecting what the rules on the member need: whether it has a body, a
+     * constructor's name and the modifiers.
+     * @return the modifiers, null if there are none
+     */
+    private Set<Symbol> walk(ParseTree member) throws WeedException {
+        Set<Symbol> modifiers = null;
+        hasBody = false;
+        constructorName = null;
+        top = 0;
+        push(member, 0);
+        while (top > 0) {
+            top--;
+            ParseTree node = nodes[top];
+            int state = states[top];
+            nodes[top] = null;
+            Symbol symbol = node.getTokenType();
+
+            if ((state & MODIFIERS) != 0) {
+                if (symbol != Symbol.Modifiers && symbol != Symbol.Modifier) {
+                    // Check: Duplicated modifer.
+                    if (!modifiers.add(symbol)) {
+                        throw new WeedException("Duplicate modifer: " + symbol);
                     }
-                } else if (checkNodeType(child, Symbol.CastExpression)) {
-                    visitCast(child);
-                } else {
-                    queue.add(child);
+                }
+            } else if ((state & CAST_TYPE) != 0) {
+                if (symbol == Symbol.MethodInvocation) {
+                    // Check: Method invocation not allowed as type in cast.
+                    throw new WeedException("Method invocation not allowed as type in cast.");
+                } else if (symbol == Symbol.NEW) {
+                    // Check: Cast to a nonstatic field is not allowed.
+                    throw new WeedException("Cast to a nonstatic field is not allowed.");
+                } else if (symbol == Symbol.ArrayAccess) {
+                    // Check: Cast to array value is not allowed.
+                    throw new WeedException("Cast to array value is not allowed.");
+                } else if (symbol == Symbol.Primary) {
+                    // Check: Cast to an expression is not allowed
+                    throw new WeedException("Cast to an expression is not allowed");
                 }
             }
+
+            switch (symbol) {
+            case Modifiers:
+                if ((state & MODIFIERS) == 0) {
+                    modifiers = EnumSet.noneOf(Symbol.class);
+                    state |= MODIFIERS;
+                }
+                break;
+            case Block:
+                hasBody = true;
+                break;
+            case ConstructorDeclarator:
+                constructorName = node.getChildren().get(0).getLexeme();
+                break;
+            case UnaryExpression:
+                // literals below take the sign of the unary expression this
+                // one is the operand of
+                state = state & ~(NEGATED | MINUS) | ((state & MINUS) != 0 ? NEGATED : 0);
+                if (node.getChildren().get(0).getTokenType() == Symbol.MINUS) {
+                    state |= MINUS;
+                }
+                break;
+            case DECIMAL:
+                // Check: Integer literal out of range.
+                Integer.parseInt((state & NEGATED) != 0 ? "-" + node.getLexeme() : node.getLexeme());
+                break;
+            case CastExpression:
+                pushCast(node, state);
+                continue;
+            default:
+                break;
+            }
+            pushChildren(node, state);
         }
+        return modifiers;
     }
 
-    private void visitCast(ParseTree castNode) throws WeedException {
-        Stack<ParseTree> stack = new Stack<ParseTree>();
+    /**
+     * the children of a cast, only what is below its type is checked as a
+     * type.
+     */
+    private void pushCast(ParseTree castNode, int state) {
         ParseTree castTypeNode = null;
         for (ParseTree child : castNode.getChildren()) {
-            if (checkNodeType(child, Symbol.PrimitiveType)
-                    || checkNodeType(child, Symbol.Name)
-                    || checkNodeType(child, Symbol.Expression)) {
+            Symbol symbol = child.getTokenType();
+            if (symbol == Symbol.PrimitiveType || symbol == Symbol.Name || symbol == Symbol.Expression) {
                 castTypeNode = child;
             }
         }
-        if (castTypeNode != null) {
-            stack.push(castTypeNode);
-        }
-        while (!stack.isEmpty()) {
-            ParseTree currentNode = (ParseTree) stack.pop();
-            for (ParseTree child : currentNode.getChildren()) {
-                    // Check: Method invocation not allowed as type in cast.
-                if (checkNodeType(child, Symbol.MethodInvocation)) {
-                    throw new WeedException(
-                                "Method invocation not allowed as type in cast.");
-                    // Check: Cast to a nonstatic field is not allowed.
-                } else if (checkNodeType(child, Symbol.NEW)) {
-                    throw new WeedException(
-                                "Cast to a nonstatic field is not allowed.");
-                    // Check: Cast to array value is not allowed.
-                } else if (checkNodeType(child, Symbol.ArrayAccess)) {
-                    throw new WeedException(
-                            "Cast to array value is not allowed.");
-                    // Check: Cast to an expression is not allowed
-                } else if (checkNodeType(child, Symbol.Primary)) {
-                    throw new WeedException("Cast to an expression is not allowed");
-                }
-                stack.push(child);
+        List<ParseTree> children = castNode.getChildren();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            ParseTree child = children.get(i);
+            if (child == castTypeNode) {
+                pushChildren(child, state | CAST_TYPE);
+            } else {
+                push(child, state);
             }
         }
     }
 
-    private void visitConstructorDec(List<ParseTree> constructorDecs) throws WeedException {
-        for (ParseTree constructorDec : constructorDecs) {
-            // Check: Constructor's name has to be same as class's name.
-             if (!findNode(constructorDec, Symbol.ID).getLexeme().equals(className)) {
-                 throw new WeedException("Constructor's name has to be same as class's name.");
-             }
+    private void pushChildren(ParseTree node, int state) {
+        List<ParseTree> children = node.getChildren();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            push(children.get(i), state);
         }
     }
 
-    private void visitModifier(ParseTree modifierNode, Symbol parent)
-            throws WeedException {
+    private void push(ParseTree node, int state) {
+        if (top == nodes.length) {
+            nodes = Arrays.copyOf(nodes, top * 2);
+            states = Arrays.copyOf(states, top * 2);
+        }
+        nodes[top] = node;
+        states[top] = state;
+        top++;
+    }
 
-        Stack<ParseTree> stack = new Stack<ParseTree>();
-        Set<Symbol> modifiersSet = new HashSet<Symbol>();
-        stack.push(modifierNode);
-        while (!stack.isEmpty()) {
-            ParseTree currentNode = (ParseTree) stack.pop();
-            // System.out.println(currentNode);
-            for (ParseTree child : currentNode.getChildren()) {
-                Symbol symbol = child.getTokenType();
-                // Check: Duplicated modifer.
-                if (modifiersSet.contains(symbol)) {
-                    // for (Symbol s : modifiersSet) {
-                    // System.err.println(s);
-                    // }
-                    throw new WeedException("Duplicate modifer: " + symbol);
-                }
-                if (!symbol.equals(Symbol.Modifiers) && !symbol.equals(Symbol.Modifier)) {
-                    modifiersSet.add(symbol);
-                }
-                // System.out.println(child);
-                stack.push(child);
+    private void visitConstructorDec(List<String> constructorNames) throws WeedException {
+        for (String name : constructorNames) {
+            // Check: Constructor's name has to be same as class's name.
+            if (!name.equals(className)) {
+                throw new WeedException("Constructor's name has to be same as class's name.");
             }
         }
+    }
+
+    private void visitModifier(Set<Symbol> modifiersSet, Symbol parent) throws WeedException {
 
         if (parent.equals(Symbol.MethodHeader)) {
             // Check: An abstract method cannot be static or final.
@@ -271,9 +316,6 @@ public class Weeder {
                 // Check: A static method cannot be final.
             } else if (modifiersSet.contains(Symbol.STATIC) && modifiersSet.contains(Symbol.FINAL)) {
                 throw new WeedException("A static method cannot be final.");
-                // Check: Class contains abstract Method must be abstract.
-            } else if (modifiersSet.contains(Symbol.ABSTRACT) && !this.isAbstractClass) {
-                throw new WeedException("class contains abstract Method must be abstract");
                 // Check: No package private method.
             } else if (!modifiersSet.contains(Symbol.PUBLIC)
                     && !modifiersSet.contains(Symbol.PROTECTED)) {
@@ -322,21 +364,6 @@ public class Weeder {
         }
     }
 
-    private ParseTree findNode(ParseTree node, Symbol goal) {
-        Queue<ParseTree> queue = new LinkedList<ParseTree>();
-        queue.add(node);
-        while (!queue.isEmpty()) {
-            ParseTree currentNode = (ParseTree) queue.remove();
-            for (ParseTree child : currentNode.getChildren()) {
-                if ((checkNodeType(child, goal))) {
-                    return child;
-                }
-                queue.add(child);
-            }
-        }
-        return null;
-    }
-
     private boolean checkNodeType(ParseTree node, Symbol symbol) {
         if (node.getTokenType().equals(symbol)) {
             return true;
@@ -0,0 +1,101 @@
+package code_gen_test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import joosc.Joosc;
+
+/**
+ * Incremental compiles through compileSTL: a unit that did not change keeps
+ * its .s file, and the tables are only written again when the layout
+ * changes. Files that are written again lose the marker appended to them.
+ */
+public class IncrementalBuildTest {
+    private static final String MARKER = "; not written again\n";
+
+    File dir;
+    File output;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("joosc-incremental").toFile();
+        output = new File(dir, "output");
+        System.setProperty("joosc.incremental", "true");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty("joosc.incremental");
+        delete(dir);
+    }
+
+    @Test
+    public void testUnchangedUnitKeepsItsCode() throws IOException {
+        write("A", "public class A { public A() {} public static int test() { return 1; } }");
+        write("B", "public class B { public B() {} public int b() { return 2; } }");
+        assertEquals(0, compile());
+        mark("A.s", "B.s", "ugly.s", "hierarchy.s", "staticinit.s");
+
+        // a method body changes, the layout does not
+        write("A", "public class A { public A() {} public static int test() { return 123; } }");
+        assertEquals(0, compile());
+        assertFalse(marked("A.s"));
+        assertTrue(marked("B.s"));
+        assertTrue(marked("ugly.s"));
+        assertTrue(marked("hierarchy.s"));
+        assertTrue(marked("staticinit.s"));
+    }
+
+    @Test
+    public void testLayoutChangeRewritesTables() throws IOException {
+        write("A", "public class A { public A() {} public static int test() { return 1; } }");
+        write("B", "public class B { public B() {} public int b() { return 2; } }");
+        assertEquals(0, compile());
+        mark("B.s", "ugly.s", "hierarchy.s", "staticinit.s");
+
+        // a new static initializer changes staticinit.s
+        write("A", "public class A { public static int f = 3; public A() {} public static int test() { return f; } }");
+        assertEquals(0, compile());
+        assertTrue(marked("B.s"));
+        assertFalse(marked("ugly.s"));
+        assertFalse(marked("hierarchy.s"));
+        assertFalse(marked("staticinit.s"));
+    }
+
+    private int compile() {
+        return Joosc.compileSTL(new String[] { new File(dir, "A.java").getAbsolutePath(),
+                new File(dir, "B.java").getAbsolutePath() }, output);
+    }
+
+    private void write(String type, String source) throws IOException {
+        Files.write(new File(dir, type + ".java").toPath(), source.getBytes());
+    }
+
+    private void mark(String... files) throws IOException {
+        for (String file : files) {
+            Files.write(new File(output, file).toPath(), MARKER.getBytes(), StandardOpenOption.APPEND);
+        }
+    }
+
+    private boolean marked(String file) throws IOException {
+        return new String(Files.readAllBytes(new File(output, file).toPath())).endsWith(MARKER);
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,108 @@
+package code_gen_test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import parser.ParseTable;
+import parser.ParseTree;
+import parser.Parser;
+import scanner.Scanner;
+import utility.CompilationContext;
+import weeder.Weeder;
+import ast.AST;
+import ast.ArrayType;
+import ast.SimpleType;
+import ast.Type;
+import code_generation.CodeGenerator;
+import code_generation.HierarchyTableBuilder;
+import code_generation.OffSet;
+import code_generation.UglyTableBuilder;
+import environment.SymbolTable;
+import joosc.Joosc;
+
+/**
+ * instanceof an array of a class type tests the row of that array type in
+ * the hierarchy tables. Object[] used to have no offset and the test read
+ * the word before the table.
+ */
+public class InstanceofOffsetTest {
+    private static final String SOURCE = "public class A { public A() {} "
+            + "public static int test() { Object o = new A[1]; if (o instanceof Object[]) return 123; return 0; } }";
+
+    CompilationContext previous;
+
+    @Before
+    public void setUp() {
+        previous = CompilationContext.bind(new CompilationContext());
+    }
+
+    @After
+    public void tearDown() {
+        CompilationContext.bind(previous);
+    }
+
+    @Test
+    public void testObjectArray() throws Exception {
+        List<AST> trees = compile();
+        Type objectArray = ArrayType.of(SimpleType.of(SymbolTable.getObjRef()));
+        int offset = HierarchyTableBuilder.getTypeOffSet(objectArray);
+        assertTrue("Object[] has no offset", offset >= 0);
+        assertSame(objectArray, CompilationContext.current().hierarchyTypes.get(offset));
+
+        String code = trees.get(0).root.types.get(0).getCode();
+        assertTrue(code.contains("add eax, " + offset * 4 + "\t ;get the pointer of type in subclass table"));
+    }
+
+    /**
+     * A, the standard library and the Object interface, through code
+     * generation.
+     */
+    private List<AST> compile() throws Exception {
+        File binary = new File(System.getProperty("user.dir") + "/data/grammar.bin");
+        ParseTable grammar = ParseTable.load(binary.exists() ? binary
+                : new File(System.getProperty("user.dir") + "/data/grammar.lr1"));
+        List<File> files = libFiles(new File(System.getProperty("user.dir") + "/java"));
+        files.add(new File(System.getProperty("user.dir") + "/data/ObjInterface.java"));
+        List<AST> trees = new ArrayList<AST>();
+        trees.add(parse(SOURCE, "A", grammar));
+        for (File file : files) {
+            String name = file.getName();
+            trees.add(parse(new String(Files.readAllBytes(file.toPath())), name.substring(0, name.indexOf('.')),
+                    grammar));
+        }
+
+        Joosc.checkPasses().run(trees);
+        OffSet.computeOffSet(trees);
+        UglyTableBuilder.build();
+        HierarchyTableBuilder.build(trees);
+        CodeGenerator.generate(trees);
+        return trees;
+    }
+
+    private static AST parse(String text, String typeName, ParseTable grammar) throws Exception {
+        ParseTree tree = new Parser(new Scanner(new StringReader(text)), grammar).parse();
+        new Weeder(tree, typeName).weed();
+        return new AST(tree);
+    }
+
+    private static List<File> libFiles(File dir) {
+        List<File> files = new ArrayList<File>();
+        for (File file : dir.listFiles()) {
+            if (file.isDirectory()) {
+                files.addAll(libFiles(file));
+            } else {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+}
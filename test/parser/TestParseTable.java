@@ -0,0 +1,87 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import jlalr.BinaryTableWriter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import scanner.Symbol;
+
+/**
+ * The binary table against the text table it was converted from, entry by
+ * entry.
+ *
+ * The binary table gives each state a default reduction and each
+ * non-terminal a default goto, so where the text table has no entry it may
+ * answer with those instead. A default reduction only delays the syntax
+ * error to the next shift, and the parser never asks for a goto the text
+ * table does not have.
+ */
+public class TestParseTable {
+    File text;
+    File binary;
+
+    @Before
+    public void setUp() {
+        text = new File(System.getProperty("user.dir") + "/data/grammar.lr1");
+        binary = new File(System.getProperty("user.dir") + "/data/grammar.bin");
+    }
+
+    @Test
+    public void testBinary() throws Exception {
+        assertSameTable(ParseTable.load(text), ParseTable.load(binary));
+    }
+
+    @Test
+    public void testConvert() throws Exception {
+        File converted = File.createTempFile("grammar", ".bin");
+        try {
+            BinaryTableWriter.convert(text, converted);
+            assertSameTable(ParseTable.load(text), ParseTable.load(converted));
+        } finally {
+            converted.delete();
+        }
+    }
+
+    private static void assertSameTable(ParseTable expected, ParseTable actual) {
+        assertEquals(expected.getNumStates(), actual.getNumStates());
+        List<List<Symbol>> rules = expected.getProductionRules();
+        assertEquals(rules, actual.getProductionRules());
+        for (int rule = 0; rule < rules.size(); rule++) {
+            assertEquals(expected.ruleLhs(rule), actual.ruleLhs(rule));
+            assertEquals(expected.ruleLength(rule), actual.ruleLength(rule));
+        }
+
+        Set<Symbol> nonTerminals = EnumSet.noneOf(Symbol.class);
+        for (List<Symbol> rule : rules) {
+            nonTerminals.add(rule.get(0));
+        }
+        for (int state = 0; state < expected.getNumStates(); state++) {
+            for (Symbol symbol : Symbol.values()) {
+                String entry = "state " + state + ", " + symbol;
+                if (nonTerminals.contains(symbol)) {
+                    int goTo = expected.goTo(state, symbol.ordinal());
+                    if (goTo >= 0) {
+                        assertEquals(entry, goTo, actual.goTo(state, symbol.ordinal()));
+                    }
+                } else {
+                    int action = expected.action(state, symbol.ordinal());
+                    int packed = actual.action(state, symbol.ordinal());
+                    if (action != 0) {
+                        assertEquals(entry, action, packed);
+                    } else {
+                        assertTrue(entry + " has " + packed + " for an error", packed == 0
+                                || ParseTable.isReduce(packed));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+   TestByteScanner.class,
    TestCombo.class,
    TestComments.class,
    TestIdentifier.class,
@@ -0,0 +1,128 @@
+package scannertest;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import scanner.ByteScanner;
+import scanner.Scanner;
+import scanner.Token;
+import scanner.TokenBuffer;
+import scanner.TokenSource;
+
+/**
+ * ByteScanner against Scanner over the test programs, the assignment test
+ * cases and the standard library: the same tokens, or the same exception
+ * after the same tokens. Scanner does not count lines, so the lines of
+ * ByteScanner are checked against the newlines before each token.
+ */
+public class TestByteScanner {
+
+    List<File> files;
+
+    @Before
+    public void setUp() {
+        files = new ArrayList<File>();
+        String dir = System.getProperty("user.dir");
+        for (String corpus : new String[] { "/test/testprogram", "/assignment_testcases", "/java" }) {
+            collect(new File(dir + corpus), files);
+        }
+        assertFalse(files.isEmpty());
+    }
+
+    @Test
+    public void testSameTokens() throws Exception {
+        for (File file : files) {
+            List<Token> expected = new ArrayList<Token>();
+            FileReader reader = new FileReader(file);
+            Exception expectedException;
+            try {
+                expectedException = scan(new Scanner(reader), expected);
+            } finally {
+                reader.close();
+            }
+            List<Token> actual = new ArrayList<Token>();
+            Exception actualException = scan(ByteScanner.open(file), actual);
+
+            assertEquals(file.getPath(), expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(file.getPath() + " token " + i, expected.get(i).getTokenType(),
+                        actual.get(i).getTokenType());
+                assertEquals(file.getPath() + " token " + i, expected.get(i).getLexeme(),
+                        actual.get(i).getLexeme());
+            }
+            assertEquals(file.getPath(), describe(expectedException), describe(actualException));
+        }
+    }
+
+    @Test
+    public void testScanAll() throws Exception {
+        for (File file : files) {
+            List<Token> expected = new ArrayList<Token>();
+            Exception expectedException = scan(ByteScanner.open(file), expected);
+            TokenBuffer tokens;
+            try {
+                tokens = ByteScanner.open(file).scanAll();
+            } catch (Exception e) {
+                assertEquals(file.getPath(), describe(expectedException), describe(e));
+                continue;
+            }
+            assertNull(file.getPath(), expectedException);
+
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            int line = 1;
+            int at = 0;
+            assertEquals(file.getPath(), expected.size(), tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                assertEquals(file.getPath() + " token " + i, expected.get(i).getTokenType(), tokens.kind(i));
+                assertEquals(file.getPath() + " token " + i, expected.get(i).getLexeme(), tokens.lexeme(i));
+                for (; at < tokens.start(i); at++) {
+                    if (bytes[at] == '\n') {
+                        line++;
+                    }
+                }
+                assertEquals(file.getPath() + " line of token " + i, line, tokens.line(i));
+            }
+        }
+    }
+
+    /**
+     * the tokens of scanner into tokens.
+     * @return the exception that stopped it, null if it reached the end.
+     */
+    private static Exception scan(TokenSource scanner, List<Token> tokens) {
+        try {
+            for (Token token = scanner.next(); token != null; token = scanner.next()) {
+                tokens.add(token);
+            }
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static String describe(Exception e) {
+        return e == null ? null : e.getClass().getName() + ": " + e.getMessage();
+    }
+
+    private static void collect(File dir, List<File> files) {
+        File[] entries = dir.listFiles();
+        if (entries == null) {
+            return;
+        }
+        for (File entry : entries) {
+            if (entry.isDirectory()) {
+                collect(entry, files);
+            } else if (entry.getName().endsWith(".java") || entry.getName().endsWith(".txt")) {
+                files.add(entry);
+            }
+        }
+    }
+}